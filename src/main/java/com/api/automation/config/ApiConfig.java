@@ -27,10 +27,102 @@ public class ApiConfig {
     public static final String DELETE_ENDPOINT = "/delete";
     public static final String STATUS_ENDPOINT = "/status";
     
+    // Stub server lokal (-Dapi.stub=true untuk menjalankan seluruh suite tanpa network)
+    public static final boolean USE_STUB_SERVER = Boolean.getBoolean("api.stub");
+    public static final int STUB_SERVER_PORT = Integer.getInteger("api.stub.port", 0);
+    // Latency tambahan per request pada stub bersama (milidetik) untuk meniru round trip ke host publik
+    public static final int STUB_LATENCY_MS = Integer.getInteger("api.stub.latencyMs", 0);
+    
+    // VCR record/replay (-Dapi.vcr.mode=record|replay|passthrough)
+    public static final String VCR_MODE = System.getProperty("api.vcr.mode", "passthrough");
+    public static final String VCR_CASSETTE = System.getProperty("api.vcr.cassette", "src/test/resources/cassettes/api");
+    
+    // Logging request/response (-Dapi.log.mode=buffered|always|off)
+    // buffered: disimpan di ring buffer per test dan hanya dicetak jika test gagal (atau tersampling)
+    public static final String LOG_MODE = System.getProperty("api.log.mode", "buffered");
+    public static final int LOG_BUFFER_ENTRIES = Integer.getInteger("api.log.bufferEntries", 20);
+    public static final int LOG_MAX_BODY_CHARS = Integer.getInteger("api.log.maxBodyChars", 4000);
+    public static final double LOG_SAMPLE_RATE = Double.parseDouble(System.getProperty("api.log.sampleRate", "0"));
+    
+    // Eksekusi paralel JUnit (-Dapi.parallel=true): jumlah worker thread untuk test class/method
+    public static final int PARALLEL_WORKERS = Integer.getInteger("api.parallel.workers", 4);
+    
+    // Test data (-Dapi.data.seed=<long> untuk mengulang data yang sama, kosong = seed acak)
+    public static final Long TEST_DATA_SEED = Long.getLong("api.data.seed");
+    public static final int TEST_DATA_POOL_SIZE = Integer.getInteger("api.data.poolSize", 500);
+    
+    // JSON mapping (-Dapi.json.handRolledCodecs=true untuk codec Post/User tanpa reflection)
+    public static final boolean JSON_HAND_ROLLED_CODECS = Boolean.getBoolean("api.json.handRolledCodecs");
+    // Deduplikasi String berulang saat deserialisasi: field @Canonical dan field tambahan (SimpleClassName.field,...)
+    // memakai pool berukuran tetap per field (-Dapi.json.canonicalStrings=true untuk mengaktifkan)
+    public static final boolean JSON_CANONICAL_STRINGS = Boolean.getBoolean("api.json.canonicalStrings");
+    public static final int JSON_CANONICAL_POOL_SIZE = Integer.getInteger("api.json.canonicalPoolSize", 4096);
+    public static final String JSON_CANONICAL_FIELDS = System.getProperty("api.json.canonicalFields", "");
+    
+    // Rate limit per host publik: request per detik (0 = tanpa batas) dan jumlah request bersamaan maksimal.
+    // Rate turun otomatis saat host menjawab 429 dan naik kembali perlahan selama request berhasil
+    public static final double JSONPLACEHOLDER_RATE_LIMIT = Double.parseDouble(System.getProperty("api.rate.jsonplaceholder", "50"));
+    public static final int JSONPLACEHOLDER_MAX_IN_FLIGHT = Integer.getInteger("api.inflight.jsonplaceholder", 10);
+    public static final double REQRES_RATE_LIMIT = Double.parseDouble(System.getProperty("api.rate.reqres", "20"));
+    public static final int REQRES_MAX_IN_FLIGHT = Integer.getInteger("api.inflight.reqres", 5);
+    public static final double HTTPBIN_RATE_LIMIT = Double.parseDouble(System.getProperty("api.rate.httpbin", "10"));
+    public static final int HTTPBIN_MAX_IN_FLIGHT = Integer.getInteger("api.inflight.httpbin", 5);
+    
+    // Metrics per endpoint (-Dapi.metrics=false untuk menonaktifkan), ringkasan JSON ditulis di akhir run
+    public static final boolean METRICS_ENABLED = Boolean.parseBoolean(System.getProperty("api.metrics", "true"));
+    public static final String METRICS_FILE = System.getProperty("api.metrics.file", "build/api-metrics.json");
+    
+    // Golden snapshot yang disetujui (-Dapi.snapshot.update=true untuk merekam/menyetujui response baru;
+    // run biasa hanya membaca direktori ini)
+    public static final String SNAPSHOT_DIR = System.getProperty("api.snapshot.dir", "src/test/resources/snapshots");
+    public static final String SNAPSHOT_MASKED_FIELDS = System.getProperty("api.snapshot.mask", "id,createdAt,updatedAt,token");
+    public static final boolean SNAPSHOT_UPDATE = Boolean.getBoolean("api.snapshot.update");
+    
+    // Cache response GET in-run: hanya untuk request yang memakai ResponseCache.cached() / getCachedRequestSpec()
+    // (-Dapi.cache=false untuk menonaktifkan), entry dibatasi jumlah, total byte dan TTL
+    public static final boolean CACHE_ENABLED = Boolean.parseBoolean(System.getProperty("api.cache", "true"));
+    public static final int CACHE_MAX_ENTRIES = Integer.getInteger("api.cache.maxEntries", 1000);
+    public static final long CACHE_MAX_BYTES = Long.getLong("api.cache.maxBytes", 64L * 1024 * 1024);
+    public static final long CACHE_TTL_SECONDS = Long.getLong("api.cache.ttlSeconds", 60);
+    
+    // Hedged request untuk GET/HEAD/OPTIONS (-Dapi.hedge=true): duplikat dikirim jika response belum diterima
+    // setelah latency percentile endpoint, dibatasi budget (rasio request tambahan terhadap total request)
+    public static final boolean HEDGE_ENABLED = Boolean.getBoolean("api.hedge");
+    public static final double HEDGE_PERCENTILE = Double.parseDouble(System.getProperty("api.hedge.percentile", "95"));
+    public static final double HEDGE_BUDGET = Double.parseDouble(System.getProperty("api.hedge.budget", "0.05"));
+    public static final int HEDGE_MIN_SAMPLES = Integer.getInteger("api.hedge.minSamples", 20);
+    public static final int HEDGE_MIN_DELAY_MS = Integer.getInteger("api.hedge.minDelayMs", 10);
+    
+    // Capture body response ke disk (ResponseCapture), satu folder per test
+    public static final String CAPTURE_DIR = System.getProperty("api.capture.dir", "build/captures");
+    
+    // Batch execution: jumlah stream HTTP/2 bersamaan dalam satu koneksi
+    // (HTTP/1.1 memakai api.pool.maxPerRoute koneksi keep-alive paralel)
+    public static final int BATCH_MAX_STREAMS = Integer.getInteger("api.batch.maxStreams", 100);
+    
     // Default timeouts (in seconds)
     public static final int DEFAULT_TIMEOUT = 30;
     public static final int CONNECTION_TIMEOUT = 10;
     
+    // Adaptive socket timeout per endpoint: clamp(p99.9 x factor, floor, ceiling) dari latency historis
+    // (-Dapi.timeout.adaptive=false untuk selalu memakai DEFAULT_TIMEOUT)
+    public static final boolean TIMEOUT_ADAPTIVE = Boolean.parseBoolean(System.getProperty("api.timeout.adaptive", "true"));
+    public static final double TIMEOUT_PERCENTILE = Double.parseDouble(System.getProperty("api.timeout.percentile", "99.9"));
+    public static final double TIMEOUT_FACTOR = Double.parseDouble(System.getProperty("api.timeout.factor", "3"));
+    public static final int TIMEOUT_FLOOR_MS = Integer.getInteger("api.timeout.floorMs", 1000);
+    public static final int TIMEOUT_CEILING_MS = Integer.getInteger("api.timeout.ceilingMs", DEFAULT_TIMEOUT * 1000);
+    public static final int TIMEOUT_MIN_SAMPLES = Integer.getInteger("api.timeout.minSamples", 20);
+    public static final int TIMEOUT_WINDOW = Integer.getInteger("api.timeout.window", 1000);
+    public static final String TIMEOUT_STATE_FILE = System.getProperty("api.timeout.stateFile", "build/api-timeouts.properties");
+    
+    // Connection pool (dapat di-override via system property, waktu dalam detik)
+    public static final int POOL_MAX_TOTAL = Integer.getInteger("api.pool.maxTotal", 50);
+    public static final int POOL_MAX_PER_ROUTE = Integer.getInteger("api.pool.maxPerRoute", 10);
+    public static final int POOL_KEEP_ALIVE = Integer.getInteger("api.pool.keepAlive", 30);
+    public static final int POOL_IDLE_TIMEOUT = Integer.getInteger("api.pool.idleTimeout", 60);
+    public static final int TLS_SESSION_CACHE_SIZE = Integer.getInteger("api.tls.sessionCacheSize", 100);
+    public static final int TLS_SESSION_TIMEOUT = Integer.getInteger("api.tls.sessionTimeout", 3600);
+    
     // HTTP Status Codes
     public static final int OK = 200;
     public static final int CREATED = 201;
@@ -0,0 +1,48 @@
+package com.api.automation.dataset;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Satu kolom fixed-width di dalam ByteBuffer heap atau direct (off-heap).
+ * Nilai disimpan sebagai primitive tanpa object per baris; off-heap membuat dataset besar
+ * tidak ikut di-scan oleh GC.
+ */
+final class ColumnBuffer {
+    
+    private final ByteBuffer buffer;
+    
+    private ColumnBuffer(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+    
+    /**
+     * @param rows Jumlah baris
+     * @param width Lebar satu nilai dalam byte (2, 4 atau 8)
+     * @param offHeap true untuk direct ByteBuffer
+     */
+    static ColumnBuffer allocate(int rows, int width, boolean offHeap) {
+        long bytes = (long) rows * width;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Kolom terlalu besar: " + rows + " baris x " + width + " byte");
+        }
+        ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect((int) bytes) : ByteBuffer.allocate((int) bytes);
+        return new ColumnBuffer(buffer.order(ByteOrder.nativeOrder()));
+    }
+    
+    int getCode(int row) { return buffer.getChar(row << 1); }
+    void putCode(int row, int code) { buffer.putChar(row << 1, (char) code); }
+    
+    short getShort(int row) { return buffer.getShort(row << 1); }
+    void putShort(int row, short value) { buffer.putShort(row << 1, value); }
+    
+    int getInt(int row) { return buffer.getInt(row << 2); }
+    void putInt(int row, int value) { buffer.putInt(row << 2, value); }
+    
+    long getLong(int row) { return buffer.getLong(row << 3); }
+    void putLong(int row, long value) { buffer.putLong(row << 3, value); }
+    
+    long memoryBytes() {
+        return buffer.capacity();
+    }
+}
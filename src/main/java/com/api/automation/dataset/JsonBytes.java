@@ -0,0 +1,79 @@
+package com.api.automation.dataset;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Buffer byte sederhana untuk menulis JSON dataset tanpa Jackson dan tanpa String sementara.
+ * Dapat dipakai ulang antar baris dengan reset().
+ */
+public final class JsonBytes {
+    
+    private byte[] bytes = new byte[512];
+    private int length;
+    
+    public JsonBytes reset() {
+        length = 0;
+        return this;
+    }
+    
+    public int length() { return length; }
+    
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+    
+    JsonBytes raw(byte[] value) {
+        ensure(value.length);
+        System.arraycopy(value, 0, bytes, length, value.length);
+        length += value.length;
+        return this;
+    }
+    
+    JsonBytes ascii(String value) {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            bytes[length++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+    
+    JsonBytes ch(char value) {
+        ensure(1);
+        bytes[length++] = (byte) value;
+        return this;
+    }
+    
+    JsonBytes number(long value) {
+        return ascii(Long.toString(value));
+    }
+    
+    /**
+     * Menulis angka desimal dengan skala tetap, contoh: -373159 dengan scale 4 menjadi -37.3159
+     */
+    JsonBytes decimal(int scaled, int scale) {
+        return ascii(decimalString(scaled, scale));
+    }
+    
+    static String decimalString(int scaled, int scale) {
+        StringBuilder digits = new StringBuilder(Integer.toString(Math.abs(scaled)));
+        while (digits.length() <= scale) {
+            digits.insert(0, '0');
+        }
+        digits.insert(digits.length() - scale, '.');
+        return scaled < 0 ? "-" + digits : digits.toString();
+    }
+    
+    /**
+     * Nama field JSON beserta titik dua dalam UTF-8, contoh: "id":
+     */
+    static byte[] fieldName(String name) {
+        return ("\"" + name + "\":").getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private void ensure(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.api.automation.dataset;
+
+import com.api.automation.models.Post;
+import com.github.javafaker.Faker;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Dataset Post sintetis berformat kolom (~10 byte per baris): id, userId, serta kode dictionary
+ * untuk title dan body yang diambil dari kosakata lorem berukuran tetap.
+ * Lihat UserDataset untuk pola materialisasi (View, toPost(), bytes JSON).
+ */
+public final class PostDataset {
+    
+    private static final int TITLES = 8_000;
+    private static final int BODIES = 8_000;
+    private static final int USERS = 10;
+    
+    private static final byte[] ID = JsonBytes.fieldName("id");
+    private static final byte[] USER_ID = JsonBytes.fieldName("userId");
+    private static final byte[] TITLE = JsonBytes.fieldName("title");
+    private static final byte[] BODY = JsonBytes.fieldName("body");
+    
+    private final int size;
+    private final StringDictionary titles = new StringDictionary();
+    private final StringDictionary bodies = new StringDictionary();
+    private final ColumnBuffer ids;
+    private final ColumnBuffer userIds;
+    private final ColumnBuffer titleCodes;
+    private final ColumnBuffer bodyCodes;
+    
+    private PostDataset(int size, boolean offHeap) {
+        this.size = size;
+        this.ids = ColumnBuffer.allocate(size, 4, offHeap);
+        this.userIds = ColumnBuffer.allocate(size, 2, offHeap);
+        this.titleCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.bodyCodes = ColumnBuffer.allocate(size, 2, offHeap);
+    }
+    
+    /**
+     * Membangkitkan dataset secara deterministik dari seed
+     * @param size Jumlah record
+     * @param seed Seed (seed sama menghasilkan dataset yang sama)
+     * @param offHeap true untuk menyimpan kolom di direct memory
+     * @return PostDataset baru dengan id 1..size
+     */
+    public static PostDataset generate(int size, long seed, boolean offHeap) {
+        PostDataset dataset = new PostDataset(size, offHeap);
+        Faker faker = new Faker(new Random(seed));
+        for (int i = 0; i < TITLES; i++) {
+            dataset.titles.encode(faker.lorem().sentence());
+        }
+        for (int i = 0; i < BODIES; i++) {
+            dataset.bodies.encode(faker.lorem().paragraph());
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int row = 0; row < size; row++) {
+            dataset.ids.putInt(row, row + 1);
+            dataset.userIds.putShort(row, (short) (random.nextInt(USERS) + 1));
+            dataset.titleCodes.putCode(row, random.nextInt(dataset.titles.size()));
+            dataset.bodyCodes.putCode(row, random.nextInt(dataset.bodies.size()));
+        }
+        return dataset;
+    }
+    
+    public int size() { return size; }
+    
+    /**
+     * Total memory dataset (kolom + dictionary)
+     * @return Ukuran dalam byte
+     */
+    public long memoryBytes() {
+        return ids.memoryBytes() + userIds.memoryBytes() + titleCodes.memoryBytes() + bodyCodes.memoryBytes()
+                + titles.memoryBytes() + bodies.memoryBytes();
+    }
+    
+    /**
+     * Membuat cursor flyweight
+     * @return View baru (tidak thread-safe, buat satu per thread)
+     */
+    public View view() {
+        return new View();
+    }
+    
+    /**
+     * Materialize satu baris menjadi model Post
+     * @param row Index baris 0..size-1
+     * @return Post baru
+     */
+    public Post toPost(int row) {
+        return view().at(row).toPost();
+    }
+    
+    /**
+     * Menulis satu baris sebagai JSON dengan urutan field yang sama seperti ModelMapper/ModelCodecs
+     * @param row Index baris
+     * @param out Buffer tujuan
+     */
+    public void writeJson(int row, JsonBytes out) {
+        checkRow(row);
+        out.ch('{');
+        out.raw(ID).number(ids.getInt(row)).ch(',');
+        out.raw(USER_ID).number(userIds.getShort(row)).ch(',');
+        out.raw(TITLE).ch('"').raw(titles.jsonBytes(titleCodes.getCode(row))).ch('"').ch(',');
+        out.raw(BODY).ch('"').raw(bodies.jsonBytes(bodyCodes.getCode(row))).ch('"');
+        out.ch('}');
+    }
+    
+    /**
+     * Materialize satu baris sebagai bytes JSON
+     * @param row Index baris
+     * @return Body JSON dalam UTF-8
+     */
+    public byte[] toJsonBytes(int row) {
+        JsonBytes out = new JsonBytes();
+        writeJson(row, out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Supplier body JSON untuk LoadRequest.post/put; berputar dari baris 0 sampai akhir dataset
+     * @return Supplier thread-safe yang menghasilkan bytes JSON per panggilan
+     */
+    public Supplier<byte[]> jsonBodies() {
+        AtomicLong cursor = new AtomicLong();
+        ThreadLocal<JsonBytes> buffers = ThreadLocal.withInitial(JsonBytes::new);
+        return () -> {
+            int row = (int) (cursor.getAndIncrement() % size);
+            JsonBytes out = buffers.get().reset();
+            writeJson(row, out);
+            return out.toByteArray();
+        };
+    }
+    
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Baris " + row + " di luar dataset berukuran " + size);
+        }
+    }
+    
+    /**
+     * Cursor flyweight ke satu baris dataset
+     */
+    public final class View {
+        private int row = -1;
+        
+        private View() {}
+        
+        public View at(int row) {
+            checkRow(row);
+            this.row = row;
+            return this;
+        }
+        
+        public int getRow() { return row; }
+        public int getId() { return ids.getInt(row); }
+        public int getUserId() { return userIds.getShort(row); }
+        public String getTitle() { return titles.get(titleCodes.getCode(row)); }
+        public String getBody() { return bodies.get(bodyCodes.getCode(row)); }
+        
+        /**
+         * Materialize baris saat ini menjadi Post
+         * @return Post baru
+         */
+        public Post toPost() {
+            Post post = new Post(getUserId(), getTitle(), getBody());
+            post.setId(getId());
+            return post;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.api.automation.dataset;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Dictionary string untuk kolom dataset: setiap nilai unik disimpan sekali dan baris hanya
+ * menyimpan kode 16-bit. Selain String, setiap entry menyimpan bentuk UTF-8 yang sudah
+ * di-escape JSON (dan versi huruf kecilnya) sehingga JSON bisa ditulis tanpa encoding ulang.
+ */
+public final class StringDictionary {
+    
+    /** Kode maksimum yang muat di kolom 16-bit */
+    public static final int MAX_SIZE = 0xFFFF;
+    
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private final List<byte[]> jsonBytes = new ArrayList<>();
+    private final List<byte[]> lowerCaseJsonBytes = new ArrayList<>();
+    
+    /**
+     * Mendapatkan kode untuk nilai, menambahkannya ke dictionary jika belum ada
+     * @param value Nilai string (tidak boleh null)
+     * @return Kode 0..MAX_SIZE-1
+     */
+    public synchronized int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        if (values.size() >= MAX_SIZE) {
+            throw new IllegalStateException("Dictionary penuh (" + MAX_SIZE + " nilai unik); kolom ini tidak cocok untuk dictionary encoding");
+        }
+        int newCode = values.size();
+        codes.put(value, newCode);
+        values.add(value);
+        jsonBytes.add(escape(value));
+        lowerCaseJsonBytes.add(escape(value.toLowerCase(Locale.ROOT)));
+        return newCode;
+    }
+    
+    public String get(int code) {
+        return values.get(code);
+    }
+    
+    /**
+     * @return Bytes UTF-8 yang sudah di-escape JSON (tanpa tanda kutip)
+     */
+    byte[] jsonBytes(int code) {
+        return jsonBytes.get(code);
+    }
+    
+    /**
+     * @return Bytes UTF-8 huruf kecil yang sudah di-escape JSON (tanpa tanda kutip)
+     */
+    byte[] lowerCaseJsonBytes(int code) {
+        return lowerCaseJsonBytes.get(code);
+    }
+    
+    public int size() {
+        return values.size();
+    }
+    
+    /**
+     * Perkiraan memory yang dipakai dictionary
+     * @return Ukuran dalam byte
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (int i = 0; i < values.size(); i++) {
+            // String (header + char data) + dua array bytes + entry HashMap
+            bytes += 40 + values.get(i).length() * 2L + jsonBytes.get(i).length + lowerCaseJsonBytes.get(i).length + 32 + 48;
+        }
+        return bytes;
+    }
+    
+    private static byte[] escape(String value) {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(value);
+    }
+}
@@ -0,0 +1,327 @@
+package com.api.automation.dataset;
+
+import com.api.automation.models.User;
+import com.github.javafaker.Faker;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Dataset User sintetis berformat kolom untuk load/soak test berukuran jutaan record.
+ *
+ * Setiap baris hanya berisi primitive (~42 byte): id, kode dictionary 16-bit untuk nama depan,
+ * nama belakang, domain, street, city dan company, serta angka untuk phone, suite, zipcode dan geo.
+ * name, username, email dan website diturunkan dari kolom tersebut dengan aturan yang sama seperti
+ * TestDataGenerator, ditambah id sebagai suffix username (first.last&lt;id&gt;) karena kombinasi nama depan
+ * dan belakang berulang pada dataset besar; username dan email unik per baris. Record di-materialize saat dibutuhkan lewat View (flyweight), toUser(),
+ * atau langsung sebagai bytes JSON.
+ */
+public final class UserDataset {
+    
+    private static final int FIRST_NAMES = 2_000;
+    private static final int LAST_NAMES = 2_000;
+    private static final int DOMAINS = 500;
+    private static final int STREETS = 4_000;
+    private static final int CITIES = 1_000;
+    private static final int COMPANIES = 2_000;
+    private static final int CATCH_PHRASES = 4_000;
+    private static final int BS_PHRASES = 4_000;
+    
+    private static final byte[] ID = JsonBytes.fieldName("id");
+    private static final byte[] NAME = JsonBytes.fieldName("name");
+    private static final byte[] USERNAME = JsonBytes.fieldName("username");
+    private static final byte[] EMAIL = JsonBytes.fieldName("email");
+    private static final byte[] PHONE = JsonBytes.fieldName("phone");
+    private static final byte[] WEBSITE = JsonBytes.fieldName("website");
+    private static final byte[] ADDRESS = JsonBytes.fieldName("address");
+    private static final byte[] STREET = JsonBytes.fieldName("street");
+    private static final byte[] SUITE = JsonBytes.fieldName("suite");
+    private static final byte[] CITY = JsonBytes.fieldName("city");
+    private static final byte[] ZIPCODE = JsonBytes.fieldName("zipcode");
+    private static final byte[] GEO = JsonBytes.fieldName("geo");
+    private static final byte[] LAT = JsonBytes.fieldName("lat");
+    private static final byte[] LNG = JsonBytes.fieldName("lng");
+    private static final byte[] COMPANY = JsonBytes.fieldName("company");
+    private static final byte[] CATCH_PHRASE = JsonBytes.fieldName("catchPhrase");
+    private static final byte[] BS = JsonBytes.fieldName("bs");
+    
+    private final int size;
+    private final boolean offHeap;
+    
+    private final StringDictionary firstNames = new StringDictionary();
+    private final StringDictionary lastNames = new StringDictionary();
+    private final StringDictionary domains = new StringDictionary();
+    private final StringDictionary streets = new StringDictionary();
+    private final StringDictionary cities = new StringDictionary();
+    private final StringDictionary companyNames = new StringDictionary();
+    private final StringDictionary catchPhrases = new StringDictionary();
+    private final StringDictionary bsPhrases = new StringDictionary();
+    
+    private final ColumnBuffer ids;
+    private final ColumnBuffer firstNameCodes;
+    private final ColumnBuffer lastNameCodes;
+    private final ColumnBuffer domainCodes;
+    private final ColumnBuffer streetCodes;
+    private final ColumnBuffer cityCodes;
+    private final ColumnBuffer companyCodes;
+    private final ColumnBuffer catchPhraseCodes;
+    private final ColumnBuffer bsCodes;
+    private final ColumnBuffer phones;
+    private final ColumnBuffer suites;
+    private final ColumnBuffer zipcodes;
+    private final ColumnBuffer latitudes;
+    private final ColumnBuffer longitudes;
+    
+    private UserDataset(int size, boolean offHeap) {
+        this.size = size;
+        this.offHeap = offHeap;
+        this.ids = ColumnBuffer.allocate(size, 4, offHeap);
+        this.firstNameCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.lastNameCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.domainCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.streetCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.cityCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.companyCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.catchPhraseCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.bsCodes = ColumnBuffer.allocate(size, 2, offHeap);
+        this.phones = ColumnBuffer.allocate(size, 8, offHeap);
+        this.suites = ColumnBuffer.allocate(size, 2, offHeap);
+        this.zipcodes = ColumnBuffer.allocate(size, 4, offHeap);
+        this.latitudes = ColumnBuffer.allocate(size, 4, offHeap);
+        this.longitudes = ColumnBuffer.allocate(size, 4, offHeap);
+    }
+    
+    /**
+     * Membangkitkan dataset secara deterministik dari seed
+     * @param size Jumlah record
+     * @param seed Seed (seed sama menghasilkan dataset yang sama)
+     * @param offHeap true untuk menyimpan kolom di direct memory
+     * @return UserDataset baru dengan id 1..size
+     */
+    public static UserDataset generate(int size, long seed, boolean offHeap) {
+        UserDataset dataset = new UserDataset(size, offHeap);
+        Faker faker = new Faker(new Random(seed));
+        vocabulary(dataset.firstNames, FIRST_NAMES, () -> faker.name().firstName());
+        vocabulary(dataset.lastNames, LAST_NAMES, () -> faker.name().lastName());
+        vocabulary(dataset.domains, DOMAINS, () -> faker.internet().domainName());
+        vocabulary(dataset.streets, STREETS, () -> faker.address().streetName());
+        vocabulary(dataset.cities, CITIES, () -> faker.address().city());
+        vocabulary(dataset.companyNames, COMPANIES, () -> faker.company().name());
+        vocabulary(dataset.catchPhrases, CATCH_PHRASES, () -> faker.company().catchPhrase());
+        vocabulary(dataset.bsPhrases, BS_PHRASES, () -> faker.company().bs());
+        
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int row = 0; row < size; row++) {
+            dataset.ids.putInt(row, row + 1);
+            dataset.firstNameCodes.putCode(row, random.nextInt(dataset.firstNames.size()));
+            dataset.lastNameCodes.putCode(row, random.nextInt(dataset.lastNames.size()));
+            dataset.domainCodes.putCode(row, random.nextInt(dataset.domains.size()));
+            dataset.streetCodes.putCode(row, random.nextInt(dataset.streets.size()));
+            dataset.cityCodes.putCode(row, random.nextInt(dataset.cities.size()));
+            dataset.companyCodes.putCode(row, random.nextInt(dataset.companyNames.size()));
+            dataset.catchPhraseCodes.putCode(row, random.nextInt(dataset.catchPhrases.size()));
+            dataset.bsCodes.putCode(row, random.nextInt(dataset.bsPhrases.size()));
+            dataset.phones.putLong(row, 2_000_000_000L + random.nextLong(7_999_999_999L));
+            dataset.suites.putShort(row, (short) random.nextInt(100, 1000));
+            dataset.zipcodes.putInt(row, random.nextInt(100_000_000, 1_000_000_000));
+            dataset.latitudes.putInt(row, random.nextInt(-900_000, 900_001));
+            dataset.longitudes.putInt(row, random.nextInt(-1_800_000, 1_800_001));
+        }
+        return dataset;
+    }
+    
+    public int size() { return size; }
+    public boolean isOffHeap() { return offHeap; }
+    
+    /**
+     * Total memory dataset (kolom + dictionary)
+     * @return Ukuran dalam byte
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (ColumnBuffer column : new ColumnBuffer[] {ids, firstNameCodes, lastNameCodes, domainCodes, streetCodes,
+                cityCodes, companyCodes, catchPhraseCodes, bsCodes, phones, suites, zipcodes, latitudes, longitudes}) {
+            bytes += column.memoryBytes();
+        }
+        for (StringDictionary dictionary : new StringDictionary[] {firstNames, lastNames, domains, streets, cities,
+                companyNames, catchPhrases, bsPhrases}) {
+            bytes += dictionary.memoryBytes();
+        }
+        return bytes;
+    }
+    
+    /**
+     * Membuat cursor flyweight; satu View bisa dipindah ke baris mana saja tanpa alokasi
+     * @return View baru (tidak thread-safe, buat satu per thread)
+     */
+    public View view() {
+        return new View();
+    }
+    
+    /**
+     * Materialize satu baris menjadi model User lengkap (Address, Geo, Company)
+     * @param row Index baris 0..size-1
+     * @return User baru
+     */
+    public User toUser(int row) {
+        return view().at(row).toUser();
+    }
+    
+    /**
+     * Menulis satu baris sebagai JSON dengan urutan field yang sama seperti ModelMapper/ModelCodecs
+     * @param row Index baris
+     * @param out Buffer tujuan (dipakai ulang antar baris)
+     */
+    public void writeJson(int row, JsonBytes out) {
+        checkRow(row);
+        out.ch('{');
+        out.raw(ID).number(ids.getInt(row)).ch(',');
+        out.raw(NAME).ch('"').raw(firstNames.jsonBytes(firstNameCodes.getCode(row))).ch(' ')
+                .raw(lastNames.jsonBytes(lastNameCodes.getCode(row))).ch('"').ch(',');
+        out.raw(USERNAME).ch('"');
+        writeUsername(row, out);
+        out.ch('"').ch(',');
+        out.raw(EMAIL).ch('"');
+        writeUsername(row, out);
+        out.ch('@').raw(domains.jsonBytes(domainCodes.getCode(row))).ch('"').ch(',');
+        out.raw(PHONE).ch('"').ascii(formatPhone(phones.getLong(row))).ch('"').ch(',');
+        out.raw(WEBSITE).ch('"').raw(domains.jsonBytes(domainCodes.getCode(row))).ch('"').ch(',');
+        out.raw(ADDRESS).ch('{');
+        out.raw(STREET).ch('"').raw(streets.jsonBytes(streetCodes.getCode(row))).ch('"').ch(',');
+        out.raw(SUITE).ch('"').ascii("Apt. ").number(suites.getShort(row)).ch('"').ch(',');
+        out.raw(CITY).ch('"').raw(cities.jsonBytes(cityCodes.getCode(row))).ch('"').ch(',');
+        out.raw(ZIPCODE).ch('"').ascii(formatZipcode(zipcodes.getInt(row))).ch('"').ch(',');
+        out.raw(GEO).ch('{');
+        out.raw(LAT).ch('"').decimal(latitudes.getInt(row), 4).ch('"').ch(',');
+        out.raw(LNG).ch('"').decimal(longitudes.getInt(row), 4).ch('"');
+        out.ch('}').ch('}').ch(',');
+        out.raw(COMPANY).ch('{');
+        out.raw(NAME).ch('"').raw(companyNames.jsonBytes(companyCodes.getCode(row))).ch('"').ch(',');
+        out.raw(CATCH_PHRASE).ch('"').raw(catchPhrases.jsonBytes(catchPhraseCodes.getCode(row))).ch('"').ch(',');
+        out.raw(BS).ch('"').raw(bsPhrases.jsonBytes(bsCodes.getCode(row))).ch('"');
+        out.ch('}').ch('}');
+    }
+    
+    /**
+     * Materialize satu baris sebagai bytes JSON
+     * @param row Index baris
+     * @return Body JSON dalam UTF-8
+     */
+    public byte[] toJsonBytes(int row) {
+        JsonBytes out = new JsonBytes();
+        writeJson(row, out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Supplier body JSON untuk LoadRequest.post/put; berputar dari baris 0 sampai akhir dataset
+     * @return Supplier thread-safe yang menghasilkan bytes JSON per panggilan
+     */
+    public Supplier<byte[]> jsonBodies() {
+        AtomicLong cursor = new AtomicLong();
+        ThreadLocal<JsonBytes> buffers = ThreadLocal.withInitial(JsonBytes::new);
+        return () -> {
+            int row = (int) (cursor.getAndIncrement() % size);
+            JsonBytes out = buffers.get().reset();
+            writeJson(row, out);
+            return out.toByteArray();
+        };
+    }
+    
+    private void writeUsername(int row, JsonBytes out) {
+        out.raw(firstNames.lowerCaseJsonBytes(firstNameCodes.getCode(row))).ch('.')
+                .raw(lastNames.lowerCaseJsonBytes(lastNameCodes.getCode(row))).number(ids.getInt(row));
+    }
+    
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Baris " + row + " di luar dataset berukuran " + size);
+        }
+    }
+    
+    /**
+     * Mengisi dictionary dengan nilai dari Faker; duplikat otomatis digabung
+     */
+    private static void vocabulary(StringDictionary dictionary, int draws, Supplier<String> values) {
+        for (int i = 0; i < draws; i++) {
+            dictionary.encode(values.get());
+        }
+    }
+    
+    private static String formatPhone(long digits) {
+        String text = Long.toString(digits);
+        return text.substring(0, 3) + "-" + text.substring(3, 6) + "-" + text.substring(6);
+    }
+    
+    private static String formatZipcode(int digits) {
+        String text = Integer.toString(digits);
+        return text.substring(0, 5) + "-" + text.substring(5);
+    }
+    
+    /**
+     * Cursor flyweight ke satu baris dataset. Getter membaca kolom langsung; String untuk field
+     * dictionary diambil dari dictionary (tanpa alokasi), field turunan dibuat saat dipanggil.
+     */
+    public final class View {
+        private int row = -1;
+        
+        private View() {}
+        
+        public View at(int row) {
+            checkRow(row);
+            this.row = row;
+            return this;
+        }
+        
+        public int getRow() { return row; }
+        public int getId() { return ids.getInt(row); }
+        public String getFirstName() { return firstNames.get(firstNameCodes.getCode(row)); }
+        public String getLastName() { return lastNames.get(lastNameCodes.getCode(row)); }
+        public String getName() { return getFirstName() + " " + getLastName(); }
+        public String getUsername() { return getFirstName().toLowerCase(Locale.ROOT) + "." + getLastName().toLowerCase(Locale.ROOT) + getId(); }
+        public String getEmail() { return getUsername() + "@" + getWebsite(); }
+        public String getPhone() { return formatPhone(phones.getLong(row)); }
+        public String getWebsite() { return domains.get(domainCodes.getCode(row)); }
+        public String getStreet() { return streets.get(streetCodes.getCode(row)); }
+        public String getSuite() { return "Apt. " + suites.getShort(row); }
+        public String getCity() { return cities.get(cityCodes.getCode(row)); }
+        public String getZipcode() { return formatZipcode(zipcodes.getInt(row)); }
+        public String getLat() { return JsonBytes.decimalString(latitudes.getInt(row), 4); }
+        public String getLng() { return JsonBytes.decimalString(longitudes.getInt(row), 4); }
+        public String getCompanyName() { return companyNames.get(companyCodes.getCode(row)); }
+        public String getCatchPhrase() { return catchPhrases.get(catchPhraseCodes.getCode(row)); }
+        public String getBs() { return bsPhrases.get(bsCodes.getCode(row)); }
+        
+        /**
+         * Materialize baris saat ini menjadi User lengkap
+         * @return User baru
+         */
+        public User toUser() {
+            User user = new User(getName(), getUsername(), getEmail());
+            user.setId(getId());
+            user.setPhone(getPhone());
+            user.setWebsite(getWebsite());
+            
+            User.Geo geo = new User.Geo();
+            geo.setLat(getLat());
+            geo.setLng(getLng());
+            User.Address address = new User.Address();
+            address.setStreet(getStreet());
+            address.setSuite(getSuite());
+            address.setCity(getCity());
+            address.setZipcode(getZipcode());
+            address.setGeo(geo);
+            user.setAddress(address);
+            
+            User.Company company = new User.Company();
+            company.setName(getCompanyName());
+            company.setCatchPhrase(getCatchPhrase());
+            company.setBs(getBs());
+            user.setCompany(company);
+            return user;
+        }
+    }
+}
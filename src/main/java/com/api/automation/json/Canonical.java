@@ -0,0 +1,17 @@
+package com.api.automation.json;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Menandai field String model yang nilainya sering berulang antar record (contoh: city, company name).
+ * Saat deserialisasi, nilai field ini diambil dari StringPool milik field sehingga record dengan nilai
+ * yang sama memakai satu instance String. Field lain bisa ditambahkan tanpa anotasi lewat
+ * -Dapi.json.canonicalFields=Geo.lat,Geo.lng (nama class sederhana + nama field).
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Canonical {
+}
@@ -0,0 +1,236 @@
+package com.api.automation.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec JSON yang ditulis manual untuk satu model, tanpa reflection maupun introspeksi anotasi.
+ * Field dibaca/ditulis langsung lewat JsonParser/JsonGenerator dengan urutan dan nama
+ * yang sama seperti binding Jackson pada model (null tetap ditulis). Field tidak dikenal membuat pembacaan gagal
+ * seperti mapper bersama, kecuali saat dipasang di mapper/reader yang menonaktifkan FAIL_ON_UNKNOWN_PROPERTIES.
+ */
+public abstract class ModelCodec<T> {
+    
+    private final Class<T> type;
+    
+    protected ModelCodec(Class<T> type) {
+        this.type = type;
+    }
+    
+    public Class<T> getType() { return type; }
+    
+    /**
+     * Membaca satu object; parser berada di START_OBJECT atau FIELD_NAME pertama
+     * @param parser Parser JSON
+     * @return Model hasil baca
+     */
+    public abstract T read(JsonParser parser) throws IOException;
+    
+    /**
+     * Menulis satu object (non-null) sebagai JSON object
+     * @param generator Generator JSON
+     * @param value Model yang ditulis
+     */
+    public abstract void write(JsonGenerator generator, T value) throws IOException;
+    
+    /**
+     * Membaca JSON object dari byte array
+     * @param json Body JSON
+     * @return Model hasil baca, atau null jika JSON bernilai null
+     */
+    public T read(byte[] json) {
+        try (JsonParser parser = ModelMapper.get().getFactory().createParser(json)) {
+            return parser.nextToken() == JsonToken.VALUE_NULL ? null : read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON tidak dapat dibaca sebagai " + type.getSimpleName(), e);
+        }
+    }
+    
+    /**
+     * Membaca JSON array dari byte array
+     * @param json Body JSON array
+     * @return List model
+     */
+    public List<T> readList(byte[] json) {
+        try (JsonParser parser = ModelMapper.get().getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("JSON array diharapkan, ditemukan " + parser.currentToken());
+            }
+            List<T> values = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                values.add(token == JsonToken.VALUE_NULL ? null : read(parser));
+            }
+            return values;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON tidak dapat dibaca sebagai list " + type.getSimpleName(), e);
+        }
+    }
+    
+    /**
+     * Menulis model sebagai JSON
+     * @param value Model yang ditulis
+     * @return Body JSON dalam UTF-8
+     */
+    public byte[] write(T value) {
+        ByteArrayBuilder out = new ByteArrayBuilder();
+        try (JsonGenerator generator = ModelMapper.get().getFactory().createGenerator(out)) {
+            writeNullable(generator, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Model tidak dapat ditulis sebagai JSON: " + value, e);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * Menulis list model sebagai JSON array
+     * @param values List model
+     * @return Body JSON array dalam UTF-8
+     */
+    public byte[] writeList(List<T> values) {
+        ByteArrayBuilder out = new ByteArrayBuilder();
+        try (JsonGenerator generator = ModelMapper.get().getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            for (T value : values) {
+                writeNullable(generator, value);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("List " + type.getSimpleName() + " tidak dapat ditulis sebagai JSON", e);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * Membaca nilai model yang boleh null; parser berada di token nilai
+     */
+    T readNullable(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : read(parser);
+    }
+    
+    /**
+     * Menulis nilai model yang boleh null
+     */
+    void writeNullable(JsonGenerator generator, T value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            write(generator, value);
+        }
+    }
+    
+    /**
+     * Parser yang field tidak dikenalnya dilewati (dipakai saat FAIL_ON_UNKNOWN_PROPERTIES nonaktif)
+     */
+    static JsonParser lenient(JsonParser parser) {
+        return parser instanceof LenientParser ? parser : new LenientParser(parser);
+    }
+    
+    // ===== Helper untuk implementasi codec =====
+    
+    /**
+     * Menangani field yang tidak dikenal model; parser berada di token nilai field tersebut
+     */
+    protected void unknownField(JsonParser parser, String field) throws IOException {
+        if (!(parser instanceof LenientParser)) {
+            throw UnrecognizedPropertyException.from(parser, type, field, null);
+        }
+        parser.skipChildren();
+    }
+    
+    /**
+     * Nama field pertama dari object; mendukung parser di START_OBJECT maupun FIELD_NAME
+     */
+    protected static String firstField(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            return parser.nextFieldName();
+        }
+        if (parser.currentToken() == JsonToken.FIELD_NAME) {
+            return parser.currentName();
+        }
+        if (parser.currentToken() == JsonToken.END_OBJECT) {
+            return null;
+        }
+        throw new IOException("JSON object diharapkan, ditemukan " + parser.currentToken());
+    }
+    
+    /**
+     * Membaca nilai Integer; string numerik (contoh: id dari ReqRes) ikut dikonversi
+     */
+    protected static Integer readInteger(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_NUMBER_INT:
+                return parser.getIntValue();
+            case VALUE_STRING:
+                String text = parser.getText().trim();
+                try {
+                    return text.isEmpty() ? null : Integer.valueOf(text);
+                } catch (NumberFormatException e) {
+                    throw new IOException("Nilai '" + text + "' bukan Integer", e);
+                }
+            default:
+                throw new IOException("Integer diharapkan, ditemukan " + parser.currentToken());
+        }
+    }
+    
+    /**
+     * Membaca nilai String; scalar lain dikonversi ke teks
+     */
+    protected static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        throw new IOException("String diharapkan, ditemukan " + token);
+    }
+    
+    /**
+     * Membaca nilai String lewat pool kanonik; pool null berarti field tidak dideduplikasi
+     */
+    protected static String readString(JsonParser parser, StringPool pool) throws IOException {
+        if (pool == null) {
+            return readString(parser);
+        }
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            return pool.canonicalize(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return pool.canonicalize(readString(parser));
+    }
+    
+    protected static void writeInteger(JsonGenerator generator, String name, Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+    
+    protected static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        generator.writeFieldName(name);
+        generator.writeString(value);
+    }
+    
+    /**
+     * Penanda parser lenient; nested codec membaca lewat parser yang sama sehingga ikut lenient
+     */
+    private static final class LenientParser extends JsonParserDelegate {
+        LenientParser(JsonParser parser) {
+            super(parser);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.api.automation.json;
+
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Codec manual untuk model Post dan User (beserta Address, Geo, Company).
+ * Dipakai langsung (ModelCodecs.POST.read(bytes)) atau dipasang ke ObjectMapper lewat module()
+ * sehingga REST Assured juga memakai jalur tanpa reflection.
+ * Field @Canonical dibaca lewat pool bersama StringCanonicalizer.
+ */
+public class ModelCodecs {
+    
+    private static final StringPool WEBSITE = StringCanonicalizer.sharedPool(User.class, "website");
+    private static final StringPool STREET = StringCanonicalizer.sharedPool(User.Address.class, "street");
+    private static final StringPool SUITE = StringCanonicalizer.sharedPool(User.Address.class, "suite");
+    private static final StringPool CITY = StringCanonicalizer.sharedPool(User.Address.class, "city");
+    private static final StringPool ZIPCODE = StringCanonicalizer.sharedPool(User.Address.class, "zipcode");
+    private static final StringPool LAT = StringCanonicalizer.sharedPool(User.Geo.class, "lat");
+    private static final StringPool LNG = StringCanonicalizer.sharedPool(User.Geo.class, "lng");
+    private static final StringPool COMPANY_NAME = StringCanonicalizer.sharedPool(User.Company.class, "name");
+    private static final StringPool CATCH_PHRASE = StringCanonicalizer.sharedPool(User.Company.class, "catchPhrase");
+    private static final StringPool BS = StringCanonicalizer.sharedPool(User.Company.class, "bs");
+    
+    public static final ModelCodec<Post> POST = new ModelCodec<Post>(Post.class) {
+        @Override
+        public Post read(JsonParser parser) throws IOException {
+            Post post = new Post();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "id": post.setId(readInteger(parser)); break;
+                    case "userId": post.setUserId(readInteger(parser)); break;
+                    case "title": post.setTitle(readString(parser)); break;
+                    case "body": post.setBody(readString(parser)); break;
+                    default: unknownField(parser, field);
+                }
+            }
+            return post;
+        }
+        
+        @Override
+        public void write(JsonGenerator generator, Post post) throws IOException {
+            generator.writeStartObject();
+            writeInteger(generator, "id", post.getId());
+            writeInteger(generator, "userId", post.getUserId());
+            writeString(generator, "title", post.getTitle());
+            writeString(generator, "body", post.getBody());
+            generator.writeEndObject();
+        }
+    };
+    
+    public static final ModelCodec<User.Geo> GEO = new ModelCodec<User.Geo>(User.Geo.class) {
+        @Override
+        public User.Geo read(JsonParser parser) throws IOException {
+            User.Geo geo = new User.Geo();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "lat": geo.setLat(readString(parser, LAT)); break;
+                    case "lng": geo.setLng(readString(parser, LNG)); break;
+                    default: unknownField(parser, field);
+                }
+            }
+            return geo;
+        }
+        
+        @Override
+        public void write(JsonGenerator generator, User.Geo geo) throws IOException {
+            generator.writeStartObject();
+            writeString(generator, "lat", geo.getLat());
+            writeString(generator, "lng", geo.getLng());
+            generator.writeEndObject();
+        }
+    };
+    
+    public static final ModelCodec<User.Address> ADDRESS = new ModelCodec<User.Address>(User.Address.class) {
+        @Override
+        public User.Address read(JsonParser parser) throws IOException {
+            User.Address address = new User.Address();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "street": address.setStreet(readString(parser, STREET)); break;
+                    case "suite": address.setSuite(readString(parser, SUITE)); break;
+                    case "city": address.setCity(readString(parser, CITY)); break;
+                    case "zipcode": address.setZipcode(readString(parser, ZIPCODE)); break;
+                    case "geo": address.setGeo(GEO.readNullable(parser)); break;
+                    default: unknownField(parser, field);
+                }
+            }
+            return address;
+        }
+        
+        @Override
+        public void write(JsonGenerator generator, User.Address address) throws IOException {
+            generator.writeStartObject();
+            writeString(generator, "street", address.getStreet());
+            writeString(generator, "suite", address.getSuite());
+            writeString(generator, "city", address.getCity());
+            writeString(generator, "zipcode", address.getZipcode());
+            generator.writeFieldName("geo");
+            GEO.writeNullable(generator, address.getGeo());
+            generator.writeEndObject();
+        }
+    };
+    
+    public static final ModelCodec<User.Company> COMPANY = new ModelCodec<User.Company>(User.Company.class) {
+        @Override
+        public User.Company read(JsonParser parser) throws IOException {
+            User.Company company = new User.Company();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "name": company.setName(readString(parser, COMPANY_NAME)); break;
+                    case "catchPhrase": company.setCatchPhrase(readString(parser, CATCH_PHRASE)); break;
+                    case "bs": company.setBs(readString(parser, BS)); break;
+                    default: unknownField(parser, field);
+                }
+            }
+            return company;
+        }
+        
+        @Override
+        public void write(JsonGenerator generator, User.Company company) throws IOException {
+            generator.writeStartObject();
+            writeString(generator, "name", company.getName());
+            writeString(generator, "catchPhrase", company.getCatchPhrase());
+            writeString(generator, "bs", company.getBs());
+            generator.writeEndObject();
+        }
+    };
+    
+    public static final ModelCodec<User> USER = new ModelCodec<User>(User.class) {
+        @Override
+        public User read(JsonParser parser) throws IOException {
+            User user = new User();
+            for (String field = firstField(parser); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "id": user.setId(readInteger(parser)); break;
+                    case "name": user.setName(readString(parser)); break;
+                    case "username": user.setUsername(readString(parser)); break;
+                    case "email": user.setEmail(readString(parser)); break;
+                    case "phone": user.setPhone(readString(parser)); break;
+                    case "website": user.setWebsite(readString(parser, WEBSITE)); break;
+                    case "address": user.setAddress(ADDRESS.readNullable(parser)); break;
+                    case "company": user.setCompany(COMPANY.readNullable(parser)); break;
+                    default: unknownField(parser, field);
+                }
+            }
+            return user;
+        }
+        
+        @Override
+        public void write(JsonGenerator generator, User user) throws IOException {
+            generator.writeStartObject();
+            writeInteger(generator, "id", user.getId());
+            writeString(generator, "name", user.getName());
+            writeString(generator, "username", user.getUsername());
+            writeString(generator, "email", user.getEmail());
+            writeString(generator, "phone", user.getPhone());
+            writeString(generator, "website", user.getWebsite());
+            generator.writeFieldName("address");
+            ADDRESS.writeNullable(generator, user.getAddress());
+            generator.writeFieldName("company");
+            COMPANY.writeNullable(generator, user.getCompany());
+            generator.writeEndObject();
+        }
+    };
+    
+    /**
+     * Module Jackson yang memakai codec manual untuk semua model
+     * @return SimpleModule berisi serializer dan deserializer codec
+     */
+    public static SimpleModule module() {
+        SimpleModule module = new SimpleModule("ModelCodecs");
+        register(module, POST);
+        register(module, USER);
+        register(module, ADDRESS);
+        register(module, GEO);
+        register(module, COMPANY);
+        return module;
+    }
+    
+    private static <T> void register(SimpleModule module, ModelCodec<T> codec) {
+        module.addSerializer(codec.getType(), new StdSerializer<T>(codec.getType()) {
+            @Override
+            public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                codec.write(generator, value);
+            }
+        });
+        module.addDeserializer(codec.getType(), new StdDeserializer<T>(codec.getType()) {
+            @Override
+            public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return codec.read(context.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        ? parser : ModelCodec.lenient(parser));
+            }
+        });
+    }
+}
@@ -0,0 +1,191 @@
+package com.api.automation.json;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.mapper.ObjectMapperDeserializationContext;
+import io.restassured.mapper.ObjectMapperSerializationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ObjectMapper bersama untuk seluruh framework (REST Assured, AsyncApiClient, stub server, dll.).
+ *
+ * Secara default REST Assured membuat ObjectMapper baru untuk setiap (de)serialisasi dan
+ * ObjectMapper.readValue mencari reader per panggilan. Di sini mapper dikonfigurasi sekali,
+ * dan ObjectReader/ObjectWriter untuk setiap model dibuat di awal lalu dipakai ulang.
+ * Dengan -Dapi.json.handRolledCodecs=true model memakai ModelCodecs (tanpa reflection).
+ * Nilai field @Canonical dideduplikasi lewat StringCanonicalizer (-Dapi.json.canonicalStrings).
+ *
+ * Mapper bersama tetap strict: field yang tidak dikenal model membuat deserialisasi gagal sehingga perubahan
+ * kontrak API terdeteksi. Test yang sengaja membaca response dengan field tambahan memakai {@link #lenientReader}.
+ */
+public class ModelMapper {
+    
+    private static final ObjectMapper objectMapper = create(ApiConfig.JSON_HAND_ROLLED_CODECS);
+    
+    private static final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Type, ObjectReader> lenientReaders = new ConcurrentHashMap<>();
+    private static final Map<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+    
+    static {
+        for (Class<?> model : new Class<?>[] {Post.class, Post[].class, User.class, User[].class,
+                User.Address.class, User.Geo.class, User.Company.class}) {
+            reader(model);
+            writer(model);
+        }
+    }
+    
+    /**
+     * Membuat ObjectMapper dengan konfigurasi framework
+     * @param handRolledCodecs true untuk memasang ModelCodecs pada model
+     * @return ObjectMapper baru
+     */
+    public static ObjectMapper create(boolean handRolledCodecs) {
+        return create(handRolledCodecs, ApiConfig.JSON_CANONICAL_STRINGS ? StringCanonicalizer.shared() : null);
+    }
+    
+    /**
+     * Membuat ObjectMapper dengan konfigurasi framework dan canonicalizer tertentu
+     * @param handRolledCodecs true untuk memasang ModelCodecs pada model (codec memakai pool bersama)
+     * @param canonicalizer Canonicalizer untuk binding Jackson, atau null tanpa deduplikasi
+     * @return ObjectMapper baru
+     */
+    public static ObjectMapper create(boolean handRolledCodecs, StringCanonicalizer canonicalizer) {
+        ObjectMapper mapper = new ObjectMapper()
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        if (canonicalizer != null) {
+            mapper.registerModule(canonicalizer.module());
+        }
+        if (handRolledCodecs) {
+            mapper.registerModule(ModelCodecs.module());
+        }
+        return mapper;
+    }
+    
+    /**
+     * Mendapatkan ObjectMapper bersama
+     * @return ObjectMapper yang sudah dikonfigurasi
+     */
+    public static ObjectMapper get() {
+        return objectMapper;
+    }
+    
+    /**
+     * Mendapatkan ObjectReader untuk tipe tertentu (dibuat sekali per tipe)
+     * @param type Tipe tujuan (contoh: Post.class, User[].class)
+     * @return ObjectReader yang bisa dipakai ulang antar thread
+     */
+    public static ObjectReader reader(Type type) {
+        return readers.computeIfAbsent(type, key -> objectMapper.readerFor(javaType(key)));
+    }
+    
+    /**
+     * Mendapatkan ObjectReader yang mengabaikan field tidak dikenal (opt-in, dibuat sekali per tipe)
+     * @param type Tipe tujuan
+     * @return ObjectReader lenient yang bisa dipakai ulang antar thread
+     */
+    public static ObjectReader lenientReader(Type type) {
+        return lenientReaders.computeIfAbsent(type,
+                key -> reader(key).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+    
+    /**
+     * Mendapatkan ObjectWriter untuk tipe tertentu (dibuat sekali per tipe)
+     * @param type Tipe sumber
+     * @return ObjectWriter yang bisa dipakai ulang antar thread
+     */
+    public static ObjectWriter writer(Type type) {
+        return writers.computeIfAbsent(type, key -> objectMapper.writerFor(javaType(key)));
+    }
+    
+    /**
+     * Membaca JSON menjadi model
+     * @param json Body JSON
+     * @param type Class model
+     * @return Model hasil deserialisasi
+     */
+    public static <T> T read(byte[] json, Class<T> type) {
+        try {
+            return reader(type).readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON tidak dapat di-deserialize ke " + type.getSimpleName(), e);
+        }
+    }
+    
+    /**
+     * Menulis object menjadi JSON
+     * @param value Object (Post, User, Map, dll.)
+     * @return Body JSON dalam UTF-8
+     */
+    public static byte[] write(Object value) {
+        try {
+            return value == null ? objectMapper.writeValueAsBytes(null) : writer(value.getClass()).writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Object tidak dapat di-serialize ke JSON: " + value, e);
+        }
+    }
+    
+    /**
+     * Konfigurasi REST Assured agar body request/response memakai mapper bersama
+     * @return ObjectMapperConfig untuk RestAssuredConfig
+     */
+    public static ObjectMapperConfig restAssuredConfig() {
+        return new ObjectMapperConfig(new RestAssuredMapper());
+    }
+    
+    private static JavaType javaType(Type type) {
+        return objectMapper.getTypeFactory().constructType(type);
+    }
+    
+    /**
+     * Adapter io.restassured.mapper.ObjectMapper di atas reader/writer bersama
+     */
+    private static class RestAssuredMapper implements io.restassured.mapper.ObjectMapper {
+        
+        @Override
+        public Object deserialize(ObjectMapperDeserializationContext context) {
+            ObjectReader reader = reader(context.getType());
+            try {
+                String charset = context.getCharset();
+                if (charset == null || isUnicode(charset)) {
+                    return reader.readValue(context.getDataToDeserialize().asInputStream());
+                }
+                return reader.readValue(context.getDataToDeserialize().asString());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Response tidak dapat di-deserialize ke " + context.getType().getTypeName(), e);
+            }
+        }
+        
+        @Override
+        public Object serialize(ObjectMapperSerializationContext context) {
+            Object value = context.getObjectToSerialize();
+            try {
+                return writer(value.getClass()).writeValueAsString(value);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Body tidak dapat di-serialize ke JSON: " + value, e);
+            }
+        }
+        
+        private static boolean isUnicode(String charset) {
+            try {
+                return Charset.forName(charset).name().startsWith("UTF-");
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+}
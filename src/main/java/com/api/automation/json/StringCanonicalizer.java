@@ -0,0 +1,198 @@
+package com.api.automation.json;
+
+import com.api.automation.config.ApiConfig;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deduplikasi nilai String berulang saat deserialisasi model (contoh: User dengan city, website
+ * dan company yang sama untuk ribuan record). Setiap field terpilih mendapat StringPool sendiri
+ * berukuran tetap, sehingga field bernilai unik tidak mengusir nilai field lain.
+ *
+ * Field dipilih lewat anotasi @Canonical di model atau -Dapi.json.canonicalFields=Class.field,...
+ * Binding Jackson memakai module() (dipasang ModelMapper jika -Dapi.json.canonicalStrings=true),
+ * codec manual memakai sharedPool() langsung.
+ */
+public class StringCanonicalizer {
+    
+    private static final StringCanonicalizer shared = new StringCanonicalizer(
+            ApiConfig.JSON_CANONICAL_POOL_SIZE, parseFields(ApiConfig.JSON_CANONICAL_FIELDS));
+    
+    private final int poolSize;
+    private final Set<String> configuredFields;
+    private final Map<String, StringPool> pools = new ConcurrentHashMap<>();
+    
+    /**
+     * @param poolSize Jumlah slot per field
+     * @param configuredFields Field tambahan selain yang ber-@Canonical, format SimpleClassName.field
+     */
+    public StringCanonicalizer(int poolSize, Collection<String> configuredFields) {
+        this.poolSize = poolSize;
+        this.configuredFields = new LinkedHashSet<>(configuredFields);
+    }
+    
+    /**
+     * Canonicalizer bersama dengan konfigurasi dari ApiConfig
+     */
+    public static StringCanonicalizer shared() {
+        return shared;
+    }
+    
+    /**
+     * Pool bersama untuk field model, dipakai codec manual
+     * @return Pool, atau null jika field tidak dipilih atau -Dapi.json.canonicalStrings=false
+     */
+    public static StringPool sharedPool(Class<?> type, String field) {
+        return ApiConfig.JSON_CANONICAL_STRINGS ? shared.pool(type, field) : null;
+    }
+    
+    /**
+     * Mendapatkan pool untuk field model
+     * @param type Class model (contoh: User.Company.class)
+     * @param field Nama field
+     * @return Pool milik field, atau null jika field tidak dipilih
+     */
+    public StringPool pool(Class<?> type, String field) {
+        if (!isCanonical(type, field)) {
+            return null;
+        }
+        return pools.computeIfAbsent(key(type, field), key -> new StringPool(poolSize));
+    }
+    
+    /**
+     * Field dipilih jika diberi @Canonical atau terdaftar di konfigurasi
+     */
+    public boolean isCanonical(Class<?> type, String field) {
+        if (configuredFields.contains(key(type, field))) {
+            return true;
+        }
+        try {
+            return type.getDeclaredField(field).isAnnotationPresent(Canonical.class);
+        } catch (NoSuchFieldException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Module Jackson yang mengganti deserializer field String terpilih dengan deserializer ber-pool
+     * @return SimpleModule untuk ObjectMapper.registerModule
+     */
+    public SimpleModule module() {
+        SimpleModule module = new SimpleModule("StringCanonicalizer");
+        module.setDeserializerModifier(new BeanDeserializerModifier() {
+            @Override
+            public BeanDeserializerBuilder updateBuilder(DeserializationConfig config, BeanDescription beanDesc,
+                    BeanDeserializerBuilder builder) {
+                List<SettableBeanProperty> replaced = new ArrayList<>();
+                for (Iterator<SettableBeanProperty> it = builder.getProperties(); it.hasNext(); ) {
+                    SettableBeanProperty property = it.next();
+                    if (!property.getType().hasRawClass(String.class)) {
+                        continue;
+                    }
+                    StringPool pool = pool(beanDesc.getBeanClass(), property.getName());
+                    if (pool != null) {
+                        replaced.add(property.withValueDeserializer(new CanonicalStringDeserializer(pool)));
+                    }
+                }
+                for (SettableBeanProperty property : replaced) {
+                    builder.addOrReplaceProperty(property, true);
+                }
+                return builder;
+            }
+        });
+        return module;
+    }
+    
+    /**
+     * Statistik semua pool yang sudah dipakai
+     * @return Map SimpleClassName.field ke pool, urut nama
+     */
+    public Map<String, StringPool> getPools() {
+        return new TreeMap<>(pools);
+    }
+    
+    /**
+     * Total perkiraan byte heap yang dihemat semua pool
+     */
+    public long getBytesSaved() {
+        long bytes = 0;
+        for (StringPool pool : pools.values()) {
+            bytes += pool.getBytesSaved();
+        }
+        return bytes;
+    }
+    
+    /**
+     * Ringkasan per field: hit rate dan byte yang dihemat
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("String canonicalization (pool ").append(poolSize).append(" slots per field)\n");
+        getPools().forEach((field, pool) -> report.append(String.format("  %-22s %s%n", field, pool)));
+        report.append(String.format("  total saved: %,d bytes%n", getBytesSaved()));
+        return report.toString();
+    }
+    
+    /**
+     * Mengosongkan semua pool dan statistiknya
+     */
+    public void clear() {
+        pools.values().forEach(StringPool::clear);
+    }
+    
+    private static String key(Class<?> type, String field) {
+        return type.getSimpleName() + "." + field;
+    }
+    
+    private static Set<String> parseFields(String fields) {
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            if (!field.trim().isEmpty()) {
+                parsed.add(field.trim());
+            }
+        }
+        return parsed;
+    }
+    
+    /**
+     * Deserializer String yang mengambil nilai dari pool langsung dari buffer karakter parser
+     */
+    private static class CanonicalStringDeserializer extends StdScalarDeserializer<String> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final StringPool pool;
+        
+        CanonicalStringDeserializer(StringPool pool) {
+            super(String.class);
+            this.pool = pool;
+        }
+        
+        @Override
+        public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                return pool.canonicalize(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            }
+            return pool.canonicalize(StringDeserializer.instance.deserialize(parser, context));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.api.automation.json;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool kanonikalisasi String berukuran tetap yang aman dipakai banyak thread.
+ *
+ * Pool berupa tabel 2-way set-associative tanpa lock (dua slot per bucket = hash & mask): nilai yang
+ * sama dengan isi salah satu slot dikembalikan sebagai instance yang sudah ada, nilai lain mengisi slot
+ * kosong atau menimpa salah satu slot. Memory tidak pernah tumbuh melewati kapasitas, dan field dengan
+ * nilai unik hanya membuat slot berganti tanpa biaya lain.
+ * Tidak seperti String.intern(), instance tidak masuk string table JVM dan ikut di-GC bersama pool.
+ */
+public final class StringPool {
+    
+    /** Perkiraan ukuran satu String di heap di luar isi karakter (header String + header byte[]) */
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    
+    /**
+     * @param capacity Jumlah slot (dibulatkan ke atas ke pangkat dua)
+     */
+    public StringPool(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+    
+    /**
+     * Mengembalikan instance kanonik untuk nilai
+     * @param value Nilai (boleh null)
+     * @return Instance dari pool jika nilai yang sama sudah ada, selain itu value sendiri
+     */
+    public String canonicalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        int hash = value.hashCode();
+        int bucket = hash & mask & ~1;
+        for (int index = bucket; index <= bucket + 1; index++) {
+            String existing = slots.get(index);
+            if (value.equals(existing)) {
+                hit(existing);
+                return existing;
+            }
+        }
+        store(bucket, hash, value);
+        return value;
+    }
+    
+    /**
+     * Mengembalikan instance kanonik untuk karakter di buffer parser tanpa membuat String
+     * jika nilainya sudah ada di pool
+     * @param buffer Buffer karakter (contoh: JsonParser.getTextCharacters())
+     * @param offset Awal nilai di buffer
+     * @param length Panjang nilai
+     * @return Instance kanonik
+     */
+    public String canonicalize(char[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        int bucket = hash & mask & ~1;
+        for (int index = bucket; index <= bucket + 1; index++) {
+            String existing = slots.get(index);
+            if (existing != null && contentEquals(existing, buffer, offset, length)) {
+                hit(existing);
+                return existing;
+            }
+        }
+        String value = new String(buffer, offset, length);
+        store(bucket, hash, value);
+        return value;
+    }
+    
+    public int capacity() { return mask + 1; }
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    
+    /**
+     * @return Perkiraan byte heap yang tidak dialokasikan/ditahan karena memakai instance kanonik
+     */
+    public long getBytesSaved() { return bytesSaved.sum(); }
+    
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+    
+    /**
+     * Jumlah slot yang terisi
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+    
+    /**
+     * Mengosongkan pool dan statistik
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        hits.reset();
+        misses.reset();
+        bytesSaved.reset();
+    }
+    
+    /**
+     * Menyimpan nilai baru di slot kosong bucket, atau menimpa slot yang dipilih bit hash lain
+     */
+    private void store(int bucket, int hash, String value) {
+        misses.increment();
+        int index = slots.get(bucket) == null ? bucket
+                : slots.get(bucket + 1) == null ? bucket + 1
+                : bucket + ((hash >>> 16) & 1);
+        slots.lazySet(index, value);
+    }
+    
+    private void hit(String existing) {
+        hits.increment();
+        // Compact strings: nilai Latin-1 memakai satu byte per karakter
+        bytesSaved.add(STRING_OVERHEAD_BYTES + existing.length());
+    }
+    
+    private static boolean contentEquals(String value, char[] buffer, int offset, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRate=%.1f%%, saved=%,d bytes, slots=%d/%d",
+                getHits(), getMisses(), getHitRate() * 100, getBytesSaved(), size(), capacity());
+    }
+}
@@ -0,0 +1,94 @@
+package com.api.automation.load;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.utils.AsyncApiClient;
+
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Menjalankan banyak request CRUD (contoh: ribuan create/update/delete post) sebagai satu batch.
+ *
+ * Request pertama dikirim sendiri untuk menegosiasikan protokol (ALPN untuk https, upgrade h2c untuk http).
+ * Jika server mendukung HTTP/2, sisa batch dimultipleks sebagai stream paralel di satu koneksi;
+ * jika tidak, batch dibagi ke beberapa koneksi HTTP/1.1 keep-alive yang dipakai ulang.
+ * Hasil dikembalikan sesuai urutan request beserta timing masing-masing.
+ */
+public class BatchExecutor {
+
+    private final AsyncApiClient client;
+    private final int maxStreams;
+    private final int maxConnections;
+
+    /**
+     * Batch executor dengan batas dari ApiConfig (api.batch.maxStreams dan api.pool.maxPerRoute)
+     * @param client Client yang menunjuk ke host target
+     */
+    public BatchExecutor(AsyncApiClient client) {
+        this(client, ApiConfig.BATCH_MAX_STREAMS, ApiConfig.POOL_MAX_PER_ROUTE);
+    }
+
+    /**
+     * @param client Client yang menunjuk ke host target
+     * @param maxStreams Jumlah request bersamaan jika koneksi memakai HTTP/2
+     * @param maxConnections Jumlah request (koneksi keep-alive) bersamaan jika memakai HTTP/1.1
+     */
+    public BatchExecutor(AsyncApiClient client, int maxStreams, int maxConnections) {
+        if (maxStreams < 1 || maxConnections < 1) {
+            throw new IllegalArgumentException("maxStreams dan maxConnections harus >= 1");
+        }
+        this.client = client;
+        this.maxStreams = maxStreams;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Menjalankan seluruh request dan menunggu sampai semuanya selesai
+     * @param requests Daftar request (contoh: LoadRequest.post(ApiConfig.POSTS_ENDPOINT, () -> post, ApiConfig.CREATED))
+     * @return BatchResult dengan hasil sesuai urutan request
+     */
+    public BatchResult execute(List<LoadRequest> requests) {
+        List<LoadRequest> batch = List.copyOf(requests);
+        BatchResult.Entry[] entries = new BatchResult.Entry[batch.size()];
+        long start = System.nanoTime();
+        if (batch.isEmpty()) {
+            return new BatchResult(entries, HttpClient.Version.HTTP_1_1, 0);
+        }
+
+        send(batch.get(0), 0, start, entries).join();
+        HttpClient.Version protocol = entries[0].getVersion() != null
+                ? entries[0].getVersion() : HttpClient.Version.HTTP_1_1;
+        int window = protocol == HttpClient.Version.HTTP_2 ? maxStreams : maxConnections;
+
+        // Window request bersamaan dijaga Semaphore; tidak ada thread yang menunggu response
+        Semaphore inFlight = new Semaphore(window);
+        CompletableFuture<?>[] running = new CompletableFuture<?>[batch.size() - 1];
+        for (int index = 1; index < batch.size(); index++) {
+            inFlight.acquireUninterruptibly();
+            running[index - 1] = send(batch.get(index), index, start, entries)
+                    .whenComplete((ignored, error) -> inFlight.release());
+        }
+        CompletableFuture.allOf(running).join();
+        return new BatchResult(entries, protocol, System.nanoTime() - start);
+    }
+
+    /**
+     * Mengirim satu request; hasil (response atau error) ditulis ke entries[index] saat selesai
+     */
+    private CompletableFuture<Void> send(LoadRequest request, int index, long batchStart, BatchResult.Entry[] entries) {
+        long sent = System.nanoTime();
+        CompletableFuture<AsyncApiClient.ApiResponse> future;
+        try {
+            future = request.execute(client);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.handle((response, error) -> {
+            entries[index] = new BatchResult.Entry(index, request, sent - batchStart, System.nanoTime() - sent,
+                    error == null ? response : null, error);
+            return null;
+        });
+    }
+}
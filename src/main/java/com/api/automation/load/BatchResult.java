@@ -0,0 +1,126 @@
+package com.api.automation.load;
+
+import com.api.automation.utils.AsyncApiClient;
+import com.api.automation.utils.LatencyHistogram;
+
+import java.net.http.HttpClient;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Hasil BatchExecutor: satu Entry per request dengan urutan yang sama seperti input
+ */
+public class BatchResult {
+
+    private final List<Entry> entries;
+    private final HttpClient.Version protocol;
+    private final long elapsedNanos;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    BatchResult(Entry[] entries, HttpClient.Version protocol, long elapsedNanos) {
+        this.entries = Collections.unmodifiableList(Arrays.asList(entries));
+        this.protocol = protocol;
+        this.elapsedNanos = elapsedNanos;
+        for (Entry entry : entries) {
+            latency.record(entry.getDurationNanos());
+        }
+    }
+
+    public List<Entry> getEntries() { return entries; }
+    public Entry get(int index) { return entries.get(index); }
+    public int size() { return entries.size(); }
+
+    /**
+     * @return Protokol yang dinegosiasikan untuk batch (HTTP_2 atau HTTP_1_1)
+     */
+    public HttpClient.Version getProtocol() { return protocol; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public LatencyHistogram getLatency() { return latency; }
+
+    public long getSuccessCount() {
+        return entries.stream().filter(Entry::isSuccess).count();
+    }
+
+    /**
+     * @return Entry yang gagal (error atau status code tidak sesuai), sesuai urutan request
+     */
+    public List<Entry> getFailures() {
+        return entries.stream().filter(entry -> !entry.isSuccess()).collect(Collectors.toList());
+    }
+
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : entries.size() / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("batch=%d, protocol=%s, failures=%d, elapsed=%.2fs, throughput=%.1f req/s, latency[%s]",
+                entries.size(), protocol, entries.size() - getSuccessCount(), elapsedNanos / 1e9,
+                getThroughput(), latency);
+    }
+
+    /**
+     * Hasil satu request dalam batch
+     */
+    public static class Entry {
+        private final int index;
+        private final String name;
+        private final int expectedStatus;
+        private final long startOffsetNanos;
+        private final long durationNanos;
+        private final AsyncApiClient.ApiResponse response;
+        private final Throwable error;
+
+        Entry(int index, LoadRequest request, long startOffsetNanos, long durationNanos,
+              AsyncApiClient.ApiResponse response, Throwable error) {
+            this.index = index;
+            this.name = request.getName();
+            this.expectedStatus = request.getExpectedStatus();
+            this.startOffsetNanos = startOffsetNanos;
+            this.durationNanos = durationNanos;
+            this.response = response;
+            this.error = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        }
+
+        public int getIndex() { return index; }
+        public String getName() { return name; }
+        public int getExpectedStatus() { return expectedStatus; }
+
+        /**
+         * @return Waktu request dikirim, relatif terhadap awal batch
+         */
+        public long getStartOffsetNanos() { return startOffsetNanos; }
+        public long getDurationNanos() { return durationNanos; }
+
+        /**
+         * @return Response, atau null jika request gagal sebelum response diterima
+         */
+        public AsyncApiClient.ApiResponse getResponse() { return response; }
+        public Throwable getError() { return error; }
+
+        public int getStatusCode() {
+            return response == null ? -1 : response.getStatusCode();
+        }
+
+        public HttpClient.Version getVersion() {
+            return response == null ? null : response.getVersion();
+        }
+
+        public boolean isSuccess() {
+            return response != null && response.getStatusCode() == expectedStatus;
+        }
+
+        public <T> T as(Class<T> type) {
+            return response.as(type);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("#%d %s -> %s (%.2fms)", index, name,
+                    error != null ? error : String.valueOf(getStatusCode()), durationNanos / 1e6);
+        }
+    }
+}
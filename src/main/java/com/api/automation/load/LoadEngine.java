@@ -0,0 +1,115 @@
+package com.api.automation.load;
+
+import com.api.automation.utils.AsyncApiClient;
+import com.api.automation.utils.RequestLogBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Engine load test yang menjalankan skenario LoadRequest dengan closed atau open model.
+ * Request dikirim melalui AsyncApiClient sehingga model class dan endpoint sama dengan functional test.
+ */
+public class LoadEngine {
+
+    private static final long SCHEDULER_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AsyncApiClient client;
+    private final List<LoadRequest> scenario;
+
+    /**
+     * @param client Client yang menunjuk ke host target (contoh: stub server lokal)
+     * @param scenario Daftar request yang dijalankan bergiliran
+     */
+    public LoadEngine(AsyncApiClient client, List<LoadRequest> scenario) {
+        if (scenario == null || scenario.isEmpty()) {
+            throw new IllegalArgumentException("Skenario load test tidak boleh kosong");
+        }
+        this.client = client;
+        this.scenario = List.copyOf(scenario);
+    }
+
+    /**
+     * Menjalankan load test sesuai profil
+     * @param profile Profil beban (closed atau open model)
+     * @return LoadReport berisi throughput, error rate, dan latency per endpoint
+     */
+    public LoadReport run(LoadProfile profile) {
+        LoadReport report = new LoadReport(profile);
+        long start = System.nanoTime();
+        if (profile.getModel() == LoadProfile.Model.CLOSED) {
+            runClosed(profile, report);
+        } else {
+            runOpen(profile, report);
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    private void runClosed(LoadProfile profile, LoadReport report) {
+        long deadline = System.nanoTime() + profile.getTotalDuration().toNanos();
+        ExecutorService users = AsyncApiClient.newTaskExecutor();
+        try {
+            List<CompletableFuture<Void>> running = new ArrayList<>();
+            for (int user = 0; user < profile.getVirtualUsers(); user++) {
+                int offset = user;
+                running.add(CompletableFuture.runAsync(RequestLogBuffer.propagate(() -> {
+                    int iteration = offset;
+                    while (System.nanoTime() < deadline) {
+                        LoadRequest request = scenario.get(iteration++ % scenario.size());
+                        long sent = System.nanoTime();
+                        try {
+                            AsyncApiClient.ApiResponse response = request.execute(client).join();
+                            record(report, request, sent, response);
+                        } catch (RuntimeException e) {
+                            record(report, request, sent, null);
+                        }
+                    }
+                }), users));
+            }
+            CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            users.shutdown();
+        }
+    }
+
+    private void runOpen(LoadProfile profile, LoadReport report) {
+        long start = System.nanoTime();
+        long end = start + profile.getTotalDuration().toNanos();
+        long sentCount = 0;
+        ConcurrentHashMap.KeySetView<CompletableFuture<?>, Boolean> pending = ConcurrentHashMap.newKeySet();
+
+        while (true) {
+            long now = System.nanoTime();
+            long due = (long) profile.expectedArrivals(Math.min(now, end) - start);
+            while (sentCount < due) {
+                LoadRequest request = scenario.get((int) (sentCount++ % scenario.size()));
+                long sent = System.nanoTime();
+                CompletableFuture<AsyncApiClient.ApiResponse> future = request.execute(client);
+                pending.add(future);
+                future.whenComplete((response, error) -> {
+                    record(report, request, sent, error == null ? response : null);
+                    pending.remove(future);
+                });
+            }
+            if (now >= end) {
+                break;
+            }
+            LockSupport.parkNanos(SCHEDULER_TICK_NANOS);
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(error -> null)
+                .join();
+    }
+
+    private static void record(LoadReport report, LoadRequest request, long sentNanos,
+                               AsyncApiClient.ApiResponse response) {
+        boolean success = response != null && response.getStatusCode() == request.getExpectedStatus();
+        report.record(request.getName(), System.nanoTime() - sentNanos, success);
+    }
+}
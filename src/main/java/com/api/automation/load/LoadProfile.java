@@ -0,0 +1,100 @@
+package com.api.automation.load;
+
+import java.time.Duration;
+
+/**
+ * Profil beban untuk LoadEngine.
+ * Closed model: N virtual user yang masing-masing mengirim request berikutnya setelah response diterima.
+ * Open model: request datang dengan target RPS (ramp-up, steady, ramp-down) tanpa menunggu response.
+ */
+public class LoadProfile {
+
+    public enum Model { CLOSED, OPEN }
+
+    private final Model model;
+    private final int virtualUsers;
+    private final double targetRps;
+    private final Duration rampUp;
+    private final Duration steady;
+    private final Duration rampDown;
+
+    private LoadProfile(Model model, int virtualUsers, double targetRps,
+                        Duration rampUp, Duration steady, Duration rampDown) {
+        this.model = model;
+        this.virtualUsers = virtualUsers;
+        this.targetRps = targetRps;
+        this.rampUp = rampUp;
+        this.steady = steady;
+        this.rampDown = rampDown;
+    }
+
+    /**
+     * Closed model dengan jumlah virtual user tetap
+     * @param virtualUsers Jumlah virtual user
+     * @param duration Lama test
+     * @return LoadProfile closed model
+     */
+    public static LoadProfile closed(int virtualUsers, Duration duration) {
+        if (virtualUsers <= 0) {
+            throw new IllegalArgumentException("Jumlah virtual user harus lebih dari 0");
+        }
+        return new LoadProfile(Model.CLOSED, virtualUsers, 0, Duration.ZERO, duration, Duration.ZERO);
+    }
+
+    /**
+     * Open model dengan target request per detik
+     * @param targetRps Target request per detik pada fase steady
+     * @param rampUp Lama naik linear dari 0 ke targetRps
+     * @param steady Lama fase steady pada targetRps
+     * @param rampDown Lama turun linear dari targetRps ke 0
+     * @return LoadProfile open model
+     */
+    public static LoadProfile open(double targetRps, Duration rampUp, Duration steady, Duration rampDown) {
+        if (targetRps <= 0) {
+            throw new IllegalArgumentException("Target RPS harus lebih dari 0");
+        }
+        return new LoadProfile(Model.OPEN, 0, targetRps, rampUp, steady, rampDown);
+    }
+
+    public Model getModel() { return model; }
+    public int getVirtualUsers() { return virtualUsers; }
+    public double getTargetRps() { return targetRps; }
+
+    public Duration getTotalDuration() {
+        return rampUp.plus(steady).plus(rampDown);
+    }
+
+    /**
+     * Jumlah kedatangan request yang diharapkan sejak awal test (integral dari kurva RPS)
+     * @param elapsedNanos Waktu sejak test dimulai
+     * @return Jumlah kumulatif request yang seharusnya sudah dikirim
+     */
+    double expectedArrivals(long elapsedNanos) {
+        double t = elapsedNanos / 1e9;
+        double up = rampUp.toNanos() / 1e9;
+        double flat = steady.toNanos() / 1e9;
+        double down = rampDown.toNanos() / 1e9;
+
+        double arrivals = 0;
+        if (up > 0) {
+            double tu = Math.min(t, up);
+            arrivals += targetRps * tu * tu / (2 * up);
+        }
+        if (t > up) {
+            arrivals += targetRps * Math.min(t - up, flat);
+        }
+        if (t > up + flat && down > 0) {
+            double td = Math.min(t - up - flat, down);
+            arrivals += targetRps * (td - td * td / (2 * down));
+        }
+        return arrivals;
+    }
+
+    @Override
+    public String toString() {
+        return model == Model.CLOSED
+                ? "LoadProfile{closed, virtualUsers=" + virtualUsers + ", duration=" + steady + '}'
+                : "LoadProfile{open, targetRps=" + targetRps + ", rampUp=" + rampUp
+                        + ", steady=" + steady + ", rampDown=" + rampDown + '}';
+    }
+}
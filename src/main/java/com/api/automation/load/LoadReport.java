@@ -0,0 +1,96 @@
+package com.api.automation.load;
+
+import com.api.automation.utils.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hasil load test: throughput, error rate, dan histogram latency per endpoint
+ */
+public class LoadReport {
+
+    private final LoadProfile profile;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile long durationNanos;
+
+    LoadReport(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        endpoints.computeIfAbsent(endpoint, EndpointStats::new).record(latencyNanos, success);
+    }
+
+    void finish(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public LoadProfile getProfile() { return profile; }
+    public Map<String, EndpointStats> getEndpoints() { return Collections.unmodifiableMap(endpoints); }
+    public double getDurationSeconds() { return durationNanos / 1e9; }
+
+    public long getTotalRequests() {
+        return endpoints.values().stream().mapToLong(EndpointStats::getCount).sum();
+    }
+
+    public long getTotalErrors() {
+        return endpoints.values().stream().mapToLong(EndpointStats::getErrors).sum();
+    }
+
+    public double getThroughput() {
+        return durationNanos == 0 ? 0 : getTotalRequests() / getDurationSeconds();
+    }
+
+    public double getErrorRate() {
+        long total = getTotalRequests();
+        return total == 0 ? 0 : (double) getTotalErrors() / total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%s%nrequests=%d, errors=%d (%.2f%%), duration=%.1fs, throughput=%.1f req/s%n",
+                profile, getTotalRequests(), getTotalErrors(), getErrorRate() * 100,
+                getDurationSeconds(), getThroughput()));
+        endpoints.values().forEach(stats -> sb.append("  ").append(stats).append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    /**
+     * Statistik untuk satu endpoint
+     */
+    public static class EndpointStats {
+        private final String name;
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+
+        void record(long latencyNanos, boolean success) {
+            latency.record(latencyNanos);
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        public String getName() { return name; }
+        public long getCount() { return latency.getCount(); }
+        public long getErrors() { return errors.sum(); }
+        public LatencyHistogram getLatency() { return latency; }
+
+        public double getErrorRate() {
+            long count = getCount();
+            return count == 0 ? 0 : (double) getErrors() / count;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: errors=%d (%.2f%%), %s", name, getErrors(), getErrorRate() * 100, latency);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.api.automation.load;
+
+import com.api.automation.utils.AsyncApiClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Definisi satu request dalam skenario load test.
+ * Bentuknya mengikuti CRUD call pada PostApiTest/UserApiTest: method, endpoint, body, dan expected status.
+ */
+public class LoadRequest {
+
+    private final String name;
+    private final int expectedStatus;
+    private final Function<AsyncApiClient, CompletableFuture<AsyncApiClient.ApiResponse>> call;
+
+    private LoadRequest(String name, int expectedStatus,
+                        Function<AsyncApiClient, CompletableFuture<AsyncApiClient.ApiResponse>> call) {
+        this.name = name;
+        this.expectedStatus = expectedStatus;
+        this.call = call;
+    }
+
+    /**
+     * GET request ke endpoint
+     * @param path Endpoint (contoh: ApiConfig.POSTS_ENDPOINT + "/1")
+     * @param expectedStatus Status code yang dianggap sukses
+     * @return LoadRequest baru
+     */
+    public static LoadRequest get(String path, int expectedStatus) {
+        return new LoadRequest("GET " + path, expectedStatus, client -> client.get(path));
+    }
+
+    /**
+     * POST request dengan body yang dibuat ulang untuk setiap iterasi
+     * @param path Endpoint
+     * @param body Supplier body (contoh: TestDataGenerator::generateRandomPost)
+     * @param expectedStatus Status code yang dianggap sukses
+     * @return LoadRequest baru
+     */
+    public static LoadRequest post(String path, Supplier<?> body, int expectedStatus) {
+        return new LoadRequest("POST " + path, expectedStatus, client -> client.post(path, body.get()));
+    }
+
+    /**
+     * PUT request dengan body yang dibuat ulang untuk setiap iterasi
+     * @param path Endpoint
+     * @param body Supplier body
+     * @param expectedStatus Status code yang dianggap sukses
+     * @return LoadRequest baru
+     */
+    public static LoadRequest put(String path, Supplier<?> body, int expectedStatus) {
+        return new LoadRequest("PUT " + path, expectedStatus, client -> client.put(path, body.get()));
+    }
+
+    /**
+     * DELETE request ke endpoint
+     * @param path Endpoint
+     * @param expectedStatus Status code yang dianggap sukses
+     * @return LoadRequest baru
+     */
+    public static LoadRequest delete(String path, int expectedStatus) {
+        return new LoadRequest("DELETE " + path, expectedStatus, client -> client.delete(path));
+    }
+
+    public String getName() { return name; }
+    public int getExpectedStatus() { return expectedStatus; }
+
+    CompletableFuture<AsyncApiClient.ApiResponse> execute(AsyncApiClient client) {
+        return call.apply(client);
+    }
+}
@@ -1,9 +1,11 @@
 package com.api.automation.models;
 
+import com.api.automation.json.Canonical;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * Model class untuk User entity
+ * Field @Canonical (website, city, company name, geo) berulang antar user sehingga nilainya dideduplikasi saat deserialisasi
  */
 public class User {
     
@@ -22,6 +24,7 @@ public class User {
     @JsonProperty("phone")
     private String phone;
     
+    @Canonical
     @JsonProperty("website")
     private String website;
     
@@ -73,6 +76,7 @@ public class User {
         @JsonProperty("suite")
         private String suite;
         
+        @Canonical
         @JsonProperty("city")
         private String city;
         
@@ -100,9 +104,11 @@ public class User {
     }
     
     public static class Geo {
+        @Canonical
         @JsonProperty("lat")
         private String lat;
         
+        @Canonical
         @JsonProperty("lng")
         private String lng;
         
@@ -115,6 +121,7 @@ public class User {
     }
     
     public static class Company {
+        @Canonical
         @JsonProperty("name")
         private String name;
         
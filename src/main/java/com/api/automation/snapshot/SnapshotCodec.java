@@ -0,0 +1,316 @@
+package com.api.automation.snapshot;
+
+import com.api.automation.json.ModelMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Format biner kanonik untuk snapshot response.
+ *
+ * Setiap value diawali satu byte tag. Field object diurutkan berdasarkan nama dan field yang volatile
+ * diganti tag MASKED, sehingga dua response yang setara selalu menghasilkan byte yang identik.
+ * Panjang dan jumlah elemen ditulis sebagai varint. Object dan array menyimpan panjang payload agar
+ * diff bisa melompati subtree yang sama dengan perbandingan byte tanpa men-decode isinya.
+ */
+final class SnapshotCodec {
+
+    static final byte NULL = 0;
+    static final byte FALSE = 1;
+    static final byte TRUE = 2;
+    static final byte INTEGER = 3;
+    static final byte DECIMAL = 4;
+    static final byte STRING = 5;
+    static final byte ARRAY = 6;
+    static final byte OBJECT = 7;
+    static final byte MASKED = 8;
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * Mengubah body JSON menjadi bentuk biner kanonik
+     * @param json Body response
+     * @param maskedFields Nama field yang nilainya di-mask (di semua level)
+     * @return Bytes kanonik
+     */
+    static byte[] encode(byte[] json, Set<String> maskedFields) {
+        JsonNode tree;
+        try {
+            tree = ModelMapper.get().readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response body bukan JSON yang valid", e);
+        }
+        Writer writer = new Writer(Math.max(64, json.length));
+        writer.value(tree == null ? JsonNodeFactory.instance.missingNode() : tree, maskedFields);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Mendapatkan posisi akhir (exclusive) dari value yang dimulai di position
+     */
+    static int end(byte[] bytes, int position) {
+        switch (bytes[position]) {
+            case NULL:
+            case FALSE:
+            case TRUE:
+            case MASKED:
+                return position + 1;
+            case INTEGER:
+                return skipVarint(bytes, position + 1);
+            case DECIMAL:
+            case STRING:
+            case ARRAY:
+            case OBJECT: {
+                // String: panjang bytes, container: panjang payload (jumlah elemen + isi)
+                int start = skipVarint(bytes, position + 1);
+                return start + (int) readUnsigned(bytes, position + 1);
+            }
+            default:
+                throw new IllegalStateException("Tag snapshot tidak dikenal pada offset " + position);
+        }
+    }
+
+    /**
+     * Membaca string (nama field atau value STRING tanpa tag) yang diawali panjang varint
+     */
+    static String readString(byte[] bytes, int position) {
+        return new String(bytes, skipVarint(bytes, position), (int) readUnsigned(bytes, position), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Posisi sesudah string yang dimulai di position
+     */
+    static int skipString(byte[] bytes, int position) {
+        return skipVarint(bytes, position) + (int) readUnsigned(bytes, position);
+    }
+
+    /**
+     * @return Posisi elemen pertama dari container (array/object) yang dimulai di position
+     */
+    static int firstChild(byte[] bytes, int position) {
+        return skipVarint(bytes, skipVarint(bytes, position + 1));
+    }
+
+    /**
+     * @return Jumlah elemen container (array/object) yang dimulai di position
+     */
+    static int count(byte[] bytes, int position) {
+        return (int) readUnsigned(bytes, skipVarint(bytes, position + 1));
+    }
+
+    /**
+     * Men-decode satu value kembali menjadi JsonNode (dipakai untuk pesan diff)
+     */
+    static JsonNode decode(byte[] bytes, int position) {
+        JsonNodeFactory nodes = JsonNodeFactory.instance;
+        switch (bytes[position]) {
+            case NULL:
+                return nodes.nullNode();
+            case FALSE:
+                return nodes.booleanNode(false);
+            case TRUE:
+                return nodes.booleanNode(true);
+            case MASKED:
+                return nodes.textNode("<masked>");
+            case INTEGER:
+                return nodes.numberNode(readVarint(bytes, position + 1));
+            case DECIMAL:
+                return nodes.numberNode(new java.math.BigDecimal(readString(bytes, position + 1)));
+            case STRING:
+                return nodes.textNode(readString(bytes, position + 1));
+            case ARRAY: {
+                ArrayNode array = nodes.arrayNode();
+                int count = count(bytes, position);
+                int child = firstChild(bytes, position);
+                for (int i = 0; i < count; i++) {
+                    array.add(decode(bytes, child));
+                    child = end(bytes, child);
+                }
+                return array;
+            }
+            case OBJECT: {
+                ObjectNode object = nodes.objectNode();
+                int count = count(bytes, position);
+                int child = firstChild(bytes, position);
+                for (int i = 0; i < count; i++) {
+                    String name = readString(bytes, child);
+                    child = skipString(bytes, child);
+                    object.set(name, decode(bytes, child));
+                    child = end(bytes, child);
+                }
+                return object;
+            }
+            default:
+                throw new IllegalStateException("Tag snapshot tidak dikenal pada offset " + position);
+        }
+    }
+
+    /**
+     * Membaca varint zigzag (value INTEGER)
+     */
+    static long readVarint(byte[] bytes, int position) {
+        long raw = readUnsigned(bytes, position);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private static long readUnsigned(byte[] bytes, int position) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = bytes[position++];
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static int skipVarint(byte[] bytes, int position) {
+        while (bytes[position] < 0) {
+            position++;
+        }
+        return position + 1;
+    }
+
+    /**
+     * Buffer tulis yang tumbuh otomatis
+     */
+    private static final class Writer {
+        private byte[] buffer;
+        private int length;
+
+        Writer(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void value(JsonNode node, Set<String> maskedFields) {
+            switch (node.getNodeType()) {
+                case OBJECT:
+                    object(node, maskedFields);
+                    break;
+                case ARRAY: {
+                    int header = container(ARRAY, node.size());
+                    for (JsonNode element : node) {
+                        value(element, maskedFields);
+                    }
+                    closeContainer(header);
+                    break;
+                }
+                case STRING:
+                    tagged(STRING, node.textValue());
+                    break;
+                case NUMBER:
+                    if (node.canConvertToLong() && node.isIntegralNumber()) {
+                        put(INTEGER);
+                        long value = node.longValue();
+                        varint((value << 1) ^ (value >> 63));
+                    } else {
+                        tagged(DECIMAL, node.decimalValue().stripTrailingZeros().toPlainString());
+                    }
+                    break;
+                case BOOLEAN:
+                    put(node.booleanValue() ? TRUE : FALSE);
+                    break;
+                default:
+                    // null, missing, dan binary/POJO node dianggap null
+                    put(NULL);
+            }
+        }
+
+        private void object(JsonNode node, Set<String> maskedFields) {
+            List<Map.Entry<String, JsonNode>> fields = new ArrayList<>(node.size());
+            for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                fields.add(it.next());
+            }
+            fields.sort(Map.Entry.comparingByKey());
+            int header = container(OBJECT, fields.size());
+            for (Map.Entry<String, JsonNode> field : fields) {
+                string(field.getKey());
+                if (maskedFields.contains(field.getKey())) {
+                    put(MASKED);
+                } else {
+                    value(field.getValue(), maskedFields);
+                }
+            }
+            closeContainer(header);
+        }
+
+        private int container(byte tag, int count) {
+            put(tag);
+            int payload = length;
+            varint(count);
+            return payload;
+        }
+
+        /**
+         * Menyisipkan panjang payload di depan payload yang sudah ditulis
+         */
+        private void closeContainer(int payload) {
+            int payloadLength = length - payload;
+            int prefix = varintSize(payloadLength);
+            ensure(prefix);
+            System.arraycopy(buffer, payload, buffer, payload + prefix, payloadLength);
+            int end = length + prefix;
+            length = payload;
+            varint(payloadLength);
+            length = end;
+        }
+
+        private void tagged(byte tag, String value) {
+            put(tag);
+            string(value);
+        }
+
+        private void string(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7fL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void put(byte tag) {
+            ensure(1);
+            buffer[length++] = tag;
+        }
+
+        private static int varintSize(long value) {
+            int size = 1;
+            while ((value & ~0x7fL) != 0) {
+                value >>>= 7;
+                size++;
+            }
+            return size;
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+}
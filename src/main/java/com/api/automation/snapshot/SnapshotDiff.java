@@ -0,0 +1,116 @@
+package com.api.automation.snapshot;
+
+import java.util.Arrays;
+
+/**
+ * Perbedaan pertama antara snapshot dan response baru.
+ *
+ * Diff berjalan langsung di atas bytes kanonik: subtree yang bytes-nya sama dilompati dengan satu
+ * perbandingan array, dan penelusuran berhenti di subtree pertama yang berbeda.
+ */
+public class SnapshotDiff {
+
+    private static final int MAX_VALUE_CHARS = 200;
+
+    private final String path;
+    private final String expected;
+    private final String actual;
+
+    SnapshotDiff(String path, String expected, String actual) {
+        this.path = path;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    /**
+     * @return Lokasi perbedaan (contoh: $[56].title)
+     */
+    public String getPath() { return path; }
+    public String getExpected() { return expected; }
+    public String getActual() { return actual; }
+
+    /**
+     * Mencari perbedaan pertama antara dua value kanonik
+     * @return SnapshotDiff, atau null jika identik
+     */
+    static SnapshotDiff find(byte[] expected, byte[] actual) {
+        if (Arrays.equals(expected, actual)) {
+            return null;
+        }
+        return find("$", expected, 0, actual, 0);
+    }
+
+    /**
+     * Perbedaan untuk snapshot yang belum pernah direkam
+     * @return SnapshotDiff di root dengan expected &lt;missing&gt;
+     */
+    static SnapshotDiff missingSnapshot(byte[] actual) {
+        return new SnapshotDiff("$", "<missing>", render(actual, 0));
+    }
+
+    private static SnapshotDiff find(String path, byte[] expected, int expectedPosition, byte[] actual, int actualPosition) {
+        byte tag = expected[expectedPosition];
+        if (tag != actual[actualPosition] || (tag != SnapshotCodec.ARRAY && tag != SnapshotCodec.OBJECT)) {
+            return new SnapshotDiff(path, render(expected, expectedPosition), render(actual, actualPosition));
+        }
+        int expectedCount = SnapshotCodec.count(expected, expectedPosition);
+        int actualCount = SnapshotCodec.count(actual, actualPosition);
+        int expectedChild = SnapshotCodec.firstChild(expected, expectedPosition);
+        int actualChild = SnapshotCodec.firstChild(actual, actualPosition);
+
+        if (tag == SnapshotCodec.ARRAY) {
+            for (int i = 0; i < Math.min(expectedCount, actualCount); i++) {
+                int expectedEnd = SnapshotCodec.end(expected, expectedChild);
+                int actualEnd = SnapshotCodec.end(actual, actualChild);
+                if (!Arrays.equals(expected, expectedChild, expectedEnd, actual, actualChild, actualEnd)) {
+                    return find(path + "[" + i + "]", expected, expectedChild, actual, actualChild);
+                }
+                expectedChild = expectedEnd;
+                actualChild = actualEnd;
+            }
+            return expectedCount > actualCount
+                    ? new SnapshotDiff(path + "[" + actualCount + "]", render(expected, expectedChild), "<missing>")
+                    : new SnapshotDiff(path + "[" + expectedCount + "]", "<missing>", render(actual, actualChild));
+        }
+
+        // Field sudah terurut sehingga kedua object bisa ditelusuri seperti merge
+        int expectedIndex = 0;
+        int actualIndex = 0;
+        while (expectedIndex < expectedCount || actualIndex < actualCount) {
+            String expectedName = expectedIndex < expectedCount ? SnapshotCodec.readString(expected, expectedChild) : null;
+            String actualName = actualIndex < actualCount ? SnapshotCodec.readString(actual, actualChild) : null;
+            int order = expectedName == null ? 1 : actualName == null ? -1 : expectedName.compareTo(actualName);
+            if (order < 0) {
+                int value = SnapshotCodec.skipString(expected, expectedChild);
+                return new SnapshotDiff(path + "." + expectedName, render(expected, value), "<missing>");
+            }
+            if (order > 0) {
+                int value = SnapshotCodec.skipString(actual, actualChild);
+                return new SnapshotDiff(path + "." + actualName, "<missing>", render(actual, value));
+            }
+            int expectedValue = SnapshotCodec.skipString(expected, expectedChild);
+            int actualValue = SnapshotCodec.skipString(actual, actualChild);
+            int expectedEnd = SnapshotCodec.end(expected, expectedValue);
+            int actualEnd = SnapshotCodec.end(actual, actualValue);
+            if (!Arrays.equals(expected, expectedValue, expectedEnd, actual, actualValue, actualEnd)) {
+                return find(path + "." + expectedName, expected, expectedValue, actual, actualValue);
+            }
+            expectedChild = expectedEnd;
+            actualChild = actualEnd;
+            expectedIndex++;
+            actualIndex++;
+        }
+        // Tidak tercapai untuk input kanonik yang berbeda, tetapi tetap laporkan root
+        return new SnapshotDiff(path, render(expected, expectedPosition), render(actual, actualPosition));
+    }
+
+    private static String render(byte[] bytes, int position) {
+        String json = SnapshotCodec.decode(bytes, position).toString();
+        return json.length() > MAX_VALUE_CHARS ? json.substring(0, MAX_VALUE_CHARS) + "..." : json;
+    }
+
+    @Override
+    public String toString() {
+        return path + ": expected " + expected + " but was " + actual;
+    }
+}
@@ -0,0 +1,168 @@
+package com.api.automation.snapshot;
+
+import com.api.automation.config.ApiConfig;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Penyimpanan golden snapshot response untuk mendeteksi regresi API.
+ *
+ * Setiap snapshot disimpan sebagai satu file {@code <nama>.snap} berisi bytes kanonik dari SnapshotCodec
+ * (field terurut, field volatile seperti id/createdAt di-mask). File hanya dibaca saat snapshot tersebut
+ * pertama kali dibandingkan, sehingga direktori berisi ribuan snapshot tidak dimuat sekaligus.
+ *
+ * Snapshot yang belum ada dianggap gagal. Jalankan dengan -Dapi.snapshot.update=true untuk merekam snapshot
+ * baru atau menyetujui perubahan response; hanya mode update yang menulis ke direktori snapshot.
+ */
+public class SnapshotStore {
+
+    private static final int MAGIC = 0x534E5031; // "SNP1"
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_-]+(/[A-Za-z0-9_.-]+)*");
+
+    private static SnapshotStore shared;
+
+    private final Path directory;
+    private final Set<String> maskedFields;
+    private final boolean update;
+    private final ConcurrentHashMap<String, byte[]> loaded = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory Direktori snapshot
+     * @param maskedFields Nama field yang nilainya diabaikan saat membandingkan
+     * @param update true untuk menimpa snapshot yang berbeda alih-alih gagal
+     */
+    public SnapshotStore(Path directory, Set<String> maskedFields, boolean update) {
+        this.directory = directory;
+        this.maskedFields = Set.copyOf(maskedFields);
+        this.update = update;
+    }
+
+    /**
+     * Mendapatkan store bersama sesuai ApiConfig (api.snapshot.dir, api.snapshot.mask, api.snapshot.update).
+     * Dengan -Dapi.stub=true snapshot dibaca dari subdirektori "stub" karena data stub berbeda dari host publik.
+     * @return SnapshotStore untuk seluruh suite
+     */
+    public static synchronized SnapshotStore shared() {
+        if (shared == null) {
+            Set<String> masked = Arrays.stream(ApiConfig.SNAPSHOT_MASKED_FIELDS.split(","))
+                    .map(String::trim)
+                    .filter(field -> !field.isEmpty())
+                    .collect(Collectors.toSet());
+            Path directory = ApiConfig.USE_STUB_SERVER
+                    ? Paths.get(ApiConfig.SNAPSHOT_DIR, "stub") : Paths.get(ApiConfig.SNAPSHOT_DIR);
+            shared = new SnapshotStore(directory, masked, ApiConfig.SNAPSHOT_UPDATE);
+        }
+        return shared;
+    }
+
+    /**
+     * Memastikan body response sama dengan snapshot yang disetujui
+     * @param name Nama snapshot (contoh: "jsonplaceholder/posts")
+     * @param response Response REST Assured
+     */
+    public void assertMatches(String name, Response response) {
+        assertMatches(name, response.asByteArray());
+    }
+
+    /**
+     * Memastikan body JSON sama dengan snapshot yang disetujui
+     * @param name Nama snapshot
+     * @param json Body JSON
+     */
+    public void assertMatches(String name, byte[] json) {
+        SnapshotDiff diff = compare(name, json);
+        if (diff != null) {
+            throw new AssertionError("Snapshot '" + name + "' does not match at " + diff
+                    + System.lineSeparator() + "Re-run with -Dapi.snapshot.update=true to approve the new response.");
+        }
+    }
+
+    /**
+     * Membandingkan body JSON dengan snapshot. Dalam mode update, snapshot yang belum ada atau berbeda ditulis.
+     * @param name Nama snapshot
+     * @param json Body JSON
+     * @return Perbedaan pertama (path "$" dengan expected &lt;missing&gt; jika snapshot belum ada), atau null jika cocok
+     */
+    public SnapshotDiff compare(String name, byte[] json) {
+        byte[] actual = SnapshotCodec.encode(json, maskedFields);
+        byte[] expected = loaded.computeIfAbsent(name, this::load);
+        SnapshotDiff diff = expected.length == 0 ? SnapshotDiff.missingSnapshot(actual) : SnapshotDiff.find(expected, actual);
+        if (diff != null && update) {
+            write(name, actual);
+            return null;
+        }
+        return diff;
+    }
+
+    /**
+     * @return Jumlah snapshot yang sudah dibaca dari disk
+     */
+    public int loadedCount() {
+        return loaded.size();
+    }
+
+    public Path getDirectory() { return directory; }
+
+    /**
+     * Cek apakah snapshot bisa dibandingkan: file snapshot sudah ada, atau store dalam mode update
+     * @param name Nama snapshot (contoh: "jsonplaceholder/posts")
+     * @return true jika assertMatches tidak akan gagal karena snapshot belum direkam
+     */
+    public boolean isRecorded(String name) {
+        return update || loaded.computeIfAbsent(name, this::load).length > 0;
+    }
+
+    /**
+     * Mendapatkan lokasi file snapshot
+     * @param name Nama snapshot
+     * @return Path file .snap
+     */
+    public Path file(String name) {
+        if (!VALID_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Nama snapshot tidak valid: " + name);
+        }
+        return directory.resolve(name + ".snap");
+    }
+
+    private byte[] load(String name) {
+        Path file = file(name);
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            if (bytes.length < 4 || ByteBuffer.wrap(bytes).getInt() != MAGIC) {
+                throw new IllegalStateException("File snapshot rusak: " + file);
+            }
+            return Arrays.copyOfRange(bytes, 4, bytes.length);
+        } catch (NoSuchFileException e) {
+            // Array kosong menandakan snapshot belum ada (value kanonik tidak pernah kosong)
+            return new byte[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot tidak dapat dibaca: " + file, e);
+        }
+    }
+
+    private void write(String name, byte[] canonical) {
+        Path file = file(name);
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tempFile, ByteBuffer.allocate(4 + canonical.length).putInt(MAGIC).put(canonical).array());
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot tidak dapat ditulis: " + file, e);
+        }
+        loaded.put(name, canonical);
+    }
+}
@@ -0,0 +1,618 @@
+package com.api.automation.stub;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stub server HTTP in-process yang meniru endpoint JSONPlaceholder dan ReqRes.
+ * JSONPlaceholder dilayani di root ("/posts", "/users", "/comments") dan ReqRes di "/api"
+ * ("/api/users", "/api/login", "/api/register"), dengan bentuk payload yang sama dengan model Post dan User.
+ * Data disimpan di store in-memory yang concurrent. Seperti JSONPlaceholder, write (POST/PUT/DELETE)
+ * hanya di-echo dan tidak disimpan, kecuali server dibuat dengan persistWrites = true.
+ *
+ * Aktifkan untuk seluruh suite dengan -Dapi.stub=true.
+ */
+public class StubApiServer {
+
+    public static final String REQRES_CONTEXT = "/api";
+
+    private static final int SEED_POSTS = 100;
+    private static final int SEED_USERS = 10;
+    private static final int SEED_COMMENTS_PER_POST = 5;
+    private static final int REQRES_USERS = 12;
+    private static final int REQRES_PAGE_SIZE = 6;
+
+    private static StubApiServer shared;
+    
+    static {
+        // Tanpa TCP_NODELAY, response kecil tertahan Nagle + delayed ACK (~40 ms per request)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final ObjectMapper objectMapper = ModelMapper.get();
+    private final boolean persistWrites;
+    private final int requestedPort;
+
+    private final Map<String, Resource> resources = new HashMap<>();
+    private final Resource reqresUsers = new Resource();
+
+    private volatile int rateLimit;
+    private volatile int latencyMillis;
+    private volatile int slowEvery;
+    private volatile int slowMillis;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private long rateWindowSecond;
+    private int rateWindowCount;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param port Port yang dipakai (0 untuk port bebas acak)
+     * @param persistWrites true jika POST/PUT/DELETE benar-benar mengubah store
+     */
+    public StubApiServer(int port, boolean persistWrites) {
+        this.requestedPort = port;
+        this.persistWrites = persistWrites;
+        seedData();
+    }
+
+    /**
+     * Stub server dengan perilaku write seperti JSONPlaceholder (tidak disimpan)
+     * @param port Port yang dipakai (0 untuk port bebas acak)
+     */
+    public StubApiServer(int port) {
+        this(port, false);
+    }
+
+    /**
+     * Meniru throttling host publik: request melebihi batas per detik dijawab 429 dengan Retry-After: 1
+     * @param requestsPerSecond Batas request per detik (0 untuk tanpa batas)
+     * @return StubApiServer ini
+     */
+    public StubApiServer withRateLimit(int requestsPerSecond) {
+        this.rateLimit = requestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Meniru round trip ke host publik: setiap response ditunda sejumlah milidetik
+     * @param millis Latency per request (0 untuk tanpa latency)
+     * @return StubApiServer ini
+     */
+    public StubApiServer withLatency(int millis) {
+        this.latencyMillis = millis;
+        return this;
+    }
+
+    /**
+     * Meniru tail latency host publik: setiap request ke-N ditunda lebih lama dari yang lain
+     * @param every Interval request lambat (contoh: 10 = request ke-10, 20, ...; 0 untuk menonaktifkan)
+     * @param millis Tambahan latency untuk request lambat
+     * @return StubApiServer ini
+     */
+    public StubApiServer withTailLatency(int every, int millis) {
+        this.slowEvery = every;
+        this.slowMillis = millis;
+        return this;
+    }
+
+    /**
+     * Mendapatkan stub server bersama untuk seluruh suite (dibuat saat pertama kali dipakai)
+     * @return StubApiServer yang sudah berjalan
+     */
+    public static synchronized StubApiServer shared() {
+        if (shared == null) {
+            shared = new StubApiServer(ApiConfig.STUB_SERVER_PORT).withLatency(ApiConfig.STUB_LATENCY_MS).start();
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "stub-api-server-shutdown"));
+        }
+        return shared;
+    }
+
+    /**
+     * Menjalankan server
+     * @return StubApiServer ini
+     */
+    public synchronized StubApiServer start() {
+        if (server != null) {
+            return this;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", requestedPort), 1024);
+        } catch (IOException e) {
+            throw new IllegalStateException("Stub server tidak dapat dijalankan pada port " + requestedPort, e);
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(8, Runtime.getRuntime().availableProcessors() * 2), runnable -> {
+            Thread thread = new Thread(runnable, "stub-api-server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> handle(exchange, this::handleJsonPlaceholder));
+        server.createContext(REQRES_CONTEXT, exchange -> handle(exchange, this::handleReqRes));
+        server.start();
+        return this;
+    }
+
+    /**
+     * Menghentikan server
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getJsonPlaceholderBaseUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public String getReqResBaseUrl() {
+        return getJsonPlaceholderBaseUrl() + REQRES_CONTEXT;
+    }
+
+    /**
+     * Memetakan base URL publik dari ApiConfig ke base URL stub
+     * @param baseUri Base URI asli (contoh: ApiConfig.REQRES_BASE_URL)
+     * @return Base URI stub, atau baseUri asli jika host tidak diemulasikan
+     */
+    public String resolve(String baseUri) {
+        if (ApiConfig.JSONPLACEHOLDER_BASE_URL.equals(baseUri)) {
+            return getJsonPlaceholderBaseUrl();
+        }
+        if (ApiConfig.REQRES_BASE_URL.equals(baseUri)) {
+            return getReqResBaseUrl();
+        }
+        return baseUri;
+    }
+
+    // ===== Routing =====
+
+    private interface Handler {
+        Reply handle(String method, String[] segments, Map<String, String> query, JsonNode body);
+    }
+
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        int delay = latencyMillis;
+        int every = slowEvery;
+        if (every > 0 && requestCount.incrementAndGet() % every == 0) {
+            delay += slowMillis;
+        }
+        if (delay > 0) {
+            sleep(delay);
+        }
+        if (isRateLimited()) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            send(exchange, new Reply(429, error("Too Many Requests")));
+            return;
+        }
+        Reply reply;
+        try {
+            URI uri = exchange.getRequestURI();
+            String path = uri.getPath();
+            String contextPath = exchange.getHttpContext().getPath();
+            if (!"/".equals(contextPath)) {
+                path = path.substring(contextPath.length());
+            }
+            String[] segments = path.replaceAll("^/+|/+$", "").split("/+");
+            Map<String, String> query = parseQuery(uri.getRawQuery());
+            delay(query.remove("delay"));
+            reply = handler.handle(exchange.getRequestMethod(), segments, query, readBody(exchange));
+        } catch (IOException | RuntimeException e) {
+            reply = new Reply(ApiConfig.BAD_REQUEST, error(e.getMessage()));
+        }
+        send(exchange, reply);
+    }
+
+    private Reply handleJsonPlaceholder(String method, String[] segments, Map<String, String> query, JsonNode body) {
+        Resource resource = resources.get(segments[0]);
+        if (resource == null || segments.length > 3) {
+            return notFound();
+        }
+        if (segments.length == 1) {
+            switch (method) {
+                case "GET":
+                    return new Reply(ApiConfig.OK, resource.list(query));
+                case "POST":
+                    return new Reply(ApiConfig.CREATED, resource.create(body));
+                default:
+                    return notFound();
+            }
+        }
+
+        Integer id = parseId(segments[1]);
+        if (id == null || !resource.contains(id)) {
+            return notFound();
+        }
+        if (segments.length == 3) {
+            // Nested resource, contoh: /posts/1/comments
+            Resource nested = resources.get(segments[2]);
+            if (nested == null || !"GET".equals(method)) {
+                return notFound();
+            }
+            return new Reply(ApiConfig.OK, nested.list(Map.of(singular(segments[0]) + "Id", String.valueOf(id))));
+        }
+        switch (method) {
+            case "GET":
+                return new Reply(ApiConfig.OK, resource.get(id));
+            case "PUT":
+            case "PATCH":
+                return new Reply(ApiConfig.OK, resource.update(id, body, "PUT".equals(method)));
+            case "DELETE":
+                resource.delete(id);
+                return new Reply(ApiConfig.OK, objectMapper.createObjectNode());
+            default:
+                return notFound();
+        }
+    }
+
+    private Reply handleReqRes(String method, String[] segments, Map<String, String> query, JsonNode body) {
+        switch (segments[0]) {
+            case "users":
+                return handleReqResUsers(method, segments, query, body);
+            case "login":
+                return "POST".equals(method) ? login(body, false) : notFound();
+            case "register":
+                return "POST".equals(method) ? login(body, true) : notFound();
+            default:
+                return notFound();
+        }
+    }
+
+    private Reply handleReqResUsers(String method, String[] segments, Map<String, String> query, JsonNode body) {
+        if (segments.length == 1) {
+            if ("GET".equals(method)) {
+                return new Reply(ApiConfig.OK, reqresPage(query));
+            }
+            if ("POST".equals(method)) {
+                ObjectNode created = body.isObject() ? ((ObjectNode) body).deepCopy() : objectMapper.createObjectNode();
+                created.put("id", String.valueOf(reqresUsers.nextId()));
+                created.put("createdAt", Instant.now().toString());
+                return new Reply(ApiConfig.CREATED, created);
+            }
+            return notFound();
+        }
+
+        Integer id = parseId(segments[1]);
+        switch (method) {
+            case "GET":
+                if (id == null || !reqresUsers.contains(id)) {
+                    ObjectNode empty = objectMapper.createObjectNode();
+                    empty.putNull("data");
+                    return new Reply(ApiConfig.NOT_FOUND, empty);
+                }
+                ObjectNode single = objectMapper.createObjectNode();
+                single.set("data", reqresUsers.get(id));
+                single.set("support", reqresSupport());
+                return new Reply(ApiConfig.OK, single);
+            case "PUT":
+            case "PATCH":
+                ObjectNode updated = body.isObject() ? ((ObjectNode) body).deepCopy() : objectMapper.createObjectNode();
+                updated.put("updatedAt", Instant.now().toString());
+                return new Reply(ApiConfig.OK, updated);
+            case "DELETE":
+                return new Reply(ApiConfig.NO_CONTENT, null);
+            default:
+                return notFound();
+        }
+    }
+
+    private ObjectNode reqresPage(Map<String, String> query) {
+        int page = Math.max(1, parseIntOrDefault(query.get("page"), 1));
+        int perPage = Math.max(1, parseIntOrDefault(query.get("per_page"), REQRES_PAGE_SIZE));
+        ArrayNode all = reqresUsers.list(Map.of());
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("page", page);
+        result.put("per_page", perPage);
+        result.put("total", all.size());
+        result.put("total_pages", (all.size() + perPage - 1) / perPage);
+        ArrayNode data = result.putArray("data");
+        for (int i = (page - 1) * perPage; i < Math.min(all.size(), page * perPage); i++) {
+            data.add(all.get(i));
+        }
+        result.set("support", reqresSupport());
+        return result;
+    }
+
+    private Reply login(JsonNode body, boolean register) {
+        String email = body.path("email").asText(body.path("username").asText(""));
+        if (email.isEmpty()) {
+            return new Reply(ApiConfig.BAD_REQUEST, error("Missing email or username"));
+        }
+        if (body.path("password").asText("").isEmpty()) {
+            return new Reply(ApiConfig.BAD_REQUEST, error("Missing password"));
+        }
+        JsonNode user = reqresUsers.list(Map.of("email", email)).path(0);
+        if (user.isMissingNode()) {
+            return new Reply(ApiConfig.BAD_REQUEST,
+                    error(register ? "Note: Only defined users succeed registration" : "user not found"));
+        }
+        ObjectNode result = objectMapper.createObjectNode();
+        if (register) {
+            result.put("id", user.get("id").asInt());
+        }
+        result.put("token", "stub-token-" + user.get("id").asInt());
+        return new Reply(ApiConfig.OK, result);
+    }
+
+    // ===== Seed data =====
+
+    private void seedData() {
+        Resource users = new Resource();
+        for (int i = 1; i <= SEED_USERS; i++) {
+            User user = new User("User " + i, "user" + i, "user" + i + "@example.com");
+            user.setId(i);
+            user.setPhone("1-770-736-80" + String.format("%02d", i));
+            user.setWebsite("user" + i + ".example.org");
+            User.Geo geo = new User.Geo();
+            geo.setLat(String.valueOf(-37.3159 + i));
+            geo.setLng(String.valueOf(81.1496 + i));
+            User.Address address = new User.Address();
+            address.setStreet("Street " + i);
+            address.setSuite("Apt. " + (100 + i));
+            address.setCity("City " + (i % 3));
+            address.setZipcode("92998-38" + String.format("%02d", i));
+            address.setGeo(geo);
+            user.setAddress(address);
+            User.Company company = new User.Company();
+            company.setName("Company " + (i % 4));
+            company.setCatchPhrase("Catch phrase " + i);
+            company.setBs("bs " + i);
+            user.setCompany(company);
+            users.put(i, objectMapper.valueToTree(user));
+        }
+
+        Resource posts = new Resource();
+        for (int i = 1; i <= SEED_POSTS; i++) {
+            Post post = new Post((i - 1) / (SEED_POSTS / SEED_USERS) + 1, "Post title " + i, "Post body " + i);
+            post.setId(i);
+            posts.put(i, objectMapper.valueToTree(post));
+        }
+
+        Resource comments = new Resource();
+        int commentId = 1;
+        for (int postId = 1; postId <= SEED_POSTS; postId++) {
+            for (int j = 0; j < SEED_COMMENTS_PER_POST; j++, commentId++) {
+                ObjectNode comment = objectMapper.createObjectNode();
+                comment.put("postId", postId);
+                comment.put("id", commentId);
+                comment.put("name", "Comment " + commentId);
+                comment.put("email", "commenter" + commentId + "@example.com");
+                comment.put("body", "Comment body " + commentId);
+                comments.put(commentId, comment);
+            }
+        }
+
+        resources.put("users", users);
+        resources.put("posts", posts);
+        resources.put("comments", comments);
+
+        for (int i = 1; i <= REQRES_USERS; i++) {
+            ObjectNode user = objectMapper.createObjectNode();
+            user.put("id", i);
+            user.put("email", "user" + i + "@reqres.in");
+            user.put("first_name", "First" + i);
+            user.put("last_name", "Last" + i);
+            user.put("avatar", "https://reqres.in/img/faces/" + i + "-image.jpg");
+            reqresUsers.put(i, user);
+        }
+    }
+
+    // ===== Helpers =====
+
+    private ObjectNode reqresSupport() {
+        ObjectNode support = objectMapper.createObjectNode();
+        support.put("url", "https://reqres.in/#support-heading");
+        support.put("text", "Stub server response");
+        return support;
+    }
+
+    private ObjectNode error(String message) {
+        ObjectNode error = objectMapper.createObjectNode();
+        error.put("error", message);
+        return error;
+    }
+
+    private Reply notFound() {
+        return new Reply(ApiConfig.NOT_FOUND, objectMapper.createObjectNode());
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            return bytes.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(bytes);
+        }
+    }
+
+    private void send(HttpExchange exchange, Reply reply) throws IOException {
+        if (reply.body == null) {
+            exchange.sendResponseHeaders(reply.status, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(reply.body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(reply.status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Fixed window per detik untuk withRateLimit
+     */
+    private synchronized boolean isRateLimited() {
+        if (rateLimit <= 0) {
+            return false;
+        }
+        long second = System.nanoTime() / 1_000_000_000L;
+        if (second != rateWindowSecond) {
+            rateWindowSecond = second;
+            rateWindowCount = 0;
+        }
+        return ++rateWindowCount > rateLimit;
+    }
+
+    /**
+     * Menunda response sesuai parameter ?delay=N (detik), seperti ReqRes
+     */
+    private static void delay(String seconds) {
+        if (seconds == null) {
+            return;
+        }
+        sleep((long) (Double.parseDouble(seconds) * 1000));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            query.put(key, value);
+        }
+        return query;
+    }
+
+    private static Integer parseId(String segment) {
+        try {
+            return Integer.valueOf(segment);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int parseIntOrDefault(String value, int defaultValue) {
+        Integer parsed = value == null ? null : parseId(value);
+        return parsed == null ? defaultValue : parsed;
+    }
+
+    private static String singular(String resource) {
+        return resource.endsWith("s") ? resource.substring(0, resource.length() - 1) : resource;
+    }
+
+    private static class Reply {
+        private final int status;
+        private final JsonNode body;
+
+        Reply(int status, JsonNode body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Store in-memory untuk satu resource. Node yang tersimpan tidak pernah dimodifikasi
+     * (update mengganti node), sehingga aman dibaca bersamaan oleh banyak thread.
+     */
+    private class Resource {
+        private final ConcurrentSkipListMap<Integer, ObjectNode> items = new ConcurrentSkipListMap<>();
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        void put(int id, ObjectNode node) {
+            items.put(id, node);
+            sequence.accumulateAndGet(id, Math::max);
+        }
+
+        boolean contains(int id) {
+            return items.containsKey(id);
+        }
+
+        ObjectNode get(int id) {
+            return items.get(id);
+        }
+
+        int nextId() {
+            return persistWrites ? sequence.incrementAndGet() : sequence.get() + 1;
+        }
+
+        ArrayNode list(Map<String, String> filters) {
+            ArrayNode result = objectMapper.createArrayNode();
+            for (ObjectNode item : items.values()) {
+                boolean matches = true;
+                for (Map.Entry<String, String> filter : filters.entrySet()) {
+                    if (!filter.getValue().equals(item.path(filter.getKey()).asText(null))) {
+                        matches = false;
+                        break;
+                    }
+                }
+                if (matches) {
+                    result.add(item);
+                }
+            }
+            return result;
+        }
+
+        ObjectNode create(JsonNode body) {
+            ObjectNode created = body.isObject() ? ((ObjectNode) body).deepCopy() : objectMapper.createObjectNode();
+            int id = nextId();
+            created.put("id", id);
+            if (persistWrites) {
+                items.put(id, created);
+            }
+            return created;
+        }
+
+        ObjectNode update(int id, JsonNode body, boolean replace) {
+            ObjectNode updated = replace ? objectMapper.createObjectNode() : items.get(id).deepCopy();
+            if (body.isObject()) {
+                updated.setAll((ObjectNode) body);
+            }
+            updated.put("id", id);
+            if (persistWrites) {
+                items.put(id, updated);
+            }
+            return updated;
+        }
+
+        void delete(int id) {
+            if (persistWrites) {
+                items.remove(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.api.automation.utils;
+
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Filter yang memasang socket timeout per request dari AdaptiveTimeouts dan mencatat latency-nya.
+ * Request yang timeout dicatat dengan nilai timeout-nya, sehingga endpoint yang memang melambat
+ * perlahan mendapatkan timeout yang lebih longgar.
+ */
+public class AdaptiveTimeoutFilter implements OrderedFilter {
+
+    private final AdaptiveTimeouts timeouts;
+
+    public AdaptiveTimeoutFilter(AdaptiveTimeouts timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String endpoint = AdaptiveTimeouts.endpointKey(requestSpec.getMethod(), requestSpec.getURI());
+        int timeoutMillis = timeouts.timeoutMillis(endpoint);
+        RestAssuredConfig config = requestSpec.getConfig();
+        requestSpec.config(config.httpClient(config.getHttpClientConfig()
+                .setParam("http.socket.timeout", timeoutMillis)));
+
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            timeouts.record(endpoint, System.nanoTime() - start);
+            return response;
+        } catch (Exception e) {
+            // REST Assured melempar IOException (termasuk SocketTimeoutException) tanpa membungkusnya
+            if (e instanceof SocketTimeoutException) {
+                timeouts.record(endpoint, System.nanoTime() - start);
+                e.addSuppressed(new TimeoutException("Adaptive timeout " + timeoutMillis + " ms untuk " + endpoint));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // Sedekat mungkin dengan pengiriman request, tetapi sebelum VcrFilter
+        return LOWEST_PRECEDENCE - 1;
+    }
+}
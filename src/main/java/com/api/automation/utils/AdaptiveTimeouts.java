@@ -0,0 +1,256 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Socket timeout per endpoint yang diturunkan dari latency historis endpoint tersebut.
+ *
+ * Setiap endpoint (method + host + path dengan segment angka dinormalisasi menjadi {id}) menyimpan
+ * rolling window latency terakhir. Timeout = percentile (default p99.9) x factor, dibatasi floor dan ceiling.
+ * Selama sampel belum cukup, ceiling (DEFAULT_TIMEOUT) yang dipakai. Window disimpan ke file saat JVM
+ * berhenti dan dimuat lagi di run berikutnya, sehingga request yang macet ke endpoint yang biasanya
+ * 50 ms gagal dalam sekitar satu detik, bukan 30 detik.
+ */
+public class AdaptiveTimeouts {
+
+    private static final int RECOMPUTE_INTERVAL = 16;
+
+    private static AdaptiveTimeouts shared;
+
+    private final Path stateFile;
+    private final double percentile;
+    private final double factor;
+    private final int floorMillis;
+    private final int ceilingMillis;
+    private final int minSamples;
+    private final int windowSize;
+    private final ConcurrentHashMap<String, Window> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param stateFile File untuk menyimpan window antar run (null jika tidak disimpan)
+     * @param percentile Percentile latency yang dipakai (contoh: 99.9)
+     * @param factor Pengali percentile
+     * @param floorMillis Timeout minimal
+     * @param ceilingMillis Timeout maksimal, juga dipakai selama sampel belum cukup
+     * @param minSamples Jumlah sampel minimal sebelum timeout diturunkan dari history
+     * @param windowSize Jumlah latency terakhir yang disimpan per endpoint
+     */
+    public AdaptiveTimeouts(Path stateFile, double percentile, double factor, int floorMillis,
+                            int ceilingMillis, int minSamples, int windowSize) {
+        if (floorMillis > ceilingMillis || windowSize < 1) {
+            throw new IllegalArgumentException("floorMillis harus <= ceilingMillis dan windowSize >= 1");
+        }
+        this.stateFile = stateFile;
+        this.percentile = percentile;
+        this.factor = factor;
+        this.floorMillis = floorMillis;
+        this.ceilingMillis = ceilingMillis;
+        this.minSamples = minSamples;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Mendapatkan tracker bersama sesuai ApiConfig; state dari run sebelumnya dimuat saat pertama kali dipakai
+     * @return AdaptiveTimeouts untuk seluruh suite
+     */
+    public static synchronized AdaptiveTimeouts shared() {
+        if (shared == null) {
+            shared = new AdaptiveTimeouts(Paths.get(ApiConfig.TIMEOUT_STATE_FILE), ApiConfig.TIMEOUT_PERCENTILE,
+                    ApiConfig.TIMEOUT_FACTOR, ApiConfig.TIMEOUT_FLOOR_MS, ApiConfig.TIMEOUT_CEILING_MS,
+                    ApiConfig.TIMEOUT_MIN_SAMPLES, ApiConfig.TIMEOUT_WINDOW);
+            shared.load();
+            AdaptiveTimeouts tracker = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    tracker.save();
+                } catch (UncheckedIOException e) {
+                    System.err.println("State adaptive timeout tidak dapat disimpan: " + e.getMessage());
+                }
+            }, "adaptive-timeouts-save"));
+        }
+        return shared;
+    }
+
+    /**
+     * Membuat key endpoint dari method dan URI
+     * @param method HTTP method
+     * @param uri URI lengkap (query diabaikan)
+     * @return Key endpoint (contoh: "GET jsonplaceholder.typicode.com/posts/{id}")
+     */
+    public static String endpointKey(String method, String uri) {
+        URI parsed = URI.create(uri);
+        StringBuilder key = new StringBuilder(method.toUpperCase()).append(' ').append(parsed.getHost());
+        // Port loopback diabaikan: StubApiServer memakai port acak di setiap run
+        if (parsed.getPort() != -1 && !isLoopback(parsed.getHost())) {
+            key.append(':').append(parsed.getPort());
+        }
+        String path = parsed.getRawPath() == null ? "" : parsed.getRawPath();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            key.append('/').append(segment.chars().allMatch(Character::isDigit) ? "{id}" : segment);
+        }
+        return key.toString();
+    }
+
+    /**
+     * @param host Host dari URI
+     * @return true jika host adalah loopback (StubApiServer lokal)
+     */
+    public static boolean isLoopback(String host) {
+        return "localhost".equals(host) || "127.0.0.1".equals(host) || "[::1]".equals(host);
+    }
+
+    /**
+     * Mendapatkan socket timeout untuk endpoint
+     * @param endpoint Key dari endpointKey
+     * @return Timeout dalam milidetik
+     */
+    public int timeoutMillis(String endpoint) {
+        Window window = endpoints.get(endpoint);
+        return window == null ? ceilingMillis : window.timeoutMillis();
+    }
+
+    /**
+     * Mencatat latency satu request
+     * @param endpoint Key dari endpointKey
+     * @param nanos Latency dalam nanodetik
+     */
+    public void record(String endpoint, long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        endpoints.computeIfAbsent(endpoint, key -> new Window()).add((int) Math.min(Integer.MAX_VALUE, micros));
+    }
+
+    /**
+     * @return Jumlah sampel di window endpoint
+     */
+    public int getSampleCount(String endpoint) {
+        Window window = endpoints.get(endpoint);
+        return window == null ? 0 : window.size();
+    }
+
+    /**
+     * Memuat window dari state file (jika ada)
+     */
+    public synchronized void load() {
+        if (stateFile == null || !Files.exists(stateFile)) {
+            return;
+        }
+        Properties state = new Properties();
+        try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+            state.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("State adaptive timeout tidak dapat dibaca: " + stateFile, e);
+        }
+        for (String endpoint : state.stringPropertyNames()) {
+            Window window = endpoints.computeIfAbsent(endpoint, key -> new Window());
+            for (String micros : state.getProperty(endpoint).split(",")) {
+                if (!micros.isEmpty()) {
+                    window.add(Integer.parseInt(micros));
+                }
+            }
+        }
+    }
+
+    /**
+     * Menyimpan window semua endpoint ke state file
+     */
+    public synchronized void save() {
+        if (stateFile == null) {
+            return;
+        }
+        Properties state = new Properties();
+        endpoints.forEach((endpoint, window) -> state.setProperty(endpoint, window.serialize()));
+        try {
+            Path parent = stateFile.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tempFile = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                state.store(writer, "Latency window per endpoint (microseconds), dipakai AdaptiveTimeouts");
+            }
+            Files.move(tempFile, stateFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("State adaptive timeout tidak dapat ditulis: " + stateFile, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        new TreeMap<>(endpoints).forEach((endpoint, window) -> sb.append(String.format("%s: samples=%d, timeout=%dms%n",
+                endpoint, window.size(), window.timeoutMillis())));
+        return sb.toString();
+    }
+
+    /**
+     * Rolling window latency (mikrodetik) untuk satu endpoint
+     */
+    private final class Window {
+        private final int[] samples = new int[windowSize];
+        private int count;
+        private int next;
+        private int sinceRecompute;
+        private int cachedTimeout = -1;
+
+        synchronized void add(int micros) {
+            samples[next] = micros;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (++sinceRecompute >= RECOMPUTE_INTERVAL || count <= minSamples) {
+                cachedTimeout = -1;
+            }
+        }
+
+        synchronized int size() {
+            return count;
+        }
+
+        synchronized int timeoutMillis() {
+            if (cachedTimeout < 0) {
+                cachedTimeout = compute();
+                sinceRecompute = 0;
+            }
+            return cachedTimeout;
+        }
+
+        private int compute() {
+            if (count < minSamples) {
+                return ceilingMillis;
+            }
+            int[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int rank = (int) Math.min(count - 1, Math.max(0, Math.ceil(percentile / 100.0 * count) - 1));
+            double timeout = sorted[rank] / 1000.0 * factor;
+            return (int) Math.max(floorMillis, Math.min(ceilingMillis, Math.ceil(timeout)));
+        }
+
+        synchronized String serialize() {
+            // Urutan kronologis (terlama lebih dulu) agar sampel terbaru tetap di akhir window saat dimuat
+            StringJoiner joiner = new StringJoiner(",");
+            int start = count < samples.length ? 0 : next;
+            for (int i = 0; i < count; i++) {
+                joiner.add(Integer.toString(samples[(start + i) % samples.length]));
+            }
+            return joiner.toString();
+        }
+    }
+}
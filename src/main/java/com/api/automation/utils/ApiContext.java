@@ -0,0 +1,70 @@
+package com.api.automation.utils;
+
+import io.restassured.specification.RequestSpecification;
+
+/**
+ * Konteks API per test class yang menyimpan base URI sendiri.
+ * Base URI dipasang langsung pada setiap RequestSpecification sehingga tidak mengubah
+ * RestAssured.baseURI global, dan beberapa test class dapat berjalan paralel ke host berbeda.
+ */
+public class ApiContext {
+    
+    private final String baseUri;
+    
+    ApiContext(String baseUri) {
+        if (baseUri == null || baseUri.isEmpty()) {
+            throw new IllegalArgumentException("Base URI tidak boleh kosong");
+        }
+        this.baseUri = baseUri;
+    }
+    
+    public String getBaseUri() { return baseUri; }
+    
+    /**
+     * Mendapatkan RequestSpecification dengan logging untuk base URI konteks ini
+     * @return RequestSpecification dengan logging enabled
+     */
+    public RequestSpecification getRequestSpec() {
+        return RequestSpecRegistry.newSpec(baseUri, true, null);
+    }
+    
+    /**
+     * Mendapatkan RequestSpecification tanpa logging (untuk performance tests)
+     * @return RequestSpecification tanpa logging
+     */
+    public RequestSpecification getRequestSpecWithoutLogging() {
+        return RequestSpecRegistry.newSpec(baseUri, false, null);
+    }
+    
+    /**
+     * Mendapatkan RequestSpecification dengan logging dan Bearer token
+     * @param authToken Bearer token untuk header Authorization
+     * @return RequestSpecification dengan logging dan auth
+     */
+    public RequestSpecification getAuthenticatedRequestSpec(String authToken) {
+        return RequestSpecRegistry.newSpec(baseUri, true, authToken);
+    }
+    
+    /**
+     * Mendapatkan RequestSpecification dengan logging yang GET-nya boleh dilayani dari ResponseCache.
+     * Cocok untuk request setup/pembanding yang sering diulang (contoh: GET /users/1);
+     * POST/PUT/PATCH/DELETE ke resource yang sama otomatis menghapus entry cache
+     * @return RequestSpecification dengan logging dan cache
+     */
+    public RequestSpecification getCachedRequestSpec() {
+        return RequestSpecRegistry.newSpec(baseUri, true, null).filter(ResponseCache.cached());
+    }
+    
+    /**
+     * Mendapatkan client non-blocking untuk base URI konteks ini
+     * @return AsyncApiClient untuk base URI ini
+     */
+    public AsyncApiClient asyncClient() {
+        return new AsyncApiClient(baseUri);
+    }
+    
+    @Override
+    public String toString() {
+        return "ApiContext{baseUri='" + baseUri + "'}";
+    }
+}
@@ -0,0 +1,228 @@
+package com.api.automation.utils;
+
+import com.api.automation.json.ModelMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics per endpoint (method + template path, lihat AdaptiveTimeouts.endpointKey) untuk seluruh run:
+ * jumlah request, distribusi status code, bytes masuk/keluar dan histogram latency.
+ *
+ * Semua counter memakai LongAdder (striped, tanpa lock) sehingga pencatatan dari banyak thread tidak
+ * saling menunggu. Key endpoint untuk URI yang sudah pernah dilihat diambil dari cache agar URI tidak
+ * di-parse ulang di setiap request.
+ */
+public class ApiMetrics {
+
+    private static final int MAX_CACHED_URIS = 10_000;
+    private static final int MAX_STATUS_CODE = 600;
+
+    private static final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, EndpointStats> byRequest = new ConcurrentHashMap<>();
+
+    /**
+     * Mencatat satu request
+     * @param method HTTP method
+     * @param uri URI lengkap
+     * @param statusCode Status code response (0 jika request gagal tanpa response)
+     * @param bytesOut Ukuran body request
+     * @param bytesIn Ukuran body response
+     * @param nanos Latency dalam nanodetik
+     */
+    public static void record(String method, String uri, int statusCode, long bytesOut, long bytesIn, long nanos) {
+        endpoint(method, uri).record(statusCode, bytesOut, bytesIn, nanos);
+    }
+
+    /**
+     * Mendapatkan statistik endpoint untuk request (dibuat jika belum ada)
+     * @param method HTTP method
+     * @param uri URI lengkap
+     * @return EndpointStats
+     */
+    public static EndpointStats endpoint(String method, String uri) {
+        String requestKey = method + ' ' + uri;
+        EndpointStats stats = byRequest.get(requestKey);
+        if (stats == null) {
+            stats = endpoints.computeIfAbsent(AdaptiveTimeouts.endpointKey(method, uri), EndpointStats::new);
+            if (byRequest.size() < MAX_CACHED_URIS) {
+                byRequest.put(requestKey, stats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * @param endpoint Key endpoint (contoh: "GET jsonplaceholder.typicode.com/posts/{id}")
+     * @return EndpointStats, atau null jika belum ada request ke endpoint tersebut
+     */
+    public static EndpointStats get(String endpoint) {
+        return endpoints.get(endpoint);
+    }
+
+    /**
+     * @return Statistik semua endpoint, diurutkan dari p99 latency tertinggi
+     */
+    public static List<EndpointStats> getEndpoints() {
+        List<EndpointStats> sorted = new ArrayList<>(endpoints.values());
+        sorted.sort(Comparator.comparingLong((EndpointStats stats) -> stats.getLatency().getValueAtPercentile(99)).reversed());
+        return sorted;
+    }
+
+    /**
+     * Menghapus satu endpoint dari metrics (contoh: endpoint sintetis dari benchmark)
+     * @param endpoint Key endpoint
+     */
+    public static void remove(String endpoint) {
+        EndpointStats removed = endpoints.remove(endpoint);
+        if (removed != null) {
+            byRequest.values().removeIf(stats -> stats == removed);
+        }
+    }
+
+    /**
+     * Menghapus semua metrics
+     */
+    public static void reset() {
+        byRequest.clear();
+        endpoints.clear();
+    }
+
+    /**
+     * Membuat ringkasan JSON dari semua endpoint
+     * @return ObjectNode berisi generatedAt dan daftar endpoints
+     */
+    public static ObjectNode toJson() {
+        ObjectNode summary = ModelMapper.get().createObjectNode();
+        summary.put("generatedAt", Instant.now().toString());
+        ArrayNode list = summary.putArray("endpoints");
+        for (EndpointStats stats : getEndpoints()) {
+            list.add(stats.toJson());
+        }
+        return summary;
+    }
+
+    /**
+     * Menulis ringkasan JSON ke file
+     * @param file Lokasi file (contoh: build/api-metrics.json)
+     * @return Bytes JSON yang ditulis
+     */
+    public static byte[] writeSummary(Path file) {
+        byte[] json;
+        try {
+            json = ModelMapper.get().writerWithDefaultPrettyPrinter().writeValueAsBytes(toJson());
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ringkasan metrics tidak dapat ditulis: " + file, e);
+        }
+        return json;
+    }
+
+    /**
+     * Statistik untuk satu endpoint
+     */
+    public static class EndpointStats {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        // Index = status code; 0 dipakai untuk request tanpa response
+        private final AtomicReferenceArray<LongAdder> statusCodes = new AtomicReferenceArray<>(MAX_STATUS_CODE);
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+
+        void record(int statusCode, long requestBytes, long responseBytes, long nanos) {
+            count.increment();
+            if (statusCode <= 0 || statusCode >= 400) {
+                failures.increment();
+            }
+            statusCounter(statusCode).increment();
+            if (requestBytes > 0) {
+                bytesOut.add(requestBytes);
+            }
+            if (responseBytes > 0) {
+                bytesIn.add(responseBytes);
+            }
+            latency.record(nanos);
+        }
+
+        private LongAdder statusCounter(int statusCode) {
+            int index = statusCode > 0 && statusCode < MAX_STATUS_CODE ? statusCode : 0;
+            LongAdder counter = statusCodes.get(index);
+            if (counter == null) {
+                statusCodes.compareAndSet(index, null, new LongAdder());
+                counter = statusCodes.get(index);
+            }
+            return counter;
+        }
+
+        public String getName() { return name; }
+        public long getCount() { return count.sum(); }
+        public long getFailures() { return failures.sum(); }
+        public long getBytesOut() { return bytesOut.sum(); }
+        public long getBytesIn() { return bytesIn.sum(); }
+        public LatencyHistogram getLatency() { return latency; }
+
+        /**
+         * @return Jumlah request per status code (0 = tanpa response), terurut
+         */
+        public Map<Integer, Long> getStatusCodes() {
+            Map<Integer, Long> distribution = new TreeMap<>();
+            for (int i = 0; i < MAX_STATUS_CODE; i++) {
+                LongAdder counter = statusCodes.get(i);
+                if (counter != null) {
+                    distribution.put(i, counter.sum());
+                }
+            }
+            return distribution;
+        }
+
+        ObjectNode toJson() {
+            ObjectNode json = ModelMapper.get().createObjectNode();
+            json.put("endpoint", name);
+            json.put("count", getCount());
+            json.put("failures", getFailures());
+            ObjectNode statuses = json.putObject("statusCodes");
+            getStatusCodes().forEach((status, total) -> statuses.put(String.valueOf(status), total));
+            json.put("bytesOut", getBytesOut());
+            json.put("bytesIn", getBytesIn());
+            ObjectNode latencyMillis = json.putObject("latencyMs");
+            latencyMillis.put("mean", round(latency.getMeanNanos() / TimeUnit.MILLISECONDS.toNanos(1)));
+            latencyMillis.put("p50", round(latency.getValueAtPercentile(50, TimeUnit.MILLISECONDS)));
+            latencyMillis.put("p90", round(latency.getValueAtPercentile(90, TimeUnit.MILLISECONDS)));
+            latencyMillis.put("p99", round(latency.getValueAtPercentile(99, TimeUnit.MILLISECONDS)));
+            latencyMillis.put("p999", round(latency.getValueAtPercentile(99.9, TimeUnit.MILLISECONDS)));
+            latencyMillis.put("max", round((double) latency.getMaxNanos() / TimeUnit.MILLISECONDS.toNanos(1)));
+            return json;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 1000) / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: failures=%d, status=%s, out=%dB, in=%dB, %s",
+                    name, getFailures(), getStatusCodes(), getBytesOut(), getBytesIn(), latency);
+        }
+    }
+}
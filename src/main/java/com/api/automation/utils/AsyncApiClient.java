@@ -0,0 +1,186 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelMapper;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client API non-blocking sebagai alternatif REST Assured untuk soak/load test.
+ * Request dikirim dengan java.net.http.HttpClient#sendAsync sehingga request yang sedang
+ * berjalan tidak menahan thread; hasilnya berupa CompletableFuture yang bisa dirangkai
+ * atau ditunggu dari virtual thread.
+ */
+public class AsyncApiClient {
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(ApiConfig.CONNECTION_TIMEOUT))
+            .executor(newTaskExecutor())
+            .build();
+
+    private final String baseUri;
+
+    public AsyncApiClient(String baseUri) {
+        if (baseUri == null || baseUri.isEmpty()) {
+            throw new IllegalArgumentException("Base URI tidak boleh kosong");
+        }
+        this.baseUri = baseUri;
+    }
+
+    public String getBaseUri() { return baseUri; }
+
+    /**
+     * Mengirim GET request secara asynchronous
+     * @param path Endpoint (contoh: ApiConfig.POSTS_ENDPOINT + "/1")
+     * @return Future yang selesai ketika response diterima
+     */
+    public CompletableFuture<ApiResponse> get(String path) {
+        return send(newRequest(path).GET());
+    }
+
+    /**
+     * Mengirim POST request dengan body model (Post, User, dll.) sebagai JSON
+     * @param path Endpoint
+     * @param body Object yang akan di-serialize ke JSON, atau byte[] berisi JSON siap kirim
+     * @return Future yang selesai ketika response diterima
+     */
+    public CompletableFuture<ApiResponse> post(String path, Object body) {
+        return send(newRequest(path).POST(jsonBody(body)));
+    }
+
+    /**
+     * Mengirim PUT request dengan body model sebagai JSON
+     * @param path Endpoint
+     * @param body Object yang akan di-serialize ke JSON, atau byte[] berisi JSON siap kirim
+     * @return Future yang selesai ketika response diterima
+     */
+    public CompletableFuture<ApiResponse> put(String path, Object body) {
+        return send(newRequest(path).PUT(jsonBody(body)));
+    }
+
+    /**
+     * Mengirim DELETE request secara asynchronous
+     * @param path Endpoint
+     * @return Future yang selesai ketika response diterima
+     */
+    public CompletableFuture<ApiResponse> delete(String path) {
+        return send(newRequest(path).DELETE());
+    }
+
+    /**
+     * Mengirim GET request dan langsung mengubah body menjadi model
+     * @param path Endpoint
+     * @param type Class model (contoh: Post.class, User[].class)
+     * @return Future berisi model hasil deserialisasi
+     */
+    public <T> CompletableFuture<T> getAs(String path, Class<T> type) {
+        return get(path).thenApply(response -> response.as(type));
+    }
+
+    /**
+     * Membuat executor untuk menjalankan banyak task API secara bersamaan.
+     * Memakai virtual thread per task jika runtime mendukung (Java 21+),
+     * jika tidak memakai cached thread pool berisi daemon thread.
+     * @return ExecutorService untuk task API
+     */
+    public static ExecutorService newTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "async-api-client");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+                .timeout(Duration.ofSeconds(ApiConfig.DEFAULT_TIMEOUT))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private CompletableFuture<ApiResponse> send(HttpRequest.Builder request) {
+        HttpRequest httpRequest = request.build();
+        // Buffer diambil di thread pemanggil karena response diproses di thread executor HttpClient
+        RequestLogBuffer log = RequestLogBuffer.isEnabled() ? RequestLogBuffer.current() : null;
+        Instant timestamp = Instant.now();
+        long startNanos = System.nanoTime();
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    long durationNanos = System.nanoTime() - startNanos;
+                    if (log != null) {
+                        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+                        log.add(new RequestLogBuffer.Entry(timestamp, httpRequest.method(), httpRequest.uri().toString(),
+                                null, null, protocol + " " + response.statusCode(), null, response.body(),
+                                TimeUnit.NANOSECONDS.toMillis(durationNanos)));
+                    }
+                    return new ApiResponse(response.statusCode(), response.body(), durationNanos, response.version());
+                });
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(Object body) {
+        // byte[] dianggap sudah berupa JSON (contoh: UserDataset.jsonBodies())
+        byte[] json = body instanceof byte[] ? (byte[]) body : ModelMapper.write(body);
+        return HttpRequest.BodyPublishers.ofByteArray(json);
+    }
+
+    /**
+     * Response dari AsyncApiClient
+     */
+    public static class ApiResponse {
+        private final int statusCode;
+        private final byte[] body;
+        private final long durationNanos;
+        private final HttpClient.Version version;
+
+        public ApiResponse(int statusCode, byte[] body, long durationNanos) {
+            this(statusCode, body, durationNanos, HttpClient.Version.HTTP_1_1);
+        }
+
+        public ApiResponse(int statusCode, byte[] body, long durationNanos, HttpClient.Version version) {
+            this.statusCode = statusCode;
+            this.body = body;
+            this.durationNanos = durationNanos;
+            this.version = version;
+        }
+
+        public int getStatusCode() { return statusCode; }
+        public byte[] getBody() { return body; }
+        public long getDurationNanos() { return durationNanos; }
+        public HttpClient.Version getVersion() { return version; }
+
+        /**
+         * Mengubah body response menjadi model
+         * @param type Class model (contoh: Post.class, User[].class)
+         * @return Object hasil deserialisasi
+         */
+        public <T> T as(Class<T> type) {
+            return ModelMapper.read(body, type);
+        }
+
+        @Override
+        public String toString() {
+            return "ApiResponse{" +
+                    "statusCode=" + statusCode +
+                    ", bodyLength=" + body.length +
+                    ", durationNanos=" + durationNanos +
+                    ", version=" + version +
+                    '}';
+        }
+    }
+}
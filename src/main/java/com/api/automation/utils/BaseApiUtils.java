@@ -3,10 +3,16 @@ package com.api.automation.utils;
 import io.restassured.RestAssured;
 import io.restassured.config.HttpClientConfig;
 import io.restassured.config.RestAssuredConfig;
-import io.restassured.filter.log.RequestLoggingFilter;
-import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.specification.RequestSpecification;
 import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.stub.StubApiServer;
+import com.api.automation.vcr.Cassette;
+import com.api.automation.vcr.VcrFilter;
+import com.api.automation.vcr.VcrMode;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 
 /**
  * Base class untuk setup REST Assured configuration
@@ -19,12 +25,48 @@ public class BaseApiUtils {
     
     /**
      * Setup konfigurasi dasar REST Assured
+     * Semua request memakai connection pool bersama dari ConnectionPoolManager
+     * dan ObjectMapper bersama dari ModelMapper.
+     * Socket timeout default (DEFAULT_TIMEOUT) diganti per request oleh AdaptiveTimeoutFilter
      */
     private static void setupRestAssured() {
         RestAssured.config = RestAssuredConfig.config()
                 .httpClient(HttpClientConfig.httpClientConfig()
                         .setParam("http.connection.timeout", ApiConfig.CONNECTION_TIMEOUT * 1000)
-                        .setParam("http.socket.timeout", ApiConfig.DEFAULT_TIMEOUT * 1000));
+                        .setParam("http.socket.timeout", ApiConfig.DEFAULT_TIMEOUT * 1000)
+                        .httpClientFactory(ConnectionPoolManager::createHttpClient))
+                .objectMapperConfig(ModelMapper.restAssuredConfig());
+        RestAssured.filters(new ConnectionReleaseFilter());
+        if (ApiConfig.CACHE_ENABLED) {
+            // Selalu dipasang agar write lewat spec manapun menghapus entry cache
+            RestAssured.filters(ResponseCache.shared());
+        }
+        
+        VcrMode vcrMode = VcrMode.fromString(ApiConfig.VCR_MODE);
+        // Saat replay tidak ada request ke network, jadi hedging, latency dan rate limit tidak berlaku
+        if (vcrMode != VcrMode.REPLAY) {
+            if (ApiConfig.HEDGE_ENABLED) {
+                RestAssured.filters(HedgingFilter.shared());
+            }
+            RestAssured.filters(new RateLimitFilter());
+            if (ApiConfig.METRICS_ENABLED) {
+                RestAssured.filters(new MetricsFilter());
+            }
+            if (ApiConfig.TIMEOUT_ADAPTIVE) {
+                RestAssured.filters(new AdaptiveTimeoutFilter(AdaptiveTimeouts.shared()));
+            }
+        }
+        if (vcrMode != VcrMode.PASSTHROUGH) {
+            Cassette cassette = new Cassette(Paths.get(ApiConfig.VCR_CASSETTE));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    cassette.close();
+                } catch (IOException e) {
+                    System.err.println("Cassette tidak dapat ditutup: " + e.getMessage());
+                }
+            }, "vcr-cassette-close"));
+            RestAssured.filters(new VcrFilter(cassette, vcrMode));
+        }
     }
     
     /**
@@ -32,11 +74,7 @@ public class BaseApiUtils {
      * @return RequestSpecification dengan logging enabled
      */
     public static RequestSpecification getRequestSpec() {
-        return RestAssured.given()
-                .filter(new RequestLoggingFilter())
-                .filter(new ResponseLoggingFilter())
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json");
+        return RequestSpecRegistry.newSpec(null, true, null);
     }
     
     /**
@@ -44,15 +82,38 @@ public class BaseApiUtils {
      * @return RequestSpecification tanpa logging
      */
     public static RequestSpecification getRequestSpecWithoutLogging() {
-        return RestAssured.given()
-                .header("Content-Type", "application/json")
-                .header("Accept", "application/json");
+        return RequestSpecRegistry.newSpec(null, false, null);
+    }
+    
+    /**
+     * Mendapatkan RequestSpecification dengan logging dan Bearer token
+     * @param authToken Bearer token untuk header Authorization
+     * @return RequestSpecification dengan logging dan auth
+     */
+    public static RequestSpecification getAuthenticatedRequestSpec(String authToken) {
+        return RequestSpecRegistry.newSpec(null, true, authToken);
+    }
+    
+    /**
+     * Membuat konteks API dengan base URI sendiri (aman untuk eksekusi paralel)
+     * Jika stub mode aktif (-Dapi.stub=true), host publik diarahkan ke StubApiServer lokal
+     * @param baseUri Base URI yang akan digunakan
+     * @return ApiContext untuk base URI tersebut
+     */
+    public static ApiContext forBaseUri(String baseUri) {
+        if (ApiConfig.USE_STUB_SERVER) {
+            return new ApiContext(StubApiServer.shared().resolve(baseUri));
+        }
+        return new ApiContext(baseUri);
     }
     
     /**
-     * Setup base URI untuk testing
+     * Setup base URI global untuk testing
      * @param baseUri Base URI yang akan digunakan
+     * @deprecated Mengubah RestAssured.baseURI global sehingga tidak aman untuk test paralel,
+     *             gunakan {@link #forBaseUri(String)}
      */
+    @Deprecated
     public static void setBaseUri(String baseUri) {
         RestAssured.baseURI = baseUri;
     }
@@ -0,0 +1,38 @@
+package com.api.automation.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Instant;
+
+/**
+ * Pengganti RequestLoggingFilter/ResponseLoggingFilter yang tidak menulis ke console.
+ * Setiap request/response disimpan ke RequestLogBuffer milik test yang sedang berjalan; log hanya dicetak
+ * (console dan attachment Allure) oleh extension test ketika test gagal atau tersampling.
+ */
+public class BufferedLoggingFilter implements Filter {
+    
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Instant timestamp = Instant.now();
+        Response response = ctx.next(requestSpec, responseSpec);
+        // Body streaming tidak dibaca agar tidak di-buffer ke memory
+        byte[] responseBody = JsonStreamReader.isStreaming(requestSpec) ? null : response.asByteArray();
+        RequestLogBuffer.current().add(new RequestLogBuffer.Entry(
+                timestamp,
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                requestSpec.getHeaders(),
+                requestSpec.getBody(),
+                response.getStatusLine(),
+                response.getHeaders(),
+                responseBody,
+                response.getTime()));
+        return response;
+    }
+}
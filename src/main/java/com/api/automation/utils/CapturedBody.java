@@ -0,0 +1,152 @@
+package com.api.automation.utils;
+
+import com.api.automation.json.ModelMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Body response yang di-capture ke disk oleh ResponseCapture.
+ * Semua pembacaan memakai memory-mapped view (read-only) atas file, sehingga isi body
+ * dibaca dari page cache OS dan tidak disalin ke heap sebagai byte[] atau String.
+ */
+public class CapturedBody {
+
+    private final String name;
+    private final Path path;
+    private final long size;
+    private final String contentType;
+    private volatile MappedByteBuffer mapped;
+
+    CapturedBody(String name, Path path, long size, String contentType) {
+        this.name = name;
+        this.path = path;
+        this.size = size;
+        this.contentType = contentType;
+    }
+
+    public String getName() { return name; }
+    public Path getPath() { return path; }
+    public long getSize() { return size; }
+    public String getContentType() { return contentType; }
+
+    /**
+     * Memory-mapped view read-only atas file capture (dibuat sekali, lalu dipakai bersama)
+     * @return Duplikat buffer dengan position 0, aman dipakai tanpa mengganggu pembaca lain
+     */
+    public ByteBuffer map() {
+        MappedByteBuffer view = mapped;
+        if (view == null) {
+            view = mapFile();
+        }
+        return view.duplicate();
+    }
+
+    /**
+     * @return InputStream di atas memory-mapped view; tidak perlu ditutup
+     */
+    public InputStream openStream() {
+        return new ByteBufferBackedInputStream(map());
+    }
+
+    /**
+     * Mengubah body menjadi model
+     * @param type Class model (contoh: Post.class, User[].class)
+     * @return Object hasil deserialisasi
+     */
+    public <T> T as(Class<T> type) {
+        try {
+            return ModelMapper.reader(type).readValue(openStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Body " + path + " tidak dapat dibaca sebagai " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * @return Body sebagai JsonNode tree
+     */
+    public JsonNode readTree() {
+        try {
+            return ModelMapper.get().readTree(openStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Body " + path + " bukan JSON yang valid", e);
+        }
+    }
+
+    /**
+     * Membaca JSON array satu elemen per satu (lihat JsonStreamReader)
+     * @param type Class model (contoh: Post.class)
+     * @return Stream elemen yang lazy
+     */
+    public <T> Stream<T> stream(Class<T> type) {
+        return JsonStreamReader.stream(openStream(), type);
+    }
+
+    /**
+     * Menjalankan action (contoh: assertion) untuk setiap elemen JSON array
+     * @param type Class model
+     * @param action Action per elemen
+     * @return Jumlah elemen yang dibaca
+     */
+    public <T> long forEach(Class<T> type, Consumer<? super T> action) {
+        return JsonStreamReader.forEach(openStream(), type, action);
+    }
+
+    /**
+     * Mencari teks (UTF-8) di body tanpa membuat String dari seluruh body
+     * @param text Teks yang dicari
+     * @return true jika body mengandung teks
+     */
+    public boolean contains(String text) {
+        byte[] needle = text.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer haystack = map();
+        int last = haystack.limit() - needle.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            for (int j = 0; j < needle.length; j++) {
+                if (haystack.get(i + j) != needle[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized MappedByteBuffer mapFile() {
+        if (mapped != null) {
+            return mapped;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Body " + path + " lebih dari 2 GB, baca lewat file secara langsung");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // Mapping tetap berlaku setelah channel ditutup
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Body capture tidak dapat dibaca: " + path, e);
+        }
+        return mapped;
+    }
+
+    @Override
+    public String toString() {
+        return "CapturedBody{" +
+                "name='" + name + '\'' +
+                ", path=" + path +
+                ", size=" + size +
+                ", contentType='" + contentType + '\'' +
+                '}';
+    }
+}
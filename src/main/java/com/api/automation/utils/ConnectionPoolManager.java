@@ -0,0 +1,259 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import org.apache.http.HttpHost;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.AbortableHttpRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Connection pool bersama untuk semua request REST Assured.
+ * Koneksi keep-alive dipakai ulang antar request sehingga handshake TCP/TLS
+ * tidak diulang untuk setiap test.
+ */
+@SuppressWarnings("deprecation") // REST Assured 5.x masih membutuhkan AbstractHttpClient (HttpClient 4.x API lama)
+public class ConnectionPoolManager {
+
+    private static final AtomicLong leaseRequests = new AtomicLong();
+    private static final AtomicLong openedConnections = new AtomicLong();
+
+    private static final PoolingClientConnectionManager connectionManager = createConnectionManager();
+
+    // Penerima request HTTP yang dikirim thread ini (lihat withRequestListener)
+    private static final ThreadLocal<Consumer<AbortableHttpRequest>> requestListener = new ThreadLocal<>();
+
+    static {
+        startIdleConnectionEvictor();
+    }
+
+    /**
+     * Membuat HttpClient baru yang memakai connection pool bersama.
+     * Dipakai sebagai HttpClientFactory oleh REST Assured.
+     * @return HttpClient yang terhubung ke pool
+     */
+    public static HttpClient createHttpClient() {
+        DefaultHttpClient client = new ListeningHttpClient();
+        client.setKeepAliveStrategy((response, context) -> ApiConfig.POOL_KEEP_ALIVE * 1000L);
+        return client;
+    }
+
+    /**
+     * Menjalankan action sambil menyerahkan setiap request HTTP yang dikirim thread ini ke listener,
+     * sehingga request yang sedang berjalan bisa di-abort dari thread lain (dipakai HedgingFilter)
+     * @param listener Penerima request (dipanggil sebelum koneksi di-lease dari pool)
+     * @param action Action yang mengirim request lewat REST Assured
+     * @return Hasil action
+     */
+    static <T> T withRequestListener(Consumer<AbortableHttpRequest> listener, Supplier<T> action) {
+        Consumer<AbortableHttpRequest> previous = requestListener.get();
+        requestListener.set(listener);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                requestListener.remove();
+            } else {
+                requestListener.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Mengatur batas koneksi untuk host tertentu
+     * @param baseUri Base URI host (contoh: ApiConfig.REQRES_BASE_URL)
+     * @param maxConnections Jumlah maksimal koneksi ke host tersebut
+     */
+    public static void setMaxConnectionsPerHost(String baseUri, int maxConnections) {
+        connectionManager.setMaxPerRoute(route(baseUri), maxConnections);
+    }
+
+    /**
+     * Mendapatkan batas koneksi untuk host tertentu
+     * @param baseUri Base URI host
+     * @return Jumlah maksimal koneksi ke host tersebut
+     */
+    public static int getMaxConnectionsPerHost(String baseUri) {
+        return connectionManager.getMaxPerRoute(route(baseUri));
+    }
+
+    private static HttpRoute route(String baseUri) {
+        URI uri = URI.create(baseUri);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        // Route dari HttpClient selalu memakai port eksplisit (port default scheme jika URI tanpa port)
+        int port = uri.getPort() != -1 ? uri.getPort() : secure ? 443 : 80;
+        return new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure);
+    }
+
+    /**
+     * Mendapatkan statistik connection pool saat ini
+     * @return Snapshot statistik pool
+     */
+    public static Stats getStats() {
+        PoolStats poolStats = connectionManager.getTotalStats();
+        return new Stats(poolStats.getLeased(), poolStats.getPending(), poolStats.getAvailable(),
+                poolStats.getMax(), leaseRequests.get(), openedConnections.get());
+    }
+
+    /**
+     * Menutup semua koneksi idle secara langsung
+     */
+    public static void evictIdleConnections() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(ApiConfig.POOL_IDLE_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    private static PoolingClientConnectionManager createConnectionManager() {
+        SchemeRegistry schemeRegistry = new SchemeRegistry();
+        schemeRegistry.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemeRegistry.register(new Scheme("https", 443, new SSLSocketFactory(createSslContext(),
+                SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER)));
+
+        PoolingClientConnectionManager manager = new CountingConnectionManager(schemeRegistry);
+        manager.setMaxTotal(ApiConfig.POOL_MAX_TOTAL);
+        manager.setDefaultMaxPerRoute(ApiConfig.POOL_MAX_PER_ROUTE);
+        return manager;
+    }
+
+    /**
+     * Satu SSLContext untuk semua koneksi agar TLS session dapat di-resume
+     */
+    private static SSLContext createSslContext() {
+        try {
+            SSLContext sslContext = SSLContext.getDefault();
+            sslContext.getClientSessionContext().setSessionCacheSize(ApiConfig.TLS_SESSION_CACHE_SIZE);
+            sslContext.getClientSessionContext().setSessionTimeout(ApiConfig.TLS_SESSION_TIMEOUT);
+            return sslContext;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Default SSLContext tidak tersedia", e);
+        }
+    }
+
+    private static void startIdleConnectionEvictor() {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "api-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(ConnectionPoolManager::evictIdleConnections,
+                ApiConfig.POOL_IDLE_TIMEOUT, ApiConfig.POOL_IDLE_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * HttpClient yang menyerahkan request ke listener thread ini sebelum eksekusi dimulai.
+     * Karena request sudah terpublikasi sebelum lease, abort() juga membatalkan request
+     * yang masih menunggu koneksi dari pool atau sedang connect.
+     */
+    private static class ListeningHttpClient extends DefaultHttpClient {
+
+        ListeningHttpClient() {
+            super(connectionManager);
+        }
+
+        @Override
+        public CloseableHttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+            Consumer<AbortableHttpRequest> listener = requestListener.get();
+            if (listener != null && request instanceof AbortableHttpRequest) {
+                listener.accept((AbortableHttpRequest) request);
+            }
+            return super.execute(request, context);
+        }
+    }
+
+    /**
+     * Pool manager yang menghitung jumlah lease dan koneksi baru yang dibuka
+     */
+    private static class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        CountingConnectionManager(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry, ApiConfig.POOL_KEEP_ALIVE, TimeUnit.SECONDS);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new DefaultClientConnectionOperator(schemeRegistry, new SystemDefaultDnsResolver()) {
+                @Override
+                public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                           HttpContext context, HttpParams params) throws IOException {
+                    openedConnections.incrementAndGet();
+                    super.openConnection(conn, target, local, context, params);
+                }
+            };
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            leaseRequests.incrementAndGet();
+            return super.requestConnection(route, state);
+        }
+    }
+
+    /**
+     * Snapshot statistik connection pool
+     */
+    public static class Stats {
+        private final int leased;
+        private final int pending;
+        private final int available;
+        private final int max;
+        private final long totalRequests;
+        private final long newConnections;
+
+        public Stats(int leased, int pending, int available, int max, long totalRequests, long newConnections) {
+            this.leased = leased;
+            this.pending = pending;
+            this.available = available;
+            this.max = max;
+            this.totalRequests = totalRequests;
+            this.newConnections = newConnections;
+        }
+
+        public int getLeased() { return leased; }
+        public int getPending() { return pending; }
+        public int getAvailable() { return available; }
+        public int getMax() { return max; }
+        public long getTotalRequests() { return totalRequests; }
+        public long getNewConnections() { return newConnections; }
+        public long getReusedConnections() { return totalRequests - newConnections; }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "leased=" + leased +
+                    ", pending=" + pending +
+                    ", available=" + available +
+                    ", max=" + max +
+                    ", totalRequests=" + totalRequests +
+                    ", newConnections=" + newConnections +
+                    ", reusedConnections=" + getReusedConnections() +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.automation.utils;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Filter yang membaca response body sampai habis agar koneksi dikembalikan ke pool.
+ * REST Assured tidak menutup stream response jika test tidak punya body assertion,
+ * sehingga tanpa filter ini koneksi keep-alive akan tertahan (leaked) di pool.
+ */
+public class ConnectionReleaseFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (JsonStreamReader.isStreaming(requestSpec)) {
+            // Koneksi dilepas saat stream body ditutup oleh JsonStreamReader
+            return response;
+        }
+        // Body di-buffer oleh REST Assured, jadi tetap bisa dibaca oleh test
+        response.asByteArray();
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,459 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import io.restassured.RestAssured;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.client.methods.AbortableHttpRequest;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Hedged request untuk request idempotent (GET/HEAD/OPTIONS) agar satu response lambat dari host publik
+ * tidak menentukan durasi test.
+ *
+ * Jika response belum selesai setelah latency percentile endpoint (default p95), duplikat request dikirim;
+ * response yang lebih dulu selesai dipakai dan request yang kalah di-abort (koneksinya ditutup).
+ * Jika primary gagal sendiri saat duplikat masih berjalan, hasil duplikat ditunggu; error primary hanya dilempar
+ * jika duplikat juga gagal (error duplikat ditambahkan sebagai suppressed) atau belum dikirim.
+ * Request utama tetap berjalan di thread pemanggil lewat rantai filter biasa. Duplikat dikirim dari thread lain
+ * lewat RestAssured.given() dengan method, URI, header dan cookie yang sama, sehingga ikut melewati filter global
+ * (rate limit, metrics, adaptive timeout); duplikat ditandai agar tidak di-hedge lagi.
+ *
+ * Beban tambahan dibatasi budget token: setiap request menambah budget token (maksimal BUDGET_BURST) dan setiap
+ * duplikat memakai satu token, sehingga jumlah duplikat tidak melebihi budget x jumlah request (default 5%).
+ * Latency endpoint dipelajari dari attempt yang selesai; hedging baru aktif setelah minSamples sampel.
+ * Attempt yang di-abort tetap tercatat di ApiMetrics sebagai request dengan status 0.
+ *
+ * Instance bersama ({@link #shared()}) dipasang global oleh BaseApiUtils dengan -Dapi.hedge=true.
+ * Instance lain bisa dipasang per request dengan .filter(hedging); request tersebut tidak di-hedge dua kali.
+ * Request yang meng-assert jumlah request ke network memakai .filter(HedgingFilter.unhedged()).
+ */
+@SuppressWarnings("deprecation") // AbortableHttpRequest: HttpClient 4.x API lama yang dipakai REST Assured
+public class HedgingFilter implements OrderedFilter {
+
+    private static final double BUDGET_BURST = 10;
+    private static final List<String> IDEMPOTENT_METHODS = Arrays.asList("GET", "HEAD", "OPTIONS");
+
+    private static volatile HedgingFilter shared;
+
+    private static final ScheduledThreadPoolExecutor timer = createTimer();
+    private static final ExecutorService hedgeExecutor = AsyncApiClient.newTaskExecutor();
+
+    private final double percentile;
+    private final double budget;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final ConcurrentHashMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder cancelled = new LongAdder();
+
+    // Token budget duplikat; di-synchronize pada instance ini
+    private double tokens;
+
+    /**
+     * @param percentile Percentile latency endpoint sebelum duplikat dikirim (contoh: 95)
+     * @param budget Rasio maksimal duplikat terhadap jumlah request (contoh: 0.05 = 5%)
+     * @param minSamples Jumlah sampel latency minimal sebelum endpoint di-hedge
+     * @param minDelayMillis Jeda minimal sebelum duplikat dikirim
+     */
+    public HedgingFilter(double percentile, double budget, int minSamples, int minDelayMillis) {
+        if (percentile <= 0 || percentile > 100 || budget < 0) {
+            throw new IllegalArgumentException("percentile harus di antara 0 dan 100, budget tidak boleh negatif");
+        }
+        this.percentile = percentile;
+        this.budget = budget;
+        this.minSamples = Math.max(1, minSamples);
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+    }
+
+    /**
+     * Mendapatkan policy bersama dengan konfigurasi dari ApiConfig
+     * @return HedgingFilter untuk seluruh suite
+     */
+    public static HedgingFilter shared() {
+        HedgingFilter filter = shared;
+        if (filter == null) {
+            synchronized (HedgingFilter.class) {
+                filter = shared;
+                if (filter == null) {
+                    filter = new HedgingFilter(ApiConfig.HEDGE_PERCENTILE, ApiConfig.HEDGE_BUDGET,
+                            ApiConfig.HEDGE_MIN_SAMPLES, ApiConfig.HEDGE_MIN_DELAY_MS);
+                    shared = filter;
+                }
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Penanda request yang tidak boleh di-hedge (contoh: test yang menghitung jumlah koneksi atau request)
+     * @return Filter penanda untuk .filter(...)
+     */
+    public static Filter unhedged() {
+        return HedgeMarker.UNHEDGED;
+    }
+
+    /**
+     * Mengecek apakah request adalah duplikat yang dikirim oleh hedging (bukan request asli test)
+     * @param requestSpec Request yang sedang difilter
+     * @return true jika request adalah duplikat hedge
+     */
+    public static boolean isDuplicate(FilterableRequestSpecification requestSpec) {
+        return requestSpec.getDefinedFilters().contains(HedgeMarker.DUPLICATE);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!hedges(requestSpec)) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        EndpointStats endpoint = endpoints.computeIfAbsent(
+                AdaptiveTimeouts.endpointKey(requestSpec.getMethod(), requestSpec.getURI()), EndpointStats::new);
+        endpoint.requests.increment();
+        deposit();
+
+        long delayNanos = hedgeDelayNanos(endpoint);
+        long start = System.nanoTime();
+        if (delayNanos < 0) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            endpoint.latency.record(System.nanoTime() - start);
+            return response;
+        }
+
+        Race race = new Race();
+        ScheduledFuture<?> hedgeTimer = timer.schedule(() -> startHedge(race, endpoint, requestSpec),
+                delayNanos, TimeUnit.NANOSECONDS);
+        try {
+            Response response = ConnectionPoolManager.withRequestListener(race.primary::bind, () -> {
+                Response primary = ctx.next(requestSpec, responseSpec);
+                // Body dibaca di sini agar koneksi langsung dilepas, juga saat primary kalah
+                primary.asByteArray();
+                return primary;
+            });
+            endpoint.latency.record(System.nanoTime() - start);
+            if (race.winner.compareAndSet(null, race.primary)) {
+                hedgeTimer.cancel(false);
+                abortLoser(race.hedge);
+                return response;
+            }
+            return race.hedgeResult.join();
+        } catch (Exception e) {
+            // Termasuk IOException dari REST Assured (tidak dibungkus)
+            hedgeTimer.cancel(false);
+            if (!race.closeHedging()) {
+                // Tidak ada duplikat yang dikirim: hasilnya sama seperti tanpa hedging
+                throw e;
+            }
+            // Primary di-abort karena duplikat menang, atau gagal sendiri saat duplikat masih berjalan:
+            // hasil duplikat dipakai, error primary hanya dilempar jika duplikat juga gagal
+            try {
+                return race.hedgeResult.join();
+            } catch (CompletionException hedgeError) {
+                e.addSuppressed(hedgeError.getCause());
+                throw e;
+            }
+        }
+    }
+
+    private void startHedge(Race race, EndpointStats endpoint, FilterableRequestSpecification requestSpec) {
+        synchronized (race) {
+            if (race.closed || race.winner.get() != null) {
+                return;
+            }
+            if (!tryAcquireToken()) {
+                endpoint.budgetDenied.increment();
+                return;
+            }
+            race.hedgeStarted = true;
+        }
+        endpoint.hedged.increment();
+        hedgeExecutor.execute(RequestLogBuffer.propagate(race.logBuffer, () -> {
+            long start = System.nanoTime();
+            try {
+                Response response = ConnectionPoolManager.withRequestListener(race.hedge::bind,
+                        () -> sendDuplicate(requestSpec));
+                endpoint.latency.record(System.nanoTime() - start);
+                boolean won = race.winner.compareAndSet(null, race.hedge);
+                race.hedgeResult.complete(response);
+                if (won) {
+                    endpoint.hedgeWins.increment();
+                    abortLoser(race.primary);
+                }
+            } catch (Exception e) {
+                race.hedgeResult.completeExceptionally(e);
+            }
+        }));
+    }
+
+    private void abortLoser(Attempt loser) {
+        if (loser.abort()) {
+            cancelled.increment();
+        }
+    }
+
+    /**
+     * Duplikat request: method, URI lengkap (termasuk query), header dan cookie yang sama.
+     * Logging buffered request asli ikut dipasang agar duplikat tercatat di log test.
+     */
+    private static Response sendDuplicate(FilterableRequestSpecification requestSpec) {
+        RequestSpecification duplicate = RestAssured.given()
+                .config(requestSpec.getConfig())
+                .urlEncodingEnabled(false)
+                .headers(requestSpec.getHeaders())
+                .cookies(requestSpec.getCookies())
+                .filter(HedgeMarker.DUPLICATE);
+        for (Filter filter : requestSpec.getDefinedFilters()) {
+            if (filter instanceof BufferedLoggingFilter) {
+                duplicate.filter(filter);
+            }
+        }
+        return duplicate.request(requestSpec.getMethod(), requestSpec.getURI());
+    }
+
+    /**
+     * Request di-hedge jika idempotent, body tidak di-stream, tidak ditandai, dan tidak ada instance lain
+     * yang dipasang langsung di request (instance bersama mengalah ke instance tersebut)
+     */
+    private boolean hedges(FilterableRequestSpecification requestSpec) {
+        if (!IDEMPOTENT_METHODS.contains(requestSpec.getMethod().toUpperCase())
+                || JsonStreamReader.isStreaming(requestSpec)) {
+            return false;
+        }
+        for (Filter filter : requestSpec.getDefinedFilters()) {
+            if (filter instanceof HedgeMarker || (this == shared && filter instanceof HedgingFilter && filter != this)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Jeda sebelum duplikat dikirim: latency percentile endpoint, minimal minDelay
+     * @return Jeda dalam nanodetik, atau -1 jika sampel endpoint belum cukup
+     */
+    private long hedgeDelayNanos(EndpointStats endpoint) {
+        if (endpoint.latency.getCount() < minSamples) {
+            return -1;
+        }
+        return Math.max(minDelayNanos, endpoint.latency.getValueAtPercentile(percentile));
+    }
+
+    private synchronized void deposit() {
+        tokens = Math.min(BUDGET_BURST, tokens + budget);
+    }
+
+    private synchronized boolean tryAcquireToken() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Snapshot statistik hedging semua endpoint
+     * @return Stats gabungan
+     */
+    public Stats getStats() {
+        long requests = 0;
+        long hedged = 0;
+        long hedgeWins = 0;
+        long budgetDenied = 0;
+        for (EndpointStats endpoint : endpoints.values()) {
+            requests += endpoint.requests.sum();
+            hedged += endpoint.hedged.sum();
+            hedgeWins += endpoint.hedgeWins.sum();
+            budgetDenied += endpoint.budgetDenied.sum();
+        }
+        return new Stats(requests, hedged, hedgeWins, budgetDenied, cancelled.sum());
+    }
+
+    /**
+     * Ringkasan hedging per endpoint (jumlah duplikat terbanyak lebih dulu)
+     * @return Statistik gabungan diikuti hedge rate, win rate dan jeda hedge setiap endpoint
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(getStats().toString());
+        List<EndpointStats> sorted = endpoints.values().stream()
+                .sorted(Comparator.comparingLong((EndpointStats endpoint) -> endpoint.hedged.sum()).reversed())
+                .collect(Collectors.toList());
+        for (EndpointStats endpoint : sorted) {
+            long delayNanos = hedgeDelayNanos(endpoint);
+            report.append(String.format("%n  %s: requests=%d, hedged=%d, hedgeRate=%.1f%%, winRate=%.1f%%, delay=%s",
+                    endpoint.name, endpoint.requests.sum(), endpoint.hedged.sum(),
+                    100.0 * endpoint.hedged.sum() / Math.max(1, endpoint.requests.sum()),
+                    100.0 * endpoint.hedgeWins.sum() / Math.max(1, endpoint.hedged.sum()),
+                    delayNanos < 0 ? "learning" : TimeUnit.NANOSECONDS.toMillis(delayNanos) + "ms"));
+        }
+        return report.toString();
+    }
+
+    @Override
+    public int getOrder() {
+        // Di luar ResponseCache dan RateLimitFilter: duplikat dikirim sebagai request baru yang melewati keduanya
+        return LOWEST_PRECEDENCE - 5;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "hedging-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Timer yang dibatalkan (primary selesai sebelum jeda hedge) langsung dibuang dari queue
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Primary dan duplikat satu request; attempt pertama yang selesai menjadi winner
+     */
+    private static final class Race {
+        final Attempt primary = new Attempt();
+        final Attempt hedge = new Attempt();
+        final AtomicReference<Attempt> winner = new AtomicReference<>();
+        final CompletableFuture<Response> hedgeResult = new CompletableFuture<>();
+        // Buffer log test pemanggil; duplikat dikirim dari thread lain
+        final RequestLogBuffer logBuffer = RequestLogBuffer.current();
+        // Di-synchronize pada race ini
+        boolean hedgeStarted;
+        boolean closed;
+
+        /**
+         * Menutup race untuk duplikat baru (dipanggil saat primary gagal)
+         * @return true jika duplikat sudah dikirim
+         */
+        synchronized boolean closeHedging() {
+            closed = true;
+            return hedgeStarted;
+        }
+    }
+
+    /**
+     * Request HTTP yang dikirim satu attempt, agar bisa di-abort dari thread lain
+     */
+    private static final class Attempt {
+        private AbortableHttpRequest request;
+        private boolean aborted;
+
+        synchronized void bind(AbortableHttpRequest httpRequest) {
+            request = httpRequest;
+            if (aborted) {
+                httpRequest.abort();
+            }
+        }
+
+        /**
+         * @return true jika request sudah dikirim dan di-abort
+         */
+        boolean abort() {
+            AbortableHttpRequest httpRequest;
+            synchronized (this) {
+                aborted = true;
+                httpRequest = request;
+            }
+            if (httpRequest == null) {
+                return false;
+            }
+            httpRequest.abort();
+            return true;
+        }
+    }
+
+    private static final class EndpointStats {
+        final String name;
+        final LongAdder requests = new LongAdder();
+        final LongAdder hedged = new LongAdder();
+        final LongAdder hedgeWins = new LongAdder();
+        final LongAdder budgetDenied = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        EndpointStats(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * Penanda request unhedged() dan duplikat request agar tidak di-hedge
+     */
+    private static final class HedgeMarker implements Filter {
+        private static final HedgeMarker UNHEDGED = new HedgeMarker();
+        private static final HedgeMarker DUPLICATE = new HedgeMarker();
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+    }
+
+    /**
+     * Snapshot statistik hedging
+     */
+    public static class Stats {
+        private final long requests;
+        private final long hedged;
+        private final long hedgeWins;
+        private final long budgetDenied;
+        private final long cancelled;
+
+        public Stats(long requests, long hedged, long hedgeWins, long budgetDenied, long cancelled) {
+            this.requests = requests;
+            this.hedged = hedged;
+            this.hedgeWins = hedgeWins;
+            this.budgetDenied = budgetDenied;
+            this.cancelled = cancelled;
+        }
+
+        public long getRequests() { return requests; }
+        /** @return Jumlah duplikat yang dikirim */
+        public long getHedged() { return hedged; }
+        /** @return Jumlah duplikat yang selesai lebih dulu dari primary */
+        public long getHedgeWins() { return hedgeWins; }
+        /** @return Jumlah duplikat yang tidak dikirim karena budget habis */
+        public long getBudgetDenied() { return budgetDenied; }
+        /** @return Jumlah request kalah yang di-abort */
+        public long getCancelled() { return cancelled; }
+
+        public double getHedgeRate() {
+            return requests == 0 ? 0 : (double) hedged / requests;
+        }
+
+        public double getWinRate() {
+            return hedged == 0 ? 0 : (double) hedgeWins / hedged;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "requests=" + requests +
+                    ", hedged=" + hedged +
+                    ", hedgeRate=" + String.format("%.1f%%", getHedgeRate() * 100) +
+                    ", hedgeWins=" + hedgeWins +
+                    ", winRate=" + String.format("%.1f%%", getWinRate() * 100) +
+                    ", budgetDenied=" + budgetDenied +
+                    ", cancelled=" + cancelled +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rate limiter (token bucket) dan pembatas jumlah request bersamaan untuk satu host.
+ *
+ * Rate menyesuaikan diri secara AIMD: setiap response 429 membagi dua rate saat ini dan menahan
+ * request baru selama Retry-After, sedangkan setiap response sukses menaikkan rate sedikit demi sedikit
+ * sampai batas yang dikonfigurasi. Hasilnya suite berjalan mendekati throughput maksimal yang masih
+ * diterima host, tanpa terus-menerus memicu throttling.
+ */
+public class HostThrottle {
+
+    private static final double MIN_RATE = 0.5;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_STEPS = 100;
+
+    private static final ConcurrentHashMap<String, HostThrottle> throttles = new ConcurrentHashMap<>();
+
+    static {
+        configure(ApiConfig.JSONPLACEHOLDER_BASE_URL, ApiConfig.JSONPLACEHOLDER_RATE_LIMIT, ApiConfig.JSONPLACEHOLDER_MAX_IN_FLIGHT);
+        configure(ApiConfig.REQRES_BASE_URL, ApiConfig.REQRES_RATE_LIMIT, ApiConfig.REQRES_MAX_IN_FLIGHT);
+        configure(ApiConfig.HTTPBIN_BASE_URL, ApiConfig.HTTPBIN_RATE_LIMIT, ApiConfig.HTTPBIN_MAX_IN_FLIGHT);
+    }
+
+    private final String host;
+    private final double maxRate;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    /**
+     * @param host Host (contoh: reqres.in)
+     * @param maxRate Request per detik maksimal (0 untuk tanpa batas rate)
+     * @param maxInFlight Jumlah request bersamaan maksimal (0 untuk tanpa batas)
+     */
+    public HostThrottle(String host, double maxRate, int maxInFlight) {
+        this.host = host;
+        this.maxRate = maxRate;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = maxInFlight > 0 ? new Semaphore(maxInFlight, true) : null;
+        this.rate = maxRate;
+        // Burst satu detik, minimal satu token
+        this.tokens = Math.max(1, maxRate);
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Mengatur batas untuk host dari base URI (menggantikan batas sebelumnya)
+     * @param baseUri Base URI (contoh: ApiConfig.REQRES_BASE_URL atau base URL stub)
+     * @param requestsPerSecond Request per detik maksimal (0 untuk tanpa batas rate)
+     * @param maxInFlight Jumlah request bersamaan maksimal (0 untuk tanpa batas)
+     * @return HostThrottle untuk host tersebut
+     */
+    public static HostThrottle configure(String baseUri, double requestsPerSecond, int maxInFlight) {
+        String host = hostKey(baseUri);
+        HostThrottle throttle = new HostThrottle(host, requestsPerSecond, maxInFlight);
+        throttles.put(host, throttle);
+        return throttle;
+    }
+
+    /**
+     * Mendapatkan throttle untuk URI request
+     * @param uri URI request atau base URI
+     * @return HostThrottle, atau null jika host tidak dibatasi
+     */
+    public static HostThrottle forUri(String uri) {
+        return throttles.get(hostKey(uri));
+    }
+
+    /**
+     * Menghapus batas untuk host
+     * @param baseUri Base URI
+     */
+    public static void remove(String baseUri) {
+        throttles.remove(hostKey(baseUri));
+    }
+
+    private static String hostKey(String uri) {
+        URI parsed = URI.create(uri);
+        return parsed.getPort() == -1 ? parsed.getHost() : parsed.getHost() + ":" + parsed.getPort();
+    }
+
+    /**
+     * Menunggu sampai request boleh dikirim (slot in-flight dan token tersedia)
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        if (inFlight != null) {
+            inFlight.acquireUninterruptibly();
+        }
+        long delay = reserve();
+        while (delay > 0) {
+            LockSupport.parkNanos(delay);
+            delay = reserve(0);
+        }
+        requests.incrementAndGet();
+        waitNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    /**
+     * Melepas slot in-flight setelah response diterima
+     */
+    public void release() {
+        if (inFlight != null) {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Dipanggil untuk response sukses (bukan 429): rate naik kembali menuju batas maksimal
+     */
+    public synchronized void onSuccess() {
+        if (maxRate > 0 && rate < maxRate) {
+            rate = Math.min(maxRate, rate + maxRate / INCREASE_STEPS);
+        }
+    }
+
+    /**
+     * Dipanggil untuk response 429: rate dibagi dua dan request baru ditahan selama Retry-After
+     * @param retryAfterNanos Durasi dari header Retry-After (0 jika tidak ada)
+     */
+    public synchronized void onThrottled(long retryAfterNanos) {
+        throttled.incrementAndGet();
+        long now = System.nanoTime();
+        if (maxRate > 0) {
+            rate = Math.max(MIN_RATE, rate * DECREASE_FACTOR);
+            tokens = Math.min(tokens, 0);
+        }
+        long pause = retryAfterNanos > 0 ? retryAfterNanos
+                : maxRate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+        pausedUntilNanos = Math.max(pausedUntilNanos, now + pause);
+    }
+
+    /**
+     * Mengambil satu token
+     * @return Nanodetik yang harus ditunggu sebelum request dikirim (0 jika boleh langsung)
+     */
+    private long reserve() {
+        return reserve(1);
+    }
+
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        if (maxRate > 0) {
+            tokens = Math.min(Math.max(1, rate), tokens + (now - lastRefillNanos) * rate / 1e9) - permits;
+        }
+        lastRefillNanos = now;
+        long pause = pausedUntilNanos - now;
+        long refill = maxRate > 0 && tokens < 0 ? (long) (-tokens / rate * 1e9) : 0;
+        return Math.max(Math.max(0, pause), refill);
+    }
+
+    public String getHost() { return host; }
+    public int getMaxInFlight() { return maxInFlight; }
+    public long getRequestCount() { return requests.get(); }
+    public long getThrottledCount() { return throttled.get(); }
+    public long getWaitNanos() { return waitNanos.get(); }
+
+    /**
+     * @return Rate saat ini (request per detik), bisa lebih rendah dari batas setelah 429
+     */
+    public synchronized double getCurrentRate() {
+        return rate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: rate=%.1f/%.1f req/s, maxInFlight=%d, requests=%d, throttled=%d, waited=%.1fs",
+                host, getCurrentRate(), maxRate, maxInFlight, getRequestCount(), getThrottledCount(), waitNanos.get() / 1e9);
+    }
+}
@@ -0,0 +1,211 @@
+package com.api.automation.utils;
+
+import com.api.automation.json.ModelMapper;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pembaca JSON array secara streaming untuk model di com.api.automation.models.
+ * Elemen dibaca satu per satu dari InputStream dengan Jackson streaming parser, sehingga
+ * pemakaian memory tetap datar berapapun jumlah record dalam response.
+ *
+ * Contoh:
+ * <pre>
+ * Response response = api.getRequestSpecWithoutLogging()
+ *         .filter(JsonStreamReader.streamingBody())
+ *         .get(ApiConfig.POSTS_ENDPOINT);
+ * long count = JsonStreamReader.forEach(response, Post.class, post -> assertNotNull(post.getId()));
+ * </pre>
+ * Gunakan spec tanpa logging: ResponseLoggingFilter membaca seluruh body ke memory.
+ *
+ * Selama body streaming belum dibaca habis atau ditutup, koneksinya tetap di-lease dari pool.
+ * Stream dari stream() ditutup otomatis setelah elemen terakhir dibaca; body yang tidak pernah dibaca
+ * (contoh: assertion gagal sebelum forEach) dilepas oleh releaseUnconsumed(), yang dipanggil
+ * StreamingBodyExtension setelah setiap test.
+ */
+public class JsonStreamReader {
+    
+    // Response streaming yang body-nya belum dibaca, beserta thread yang mengirim request-nya
+    private static final Map<Response, Thread> unconsumed = Collections.synchronizedMap(new IdentityHashMap<>());
+    
+    /**
+     * Filter penanda agar body response tidak di-buffer oleh ConnectionReleaseFilter.
+     * Koneksi dikembalikan ke pool ketika stream dari JsonStreamReader ditutup; body harus dibaca
+     * lewat JsonStreamReader (atau ditutup) agar koneksi tidak tertahan sampai releaseUnconsumed()
+     * @return Filter penanda streaming
+     */
+    public static Filter streamingBody() {
+        return StreamingBodyMarker.INSTANCE;
+    }
+    
+    /**
+     * Membaca JSON array dari response sebagai Stream yang lazy
+     * Stream ditutup otomatis setelah elemen terakhir; operasi yang berhenti lebih awal (contoh: findFirst)
+     * harus menutup stream (try-with-resources) agar koneksi dilepas
+     * @param response Response dengan body JSON array
+     * @param type Class model (contoh: Post.class)
+     * @return Stream elemen
+     */
+    public static <T> Stream<T> stream(Response response, Class<T> type) {
+        return stream(response.asInputStream(), type, () -> unconsumed.remove(response));
+    }
+    
+    /**
+     * Membaca JSON array dari InputStream sebagai Stream yang lazy
+     * Stream harus ditutup (try-with-resources) agar InputStream ikut ditutup
+     * @param in InputStream berisi JSON array
+     * @param type Class model (contoh: Post.class)
+     * @return Stream elemen
+     */
+    public static <T> Stream<T> stream(InputStream in, Class<T> type) {
+        return stream(in, type, () -> { });
+    }
+    
+    private static <T> Stream<T> stream(InputStream in, Class<T> type, Runnable onClose) {
+        MappingIterator<T> iterator = openIterator(in, type);
+        Runnable close = () -> {
+            try {
+                iterator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                onClose.run();
+            }
+        };
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (iterator.hasNext()) {
+                    action.accept(iterator.next());
+                    return true;
+                }
+                // Elemen terakhir sudah dibaca: koneksi dilepas walaupun Stream tidak ditutup
+                close.run();
+                return false;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(close);
+    }
+    
+    /**
+     * Menjalankan action (contoh: assertion) untuk setiap elemen JSON array dari response
+     * @param response Response dengan body JSON array
+     * @param type Class model
+     * @param action Action per elemen
+     * @return Jumlah elemen yang dibaca
+     */
+    public static <T> long forEach(Response response, Class<T> type, Consumer<? super T> action) {
+        try {
+            return forEach(response.asInputStream(), type, action);
+        } finally {
+            unconsumed.remove(response);
+        }
+    }
+    
+    /**
+     * Menjalankan action untuk setiap elemen JSON array dari InputStream
+     * @param in InputStream berisi JSON array
+     * @param type Class model
+     * @param action Action per elemen
+     * @return Jumlah elemen yang dibaca
+     */
+    public static <T> long forEach(InputStream in, Class<T> type, Consumer<? super T> action) {
+        long count = 0;
+        try (MappingIterator<T> iterator = openIterator(in, type)) {
+            while (iterator.hasNextValue()) {
+                action.accept(iterator.nextValue());
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON array tidak dapat dibaca sebagai " + type.getSimpleName(), e);
+        }
+        return count;
+    }
+    
+    /**
+     * Menutup body streaming dari request thread ini yang belum dibaca lewat JsonStreamReader,
+     * sehingga koneksinya kembali ke pool
+     * @return Jumlah body yang ditutup
+     */
+    public static int releaseUnconsumed() {
+        List<Response> owned = new ArrayList<>();
+        synchronized (unconsumed) {
+            Iterator<Map.Entry<Response, Thread>> entries = unconsumed.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<Response, Thread> entry = entries.next();
+                if (entry.getValue() == Thread.currentThread()) {
+                    owned.add(entry.getKey());
+                    entries.remove();
+                }
+            }
+        }
+        for (Response response : owned) {
+            try {
+                response.asInputStream().close();
+            } catch (IOException e) {
+                // Koneksi tetap dilepas oleh HttpClient walaupun close gagal
+            }
+        }
+        return owned.size();
+    }
+    
+    private static <T> MappingIterator<T> openIterator(InputStream in, Class<T> type) {
+        ObjectReader reader = ModelMapper.reader(type);
+        try {
+            return reader.readValues(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JSON array tidak dapat dibaca sebagai " + type.getSimpleName(), e);
+        }
+    }
+    
+    /**
+     * Cek apakah body request ini dibaca sebagai stream (tidak boleh di-buffer oleh filter lain)
+     * @param requestSpec Request yang sedang difilter
+     * @return true jika request memakai streamingBody() atau ResponseCapture
+     */
+    static boolean isStreaming(FilterableRequestSpecification requestSpec) {
+        for (Filter filter : requestSpec.getDefinedFilters()) {
+            if (filter == StreamingBodyMarker.INSTANCE || filter instanceof ResponseCapture) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Penanda streaming yang juga mencatat body response sampai dibaca oleh JsonStreamReader
+     */
+    private static final class StreamingBodyMarker implements Filter {
+        private static final StreamingBodyMarker INSTANCE = new StreamingBodyMarker();
+        
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            unconsumed.put(response, Thread.currentThread());
+            return response;
+        }
+    }
+}
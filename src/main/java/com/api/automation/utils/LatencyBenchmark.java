@@ -0,0 +1,96 @@
+package com.api.automation.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Harness pengukuran latency untuk test: warmup, sampling dengan System.nanoTime(),
+ * dan histogram percentile. Jika fixedRate diatur, latency dihitung dari waktu kirim yang
+ * dijadwalkan (bukan waktu kirim aktual) untuk mengoreksi coordinated omission:
+ * request yang tertunda karena request sebelumnya lambat tetap ikut menanggung waktu tunggunya.
+ *
+ * Contoh:
+ * <pre>
+ * LatencyResult result = new LatencyBenchmark("GET /users")
+ *         .warmup(5).iterations(50).fixedRate(10)
+ *         .run(() -> api.getRequestSpecWithoutLogging().get(ApiConfig.REQRES_USERS_ENDPOINT));
+ * result.assertPercentileBelow(99, 2, TimeUnit.SECONDS);
+ * </pre>
+ */
+public class LatencyBenchmark {
+
+    private final String name;
+    private int warmupIterations = 5;
+    private int iterations = 50;
+    private double ratePerSecond;
+
+    public LatencyBenchmark(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param warmupIterations Jumlah iterasi warmup yang tidak dicatat
+     * @return LatencyBenchmark ini
+     */
+    public LatencyBenchmark warmup(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+        return this;
+    }
+
+    /**
+     * @param iterations Jumlah sampel yang dicatat
+     * @return LatencyBenchmark ini
+     */
+    public LatencyBenchmark iterations(int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Jumlah iterasi harus lebih dari 0");
+        }
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Menjalankan operasi dengan laju tetap dan mengoreksi coordinated omission
+     * @param ratePerSecond Jumlah operasi per detik yang dijadwalkan
+     * @return LatencyBenchmark ini
+     */
+    public LatencyBenchmark fixedRate(double ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Rate harus lebih dari 0");
+        }
+        this.ratePerSecond = ratePerSecond;
+        return this;
+    }
+
+    /**
+     * Menjalankan warmup lalu mengukur operasi
+     * @param operation Operasi yang diukur (contoh: satu API call)
+     * @return LatencyResult berisi histogram latency
+     */
+    public LatencyResult run(Runnable operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        LatencyHistogram responseTime = new LatencyHistogram();
+        long intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0;
+        long scheduleStart = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            long intended = intervalNanos > 0 ? scheduleStart + i * intervalNanos : System.nanoTime();
+            long waitNanos = intended - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            long start = System.nanoTime();
+            operation.run();
+            long end = System.nanoTime();
+
+            serviceTime.record(end - start);
+            responseTime.record(end - Math.min(intended, start));
+        }
+        return new LatencyResult(name, ratePerSecond, serviceTime, responseTime);
+    }
+}
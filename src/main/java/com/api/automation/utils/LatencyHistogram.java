@@ -0,0 +1,128 @@
+package com.api.automation.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram latency thread-safe dengan bucket log-linear (gaya HDR histogram).
+ * Setiap rentang pangkat dua dibagi menjadi 64 sub-bucket sehingga error relatif
+ * nilai percentile maksimal sekitar 1.6%, dengan memori tetap (~30 KB) berapapun jumlah sampel.
+ * Semua nilai dalam nanodetik.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Mencatat satu sampel latency
+     * @param nanos Latency dalam nanodetik
+     */
+    public void record(long nanos) {
+        recordCount(nanos, 1);
+    }
+
+    /**
+     * Mencatat sampel latency yang sama sebanyak count kali
+     * @param nanos Latency dalam nanodetik
+     * @param count Jumlah sampel
+     */
+    public void recordCount(long nanos, long count) {
+        long value = Math.max(0, nanos);
+        counts.addAndGet(bucketIndex(value), count);
+        totalCount.add(count);
+        totalNanos.add(value * count);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Menggabungkan sampel dari histogram lain ke histogram ini
+     * @param other Histogram sumber
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.getCount());
+        totalNanos.add(other.totalNanos.sum());
+        maxNanos.accumulateAndGet(other.getMaxNanos(), Math::max);
+    }
+
+    public long getCount() { return totalCount.sum(); }
+    public long getMaxNanos() { return maxNanos.get(); }
+
+    public double getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) totalNanos.sum() / count;
+    }
+
+    /**
+     * Mendapatkan nilai latency pada percentile tertentu
+     * @param percentile Percentile antara 0 dan 100 (contoh: 99.9)
+     * @return Latency dalam nanodetik (0 jika belum ada sampel)
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketMidpoint(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Mendapatkan nilai latency pada percentile tertentu dalam satuan yang diminta
+     * @param percentile Percentile antara 0 dan 100
+     * @param unit Satuan waktu hasil
+     * @return Latency dalam satuan unit
+     */
+    public double getValueAtPercentile(double percentile, TimeUnit unit) {
+        return (double) getValueAtPercentile(percentile) / unit.toNanos(1);
+    }
+
+    private static int bucketIndex(long value) {
+        int msb = 63 - Long.numberOfLeadingZeros(value | 1);
+        if (msb < SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = msb - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    private static long bucketMidpoint(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + ((1L << shift) >>> 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%.2fms, p90=%.2fms, p99=%.2fms, max=%.2fms",
+                getCount(),
+                getValueAtPercentile(50, TimeUnit.MILLISECONDS),
+                getValueAtPercentile(90, TimeUnit.MILLISECONDS),
+                getValueAtPercentile(99, TimeUnit.MILLISECONDS),
+                (double) getMaxNanos() / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.automation.utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hasil LatencyBenchmark beserta assertion berbasis percentile.
+ * Response time adalah latency yang sudah dikoreksi coordinated omission (sama dengan
+ * service time jika benchmark tidak memakai fixed rate).
+ */
+public class LatencyResult {
+
+    private final String name;
+    private final double ratePerSecond;
+    private final LatencyHistogram serviceTime;
+    private final LatencyHistogram responseTime;
+
+    public LatencyResult(String name, double ratePerSecond,
+                         LatencyHistogram serviceTime, LatencyHistogram responseTime) {
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.serviceTime = serviceTime;
+        this.responseTime = responseTime;
+    }
+
+    public String getName() { return name; }
+    public LatencyHistogram getServiceTime() { return serviceTime; }
+    public LatencyHistogram getResponseTime() { return responseTime; }
+
+    /**
+     * @param percentile Percentile antara 0 dan 100
+     * @return Response time pada percentile tersebut dalam milidetik
+     */
+    public double getPercentileMillis(double percentile) {
+        return responseTime.getValueAtPercentile(percentile, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Memverifikasi bahwa response time pada percentile tertentu di bawah batas
+     * @param percentile Percentile antara 0 dan 100 (contoh: 99)
+     * @param limit Batas latency
+     * @param unit Satuan batas latency
+     * @return LatencyResult ini untuk assertion berikutnya
+     * @throws AssertionError jika percentile melebihi batas
+     */
+    public LatencyResult assertPercentileBelow(double percentile, long limit, TimeUnit unit) {
+        long actual = responseTime.getValueAtPercentile(percentile);
+        if (actual >= unit.toNanos(limit)) {
+            throw new AssertionError(String.format("%s: p%s harus kurang dari %d %s, actual: %.2f ms%n%s",
+                    name, formatPercentile(percentile), limit, unit.name().toLowerCase(),
+                    actual / 1e6, summary()));
+        }
+        return this;
+    }
+
+    /**
+     * @return Ringkasan p50/p90/p99/max dalam bentuk teks
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Latency: ").append(name).append(System.lineSeparator());
+        sb.append(ratePerSecond > 0
+                ? String.format("Mode: fixed rate %.1f/s (coordinated omission corrected)%n", ratePerSecond)
+                : String.format("Mode: back-to-back%n"));
+        sb.append("Response time: ").append(responseTime).append(System.lineSeparator());
+        sb.append("Service time : ").append(serviceTime).append(System.lineSeparator());
+        return sb.toString();
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -0,0 +1,59 @@
+package com.api.automation.utils;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filter yang mencatat setiap request ke ApiMetrics (latency, status code, bytes masuk/keluar).
+ * Berjalan di dalam RateLimitFilter sehingga waktu tunggu throttle tidak dihitung sebagai latency.
+ */
+public class MetricsFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        ApiMetrics.EndpointStats endpoint = ApiMetrics.endpoint(requestSpec.getMethod(), requestSpec.getURI());
+        long bytesOut = bodyLength(requestSpec.getBody());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            // Termasuk IOException (contoh: SocketTimeoutException) yang dilempar REST Assured tanpa dibungkus
+            endpoint.record(0, bytesOut, 0, System.nanoTime() - start);
+            throw e;
+        }
+        long bytesIn;
+        if (JsonStreamReader.isStreaming(requestSpec)) {
+            // Body streaming tidak di-buffer; pakai Content-Length jika ada
+            String contentLength = response.getHeader("Content-Length");
+            bytesIn = contentLength == null ? 0 : Long.parseLong(contentLength.trim());
+        } else {
+            bytesIn = response.asByteArray().length;
+        }
+        endpoint.record(response.getStatusCode(), bytesOut, bytesIn, System.nanoTime() - start);
+        return response;
+    }
+
+    private static long bodyLength(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+
+    @Override
+    public int getOrder() {
+        // Di antara RateLimitFilter dan AdaptiveTimeoutFilter
+        return LOWEST_PRECEDENCE - 2;
+    }
+}
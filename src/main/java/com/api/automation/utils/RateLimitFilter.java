@@ -0,0 +1,75 @@
+package com.api.automation.utils;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter yang menerapkan HostThrottle untuk setiap request ke host yang dibatasi.
+ * Request menunggu slot in-flight dan token rate limiter sebelum dikirim; response 429 menurunkan
+ * rate host dan menahan request berikutnya sesuai header Retry-After.
+ * Host yang tidak dikonfigurasi (contoh: stub server lokal) tidak dibatasi.
+ */
+public class RateLimitFilter implements OrderedFilter {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        HostThrottle throttle = HostThrottle.forUri(requestSpec.getURI());
+        if (throttle == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        throttle.acquire();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } finally {
+            throttle.release();
+        }
+        if (response.getStatusCode() == TOO_MANY_REQUESTS) {
+            throttle.onThrottled(retryAfterNanos(response.getHeader("Retry-After")));
+        } else {
+            throttle.onSuccess();
+        }
+        return response;
+    }
+
+    /**
+     * Membaca header Retry-After (detik atau HTTP-date)
+     * @param retryAfter Nilai header (boleh null)
+     * @return Durasi tunggu dalam nanodetik (0 jika tidak ada atau tidak valid)
+     */
+    static long retryAfterNanos(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return 0;
+        }
+        String value = retryAfter.trim();
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(until.getZone()), until).toNanos());
+            } catch (DateTimeParseException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // Di luar MetricsFilter dan AdaptiveTimeoutFilter agar waktu tunggu throttle tidak dihitung sebagai latency endpoint
+        return LOWEST_PRECEDENCE - 3;
+    }
+}
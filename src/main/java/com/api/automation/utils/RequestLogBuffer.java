@@ -0,0 +1,245 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelMapper;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ring buffer berukuran tetap berisi request/response terakhir milik test yang sedang berjalan.
+ *
+ * Buffer dibuka per test oleh extension test ({@link #open()}) dan terikat ke thread test. Request dari thread
+ * lain tetap masuk ke buffer test tersebut: executor framework (hedging, batch, load) meneruskan ikatan lewat
+ * {@link #propagate(Runnable)}, AsyncApiClient mengambil buffer pemanggil saat request dikirim, dan thread tanpa
+ * ikatan memakai buffer satu-satunya test yang sedang berjalan (mode non-paralel).
+ *
+ * Saat capture hanya referensi yang disimpan (tanpa format maupun I/O); pretty-print body dan
+ * pemotongan ke ApiConfig.LOG_MAX_BODY_CHARS baru dilakukan ketika log benar-benar dicetak.
+ * Jika buffer penuh, entry tertua ditimpa.
+ */
+public class RequestLogBuffer {
+    
+    // Buffer test yang sedang berjalan
+    private static final Set<RequestLogBuffer> opened = ConcurrentHashMap.newKeySet();
+    private static final ThreadLocal<RequestLogBuffer> bound = new ThreadLocal<>();
+    // Buffer untuk request di luar test (contoh: @BeforeAll)
+    private static final ThreadLocal<RequestLogBuffer> unscoped =
+            ThreadLocal.withInitial(() -> new RequestLogBuffer(ApiConfig.LOG_BUFFER_ENTRIES));
+    
+    private final Entry[] entries;
+    private int next;
+    private int size;
+    private long dropped;
+    private volatile boolean closed;
+    
+    public RequestLogBuffer(int capacity) {
+        this.entries = new Entry[Math.max(1, capacity)];
+    }
+    
+    /**
+     * Membuka buffer baru untuk satu test dan mengikatnya ke thread saat ini
+     * @return Buffer test; ditutup dengan close() setelah test selesai
+     */
+    public static RequestLogBuffer open() {
+        RequestLogBuffer buffer = new RequestLogBuffer(ApiConfig.LOG_BUFFER_ENTRIES);
+        opened.add(buffer);
+        bound.set(buffer);
+        return buffer;
+    }
+    
+    /**
+     * Menutup buffer test; request berikutnya tidak lagi diarahkan ke buffer ini
+     */
+    public void close() {
+        closed = true;
+        opened.remove(this);
+        if (bound.get() == this) {
+            bound.remove();
+        }
+    }
+    
+    /**
+     * Mendapatkan buffer untuk request yang dikirim dari thread saat ini
+     * @return Buffer yang terikat ke thread ini, buffer satu-satunya test yang berjalan, atau buffer di luar test
+     */
+    public static RequestLogBuffer current() {
+        RequestLogBuffer buffer = bound.get();
+        if (buffer != null && !buffer.closed) {
+            return buffer;
+        }
+        RequestLogBuffer sole = null;
+        for (RequestLogBuffer open : opened) {
+            if (sole != null) {
+                // Beberapa test berjalan paralel: pemilik request tidak bisa ditentukan
+                return unscoped.get();
+            }
+            sole = open;
+        }
+        return sole != null ? sole : unscoped.get();
+    }
+    
+    /**
+     * Membungkus task agar berjalan dengan buffer yang terikat ke thread pemanggil
+     * @param task Task yang akan dijalankan di thread lain
+     * @return Task yang mengikat buffer pemanggil selama berjalan
+     */
+    public static Runnable propagate(Runnable task) {
+        return propagate(bound.get(), task);
+    }
+    
+    /**
+     * Membungkus task agar berjalan dengan buffer tertentu (contoh: buffer yang diambil saat request dimulai)
+     * @param buffer Buffer tujuan, atau null untuk menjalankan task apa adanya
+     * @param task Task yang akan dijalankan di thread lain
+     * @return Task yang mengikat buffer selama berjalan
+     */
+    public static Runnable propagate(RequestLogBuffer buffer, Runnable task) {
+        if (buffer == null) {
+            return task;
+        }
+        return () -> {
+            RequestLogBuffer previous = bound.get();
+            bound.set(buffer);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    bound.remove();
+                } else {
+                    bound.set(previous);
+                }
+            }
+        };
+    }
+    
+    /**
+     * @return true jika api.log.mode=buffered (request dari client di luar REST Assured ikut direkam)
+     */
+    public static boolean isEnabled() {
+        return "buffered".equalsIgnoreCase(ApiConfig.LOG_MODE.trim());
+    }
+    
+    /**
+     * Menambahkan satu interaksi ke buffer (boleh dari beberapa thread)
+     */
+    public synchronized void add(Entry entry) {
+        if (size == entries.length) {
+            dropped++;
+        } else {
+            size++;
+        }
+        entries[next] = entry;
+        next = (next + 1) % entries.length;
+    }
+    
+    public synchronized int size() { return size; }
+    
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+        size = 0;
+        dropped = 0;
+    }
+    
+    /**
+     * Memformat seluruh isi buffer (urut dari yang tertua) lalu mengosongkannya
+     * @return Log siap cetak, atau string kosong jika buffer kosong
+     */
+    public synchronized String drain() {
+        if (size == 0) {
+            return "";
+        }
+        StringBuilder log = new StringBuilder();
+        if (dropped > 0) {
+            log.append("... ").append(dropped).append(" earlier request(s) dropped from log buffer\n\n");
+        }
+        int start = (next - size + entries.length) % entries.length;
+        for (int i = 0; i < size; i++) {
+            entries[(start + i) % entries.length].format(log);
+            log.append('\n');
+        }
+        clear();
+        return log.toString();
+    }
+    
+    /**
+     * Satu pasangan request/response yang direkam
+     */
+    public static final class Entry {
+        private final Instant timestamp;
+        private final String method;
+        private final String uri;
+        private final Headers requestHeaders;
+        private final Object requestBody;
+        private final String statusLine;
+        private final Headers responseHeaders;
+        private final byte[] responseBody;
+        private final long durationMillis;
+        
+        public Entry(Instant timestamp, String method, String uri, Headers requestHeaders, Object requestBody,
+                     String statusLine, Headers responseHeaders, byte[] responseBody, long durationMillis) {
+            this.timestamp = timestamp;
+            this.method = method;
+            this.uri = uri;
+            this.requestHeaders = requestHeaders;
+            this.requestBody = requestBody;
+            this.statusLine = statusLine;
+            this.responseHeaders = responseHeaders;
+            this.responseBody = responseBody;
+            this.durationMillis = durationMillis;
+        }
+        
+        void format(StringBuilder log) {
+            log.append(timestamp).append(' ').append(method).append(' ').append(uri).append('\n');
+            appendHeaders(log, requestHeaders);
+            appendBody(log, requestBody);
+            log.append("--> ").append(statusLine).append(" (").append(durationMillis).append(" ms)\n");
+            appendHeaders(log, responseHeaders);
+            appendBody(log, responseBody);
+        }
+        
+        private static void appendHeaders(StringBuilder log, Headers headers) {
+            if (headers == null) {
+                return;
+            }
+            for (Header header : headers) {
+                log.append("    ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+            }
+        }
+        
+        private static void appendBody(StringBuilder log, Object body) {
+            if (body == null) {
+                return;
+            }
+            String text = body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : String.valueOf(body);
+            if (text.isEmpty()) {
+                return;
+            }
+            text = prettyPrint(text);
+            if (text.length() > ApiConfig.LOG_MAX_BODY_CHARS) {
+                text = text.substring(0, ApiConfig.LOG_MAX_BODY_CHARS)
+                        + "\n... (" + (text.length() - ApiConfig.LOG_MAX_BODY_CHARS) + " more chars)";
+            }
+            log.append(text).append('\n');
+        }
+        
+        private static String prettyPrint(String text) {
+            char first = text.trim().isEmpty() ? ' ' : text.trim().charAt(0);
+            if (first != '{' && first != '[') {
+                return text;
+            }
+            try {
+                return ModelMapper.get().writerWithDefaultPrettyPrinter()
+                        .writeValueAsString(ModelMapper.get().readTree(text));
+            } catch (Exception e) {
+                return text;
+            }
+        }
+    }
+}
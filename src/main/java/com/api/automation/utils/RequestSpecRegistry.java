@@ -0,0 +1,128 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry untuk template RequestSpecification yang sudah dibangun sebelumnya.
+ * Satu RequestSpecification immutable (RequestSpecBuilder) dibuat per kombinasi (base URI, logging) saat pertama kali
+ * dibutuhkan; setiap test mendapat turunan baru lewat given().spec(template) tanpa membuat ulang filter dan header.
+ * Bearer token tidak menjadi bagian key (token berbeda per test akan membuat registry tumbuh tanpa batas),
+ * melainkan dipasang di turunan spec.
+ */
+public class RequestSpecRegistry {
+
+    private static final List<Filter> LOGGING_FILTERS = loggingFilters(ApiConfig.LOG_MODE);
+
+    private static final ConcurrentMap<TemplateKey, SpecTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Mendapatkan RequestSpecification baru dari template yang sesuai
+     * @param baseUri Base URI (null untuk memakai base URI default)
+     * @param logging true jika request/response harus di-log
+     * @param authToken Bearer token (null jika tanpa auth)
+     * @return RequestSpecification baru yang bisa dimodifikasi oleh test
+     */
+    public static RequestSpecification newSpec(String baseUri, boolean logging, String authToken) {
+        TemplateKey key = new TemplateKey(baseUri, logging);
+        RequestSpecification spec = templates.computeIfAbsent(key, SpecTemplate::new).derive();
+        if (authToken != null) {
+            spec.header("Authorization", "Bearer " + authToken);
+        }
+        return spec;
+    }
+
+    /**
+     * Filter logging sesuai api.log.mode
+     * @param mode "buffered" (default), "always" (cetak setiap request) atau "off"
+     * @return Daftar filter logging
+     */
+    private static List<Filter> loggingFilters(String mode) {
+        switch (mode.trim().toLowerCase()) {
+            case "always":
+                return List.of(new RequestLoggingFilter(), new ResponseLoggingFilter());
+            case "off":
+                return Collections.emptyList();
+            case "buffered":
+                return List.of(new BufferedLoggingFilter());
+            default:
+                throw new IllegalArgumentException("api.log.mode tidak dikenal: " + mode
+                        + " (gunakan buffered, always atau off)");
+        }
+    }
+    
+    /**
+     * @return Jumlah template yang sudah dibangun
+     */
+    public static int size() {
+        return templates.size();
+    }
+
+    /**
+     * RequestSpecification immutable yang dibangun sekali per key (base URI, filter logging, header JSON)
+     * dan digabung ke setiap request baru lewat given().spec(...)
+     */
+    private static final class SpecTemplate {
+        private final RequestSpecification template;
+        private final boolean globalBaseUri;
+
+        SpecTemplate(TemplateKey key) {
+            // Config bawaan (bukan RestAssured.config) agar spec(...) tidak menggabungkan ulang config di setiap request;
+            // turunan tetap memakai RestAssured.config dari given()
+            RequestSpecBuilder builder = new RequestSpecBuilder()
+                    .setConfig(RestAssuredConfig.newConfig())
+                    .addHeader("Content-Type", "application/json")
+                    .addHeader("Accept", "application/json");
+            if (key.baseUri != null) {
+                builder.setBaseUri(key.baseUri);
+            }
+            this.globalBaseUri = key.baseUri == null;
+            if (key.logging && !LOGGING_FILTERS.isEmpty()) {
+                builder.addFilters(LOGGING_FILTERS);
+            }
+            this.template = builder.build();
+        }
+
+        RequestSpecification derive() {
+            RequestSpecification spec = RestAssured.given().spec(template);
+            // Template tanpa base URI menyimpan RestAssured.baseURI saat dibangun; pakai nilai global saat ini
+            return globalBaseUri ? spec.baseUri(RestAssured.baseURI).basePath(RestAssured.basePath) : spec;
+        }
+    }
+
+    private static final class TemplateKey {
+        private final String baseUri;
+        private final boolean logging;
+
+        TemplateKey(String baseUri, boolean logging) {
+            this.baseUri = baseUri;
+            this.logging = logging;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TemplateKey)) return false;
+            TemplateKey that = (TemplateKey) o;
+            return logging == that.logging
+                    && Objects.equals(baseUri, that.baseUri);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(baseUri, logging);
+        }
+    }
+}
@@ -0,0 +1,432 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.vcr.RecordedResponse;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache in-run untuk response GET yang dipakai ulang antar test (contoh: GET /users/1 untuk setup).
+ *
+ * Cache bersama ({@link #shared()}) dipasang global oleh BaseApiUtils, tetapi hanya request yang ditandai dengan
+ * {@link #cached()} (atau spec dari ApiContext#getCachedRequestSpec()) yang dilayani dari cache.
+ * Instance lain yang dipasang langsung dengan .filter(cache) melayani semua GET yang melewatinya.
+ * Setiap POST/PUT/PATCH/DELETE lewat spec manapun menghapus entry untuk path yang sama, sub-resource-nya
+ * (contoh: /posts/1/comments) dan collection induknya (contoh: /posts), sehingga test yang mengubah data
+ * tidak membaca response lama.
+ *
+ * Entry dibatasi jumlah, total ukuran body dan TTL; jika penuh, entry yang paling lama tidak dipakai
+ * (LRU) dibuang lebih dulu. Cache hit tidak melewati rate limiter, metrics maupun network.
+ */
+public class ResponseCache implements OrderedFilter {
+
+    private static final int MAX_TRACKED_ENDPOINTS = 1024;
+
+    private static volatile ResponseCache shared;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+
+    // LinkedHashMap access-order = urutan LRU; semua akses di-synchronize pada map ini
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    // Naik setiap ada write; response GET yang dimulai sebelum write tidak disimpan
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ConcurrentMap<String, long[]> endpointCounts = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxEntries Jumlah entry maksimal
+     * @param maxBytes Total ukuran body maksimal (byte)
+     * @param ttlMillis Umur entry maksimal (milidetik)
+     */
+    public ResponseCache(int maxEntries, long maxBytes, long ttlMillis) {
+        if (maxEntries <= 0 || maxBytes <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("Batas cache harus lebih dari 0");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * Cache bersama seluruh suite dengan batas dari ApiConfig (api.cache.*)
+     * @return ResponseCache bersama
+     */
+    public static ResponseCache shared() {
+        ResponseCache cache = shared;
+        if (cache == null) {
+            synchronized (ResponseCache.class) {
+                cache = shared;
+                if (cache == null) {
+                    cache = new ResponseCache(ApiConfig.CACHE_MAX_ENTRIES, ApiConfig.CACHE_MAX_BYTES,
+                            TimeUnit.SECONDS.toMillis(ApiConfig.CACHE_TTL_SECONDS));
+                    shared = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Filter penanda agar GET request ini boleh dilayani dari cache
+     * @return Filter penanda cache
+     */
+    public static Filter cached() {
+        return CachedMarker.INSTANCE;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod().toUpperCase();
+        if (isWrite(method)) {
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                invalidate(requestSpec.getURI());
+            }
+        }
+        if (!"GET".equals(method) || !servesRequest(requestSpec) || JsonStreamReader.isStreaming(requestSpec)) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        String endpoint = AdaptiveTimeouts.endpointKey(method, requestSpec.getURI());
+        String key = cacheKey(requestSpec);
+        Entry entry = lookup(key);
+        if (entry != null) {
+            hits.increment();
+            bytesSaved.add(entry.response.getBody().length);
+            count(endpoint, 0);
+            return entry.response.toResponse();
+        }
+        misses.increment();
+        count(endpoint, 1);
+
+        long startGeneration = generation.get();
+        Response response = ctx.next(requestSpec, responseSpec);
+        int status = response.getStatusCode();
+        if (status >= 200 && status < 300) {
+            store(key, resourcePath(requestSpec.getURI()), RecordedResponse.from(response), startGeneration);
+        }
+        return response;
+    }
+
+    /**
+     * Di luar RateLimitFilter, MetricsFilter dan AdaptiveTimeoutFilter agar cache hit tidak dihitung
+     * sebagai request network, tetapi di dalam logging filter sehingga hit tetap tercatat di log
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 4;
+    }
+
+    // ===== Cache =====
+
+    private Entry lookup(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.storedAt > ttlNanos) {
+                remove(key, entry);
+                evictions.increment();
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private void store(String key, String resource, RecordedResponse response, long startGeneration) {
+        long size = response.getBody().length;
+        if (size > maxBytes) {
+            return;
+        }
+        synchronized (entries) {
+            if (generation.get() != startGeneration) {
+                // Ada write selama request berjalan: response mungkin sudah basi
+                return;
+            }
+            Entry previous = entries.put(key, new Entry(resource, response, System.nanoTime()));
+            if (previous != null) {
+                totalBytes -= previous.size();
+            }
+            totalBytes += size;
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+                Entry evicted = eldest.next().getValue();
+                eldest.remove();
+                totalBytes -= evicted.size();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Menghapus entry untuk path resource yang ditulis, sub-resource dan collection induknya
+     * @param uri URI request write
+     */
+    public void invalidate(String uri) {
+        String written = resourcePath(uri);
+        synchronized (entries) {
+            generation.incrementAndGet();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (isRelated(entry.resource, written)) {
+                    iterator.remove();
+                    totalBytes -= entry.size();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Mengosongkan cache dan statistik
+     */
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+            totalBytes = 0;
+        }
+        hits.reset();
+        misses.reset();
+        bytesSaved.reset();
+        invalidations.reset();
+        evictions.reset();
+        endpointCounts.clear();
+    }
+
+    private void remove(String key, Entry entry) {
+        entries.remove(key);
+        totalBytes -= entry.size();
+    }
+
+    private void count(String endpoint, int index) {
+        long[] counts = endpointCounts.get(endpoint);
+        if (counts == null) {
+            if (endpointCounts.size() >= MAX_TRACKED_ENDPOINTS) {
+                return;
+            }
+            counts = endpointCounts.computeIfAbsent(endpoint, name -> new long[2]);
+        }
+        synchronized (counts) {
+            counts[index]++;
+        }
+    }
+
+    // ===== Key =====
+
+    private static boolean isWrite(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method) || "DELETE".equals(method);
+    }
+
+    /**
+     * Instance yang dipasang langsung selalu melayani GET; cache bersama hanya untuk request yang ditandai
+     * cached() dan tidak membawa instance cache sendiri
+     */
+    private boolean servesRequest(FilterableRequestSpecification requestSpec) {
+        if (this != shared) {
+            return true;
+        }
+        boolean marked = false;
+        for (Filter filter : requestSpec.getDefinedFilters()) {
+            if (filter instanceof ResponseCache && filter != this) {
+                return false;
+            }
+            marked |= filter == CachedMarker.INSTANCE;
+        }
+        return marked;
+    }
+
+    /**
+     * URI dengan query yang diurutkan, ditambah header yang mempengaruhi isi response
+     */
+    private static String cacheKey(FilterableRequestSpecification requestSpec) {
+        URI uri = URI.create(requestSpec.getURI());
+        StringBuilder key = new StringBuilder(resourcePath(requestSpec.getURI()));
+        String rawQuery = uri.getRawQuery();
+        if (rawQuery != null && !rawQuery.isEmpty()) {
+            String[] params = rawQuery.split("&");
+            Arrays.sort(params);
+            key.append('?').append(String.join("&", params));
+        }
+        key.append(" accept=").append(requestSpec.getHeaders().getValue("Accept"));
+        key.append(" auth=").append(requestSpec.getHeaders().getValue("Authorization"));
+        return key.toString();
+    }
+
+    /**
+     * @return scheme://host[:port]/path tanpa query dan tanpa '/' di akhir
+     */
+    static String resourcePath(String uri) {
+        URI parsed = URI.create(uri);
+        StringBuilder path = new StringBuilder();
+        path.append(parsed.getScheme().toLowerCase()).append("://").append(parsed.getHost().toLowerCase());
+        if (parsed.getPort() != -1) {
+            path.append(':').append(parsed.getPort());
+        }
+        String rawPath = parsed.getRawPath() == null ? "" : parsed.getRawPath();
+        path.append(rawPath.replaceAll("/+$", ""));
+        return path.toString();
+    }
+
+    /**
+     * Entry terkait write jika path-nya sama, sub-resource dari path yang ditulis,
+     * atau collection induknya (contoh: write /posts/1 menghapus /posts dan /posts/1/comments)
+     */
+    static boolean isRelated(String cached, String written) {
+        return cached.equals(written)
+                || cached.startsWith(written + "/")
+                || written.startsWith(cached + "/");
+    }
+
+    // ===== Statistik =====
+
+    /**
+     * @return Snapshot statistik cache saat ini
+     */
+    public Stats getStats() {
+        int size;
+        long bytes;
+        synchronized (entries) {
+            size = entries.size();
+            bytes = totalBytes;
+        }
+        return new Stats(hits.sum(), misses.sum(), bytesSaved.sum(), invalidations.sum(), evictions.sum(), size, bytes);
+    }
+
+    /**
+     * Ringkasan cache per endpoint, diurutkan dari jumlah hit terbanyak
+     * @return Teks ringkasan untuk console dan Allure
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder(getStats().toString());
+        List<Map.Entry<String, long[]>> endpoints = new ArrayList<>(endpointCounts.entrySet());
+        List<long[]> counts = new ArrayList<>();
+        for (Map.Entry<String, long[]> endpoint : endpoints) {
+            synchronized (endpoint.getValue()) {
+                counts.add(endpoint.getValue().clone());
+            }
+        }
+        Integer[] order = new Integer[endpoints.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(counts.get(b)[0], counts.get(a)[0]));
+        for (int i : order) {
+            long endpointHits = counts.get(i)[0];
+            long endpointMisses = counts.get(i)[1];
+            report.append(String.format("%n  %s: hits=%d, misses=%d, hitRate=%.1f%%", endpoints.get(i).getKey(),
+                    endpointHits, endpointMisses, 100.0 * endpointHits / Math.max(1, endpointHits + endpointMisses)));
+        }
+        return report.toString();
+    }
+
+    private static final class Entry {
+        private final String resource;
+        private final RecordedResponse response;
+        private final long storedAt;
+
+        Entry(String resource, RecordedResponse response, long storedAt) {
+            this.resource = resource;
+            this.response = response;
+            this.storedAt = storedAt;
+        }
+
+        long size() {
+            return response.getBody().length;
+        }
+    }
+
+    private static final class CachedMarker implements Filter {
+        private static final CachedMarker INSTANCE = new CachedMarker();
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+    }
+
+    /**
+     * Snapshot statistik cache
+     */
+    public static class Stats {
+        private final long hits;
+        private final long misses;
+        private final long bytesSaved;
+        private final long invalidations;
+        private final long evictions;
+        private final int entries;
+        private final long bytes;
+
+        public Stats(long hits, long misses, long bytesSaved, long invalidations, long evictions, int entries, long bytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.bytesSaved = bytesSaved;
+            this.invalidations = invalidations;
+            this.evictions = evictions;
+            this.entries = entries;
+            this.bytes = bytes;
+        }
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        /** @return Jumlah round trip network yang dihemat (sama dengan jumlah hit) */
+        public long getSavedRoundTrips() { return hits; }
+        public long getBytesSaved() { return bytesSaved; }
+        public long getInvalidations() { return invalidations; }
+        public long getEvictions() { return evictions; }
+        public int getEntries() { return entries; }
+        public long getBytes() { return bytes; }
+
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hits=" + hits +
+                    ", misses=" + misses +
+                    ", hitRate=" + String.format("%.1f%%", getHitRate() * 100) +
+                    ", bytesSaved=" + bytesSaved +
+                    ", invalidations=" + invalidations +
+                    ", evictions=" + evictions +
+                    ", entries=" + entries +
+                    ", bytes=" + bytes +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filter yang menyalin body response langsung dari socket ke file lewat NIO channel,
+ * tanpa pernah menyimpan body sebagai byte[] atau String di heap.
+ *
+ * File ditulis ke {@code <api.capture.dir>/<test>/<urutan>-<nama>.<ext>}; folder test diatur oleh
+ * beginTest() (dipanggil oleh extension JUnit) sehingga setiap test punya folder bukti sendiri.
+ * Assertion dilakukan lewat CapturedBody yang membaca file melalui memory-mapped view.
+ *
+ * Contoh:
+ * <pre>
+ * ResponseCapture capture = ResponseCapture.toFile("posts");
+ * api.getRequestSpecWithoutLogging()
+ *         .filter(capture)
+ *         .get(ApiConfig.POSTS_ENDPOINT);
+ * try (Stream&lt;Post&gt; posts = capture.getBody().stream(Post.class)) { ... }
+ * </pre>
+ * Gunakan spec tanpa logging: ResponseLoggingFilter membaca seluruh body ke memory.
+ */
+public class ResponseCapture implements OrderedFilter {
+
+    private static final long TRANSFER_CHUNK = 1 << 20;
+    private static final String UNSCOPED = "unscoped";
+
+    private static final ThreadLocal<Scope> current = ThreadLocal.withInitial(() -> new Scope(UNSCOPED));
+
+    private final String name;
+    private volatile CapturedBody body;
+
+    private ResponseCapture(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Nama capture tidak boleh kosong");
+        }
+        this.name = name;
+    }
+
+    /**
+     * Membuat filter capture baru untuk satu request
+     * @param name Nama file bukti (contoh: "posts"), disanitasi menjadi nama file yang aman
+     * @return ResponseCapture yang dipasang dengan .filter(...)
+     */
+    public static ResponseCapture toFile(String name) {
+        return new ResponseCapture(name);
+    }
+
+    /**
+     * @return Body yang sudah di-capture ke disk
+     * @throws IllegalStateException jika request belum dikirim
+     */
+    public CapturedBody getBody() {
+        CapturedBody captured = body;
+        if (captured == null) {
+            throw new IllegalStateException("Belum ada response yang di-capture untuk '" + name + "'");
+        }
+        return captured;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        Scope scope = current.get();
+        Path file = scope.nextFile(name, extension(response.getContentType()));
+        try {
+            Files.createDirectories(file.getParent());
+            long size;
+            try (InputStream in = response.asInputStream();
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(file, StandardOpenOption.CREATE,
+                         StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                size = transfer(source, target);
+            }
+            body = new CapturedBody(name, file, size, response.getContentType());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Response tidak dapat di-capture ke " + file, e);
+        }
+        scope.captures.add(body);
+        return response;
+    }
+
+    /**
+     * Dijalankan tepat di dalam ConnectionReleaseFilter: body belum dibaca oleh filter lain,
+     * dan koneksi dikembalikan ke pool begitu stream selesai disalin.
+     */
+    @Override
+    public int getOrder() {
+        return HIGHEST_PRECEDENCE + 1;
+    }
+
+    // ===== Scope per test =====
+
+    /**
+     * Memulai folder capture untuk test yang berjalan di thread ini
+     * @param testId Id test (contoh: unique id JUnit), disanitasi menjadi nama folder
+     */
+    public static void beginTest(String testId) {
+        current.set(new Scope(sanitize(testId)));
+    }
+
+    /**
+     * Mengakhiri scope test di thread ini
+     * @return Semua body yang di-capture sejak beginTest(), sesuai urutan request
+     */
+    public static List<CapturedBody> endTest() {
+        Scope scope = current.get();
+        current.remove();
+        return scope.captures;
+    }
+
+    /**
+     * @return Body yang sudah di-capture di thread ini sejak beginTest()
+     */
+    public static List<CapturedBody> captured() {
+        return new ArrayList<>(current.get().captures);
+    }
+
+    private static final class Scope {
+        private final Path directory;
+        private final List<CapturedBody> captures = new ArrayList<>();
+
+        private Scope(String testDirectory) {
+            this.directory = Paths.get(ApiConfig.CAPTURE_DIR, testDirectory);
+        }
+
+        private Path nextFile(String name, String extension) {
+            return directory.resolve(String.format("%03d-%s.%s", captures.size() + 1, sanitize(name), extension));
+        }
+    }
+
+    // ===== Helpers =====
+
+    /**
+     * FileChannel#transferFrom dari channel non-file tetap menyalin lewat buffer sementara milik JDK
+     * (direct buffer yang di-cache per thread), bukan byte[] sebesar body
+     */
+    private static long transfer(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+            position += transferred;
+        }
+        return position;
+    }
+
+    private static String extension(String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase();
+        if (type.contains("json")) {
+            return "json";
+        }
+        if (type.contains("xml")) {
+            return "xml";
+        }
+        if (type.startsWith("text/")) {
+            return "txt";
+        }
+        return "bin";
+    }
+
+    private static String sanitize(String value) {
+        String sanitized = value.replaceAll("[^A-Za-z0-9._-]+", "_").replaceAll("^_+|_+$", "");
+        if (sanitized.length() > 120) {
+            sanitized = sanitized.substring(sanitized.length() - 120);
+        }
+        return sanitized.isEmpty() ? UNSCOPED : sanitized;
+    }
+}
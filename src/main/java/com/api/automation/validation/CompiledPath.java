@@ -0,0 +1,178 @@
+package com.api.automation.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Path JSON yang di-parse sekali lalu dievaluasi berulang kali terhadap JsonNode.
+ *
+ * Mendukung subset GPath yang dipakai di test: field bertitik ({@code data.email}),
+ * index array termasuk index negatif ({@code [0].id}, {@code data[-1]}), proyeksi field
+ * pada array ({@code data.id} menghasilkan list id) dan {@code size()} di akhir path.
+ * Nilai dikembalikan dengan tipe yang sama seperti JsonPath REST Assured
+ * (Integer/Long, Float/Double, String, Boolean, List, Map) agar matcher Hamcrest tetap berlaku.
+ * Ekspresi GPath lain (closure, filter, spasi, quoting) ditolak saat compile; gunakan jsonPath() REST Assured.
+ */
+public final class CompiledPath {
+    
+    private static final String SIZE = "size()";
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z0-9_$-]+");
+    
+    private final String expression;
+    private final Object[] steps;
+    
+    private CompiledPath(String expression, Object[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+    
+    /**
+     * Meng-compile ekspresi path
+     * @param expression Path (contoh: "[0].title", "data.size()", "" untuk root)
+     * @return CompiledPath yang bisa dipakai ulang antar thread
+     * @throws IllegalArgumentException jika path di luar subset yang didukung
+     */
+    public static CompiledPath compile(String expression) {
+        List<Object> steps = new ArrayList<>();
+        int i = 0;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                i++;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("Kurung ']' tidak ditemukan pada path: " + expression);
+                }
+                try {
+                    steps.add(Integer.parseInt(expression.substring(i + 1, end).trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Index array tidak valid pada path: " + expression, e);
+                }
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                String name = expression.substring(i, end);
+                if (name.equals("size") && expression.startsWith("()", end)) {
+                    name = SIZE;
+                    end += 2;
+                }
+                if (name.equals(SIZE) && end != length) {
+                    throw new IllegalArgumentException("size() hanya boleh di akhir path: " + expression);
+                }
+                if (!name.equals(SIZE) && !FIELD_NAME.matcher(name).matches()) {
+                    throw new IllegalArgumentException("Segment '" + name + "' tidak didukung CompiledPath, gunakan jsonPath(): " + expression);
+                }
+                steps.add(name.equals(SIZE) ? SIZE : name);
+                i = end;
+            }
+        }
+        return new CompiledPath(expression, steps.toArray());
+    }
+    
+    public String getExpression() { return expression; }
+    
+    /**
+     * Mengevaluasi path terhadap tree JSON
+     * @param root Root JSON
+     * @return Nilai dalam tipe Java, atau null jika path tidak ada
+     */
+    public Object evaluate(JsonNode root) {
+        JsonNode current = root;
+        for (Object step : steps) {
+            if (step == SIZE) {
+                return size(current);
+            }
+            current = step instanceof Integer ? index(current, (Integer) step) : field(current, (String) step);
+        }
+        return toJava(current);
+    }
+    
+    private static JsonNode index(JsonNode node, int index) {
+        if (!node.isArray()) {
+            return MissingNode.getInstance();
+        }
+        int position = index < 0 ? node.size() + index : index;
+        return node.path(position);
+    }
+    
+    private static JsonNode field(JsonNode node, String name) {
+        if (node.isArray()) {
+            // Proyeksi GPath: field diambil dari setiap elemen array
+            ArrayNode projected = JsonNodeFactory.instance.arrayNode(node.size());
+            for (JsonNode element : node) {
+                projected.add(field(element, name));
+            }
+            return projected;
+        }
+        JsonNode value = node.get(name);
+        return value == null ? MissingNode.getInstance() : value;
+    }
+    
+    private static Integer size(JsonNode node) {
+        if (node.isContainerNode()) {
+            return node.size();
+        }
+        if (node.isTextual()) {
+            return node.textValue().length();
+        }
+        return null;
+    }
+    
+    /**
+     * Mengubah JsonNode menjadi tipe Java seperti JsonPath REST Assured
+     */
+    static Object toJava(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (node.isIntegralNumber()) {
+            if (node.canConvertToInt()) {
+                return node.intValue();
+            }
+            return node.canConvertToLong() ? (Object) node.longValue() : node.bigIntegerValue();
+        }
+        if (node.isNumber()) {
+            double value = node.doubleValue();
+            float floatValue = (float) value;
+            return Float.isInfinite(floatValue) ? (Object) value : floatValue;
+        }
+        if (node.isArray()) {
+            List<Object> list = new ArrayList<>(node.size());
+            for (JsonNode element : node) {
+                list.add(toJava(element));
+            }
+            return list;
+        }
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> entry = fields.next();
+            map.put(entry.getKey(), toJava(entry.getValue()));
+        }
+        return map;
+    }
+    
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
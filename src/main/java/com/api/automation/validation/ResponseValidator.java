@@ -0,0 +1,178 @@
+package com.api.automation.validation;
+
+import com.api.automation.json.ModelMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.restassured.response.Response;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validator response yang mem-parse body satu kali lalu mengevaluasi seluruh path
+ * yang sudah di-compile (dan JSON Schema dari SchemaRegistry) dalam satu lintasan. Semua kegagalan dilaporkan bersama
+ * dalam satu AssertionError, bukan berhenti di assertion pertama.
+ *
+ * Validator bersifat immutable dan bisa disimpan sebagai konstanta di class test:
+ * <pre>
+ * private static final ResponseValidator ALL_POSTS = ResponseValidator.builder()
+ *         .statusCode(ApiConfig.OK)
+ *         .body("size()", equalTo(100))
+ *         .body("[0].id", notNullValue())
+ *         .build();
+ *
+ * Post[] posts = ALL_POSTS.validate(response).as(Post[].class);
+ * </pre>
+ */
+public final class ResponseValidator {
+    
+    private final Integer expectedStatusCode;
+    private final List<CompiledPath> paths;
+    private final List<Matcher<?>> matchers;
+    private final List<String> schemas;
+    
+    private ResponseValidator(Builder builder) {
+        this.expectedStatusCode = builder.expectedStatusCode;
+        this.paths = new ArrayList<>(builder.paths);
+        this.matchers = new ArrayList<>(builder.matchers);
+        this.schemas = new ArrayList<>(builder.schemas);
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * Memvalidasi status code dan body response
+     * @param response Response REST Assured
+     * @return Body yang sudah di-parse untuk dipakai ulang oleh test
+     * @throws AssertionError berisi semua expectation yang gagal
+     */
+    public ValidatedBody validate(Response response) {
+        List<String> failures = new ArrayList<>();
+        if (expectedStatusCode != null && response.getStatusCode() != expectedStatusCode) {
+            failures.add("Expected status code <" + expectedStatusCode + "> but was <" + response.getStatusCode() + ">.");
+        }
+        byte[] body = response.asByteArray();
+        JsonNode tree = null;
+        if (!paths.isEmpty() || !schemas.isEmpty()) {
+            try {
+                tree = parse(body);
+                evaluate(tree, failures);
+            } catch (IOException e) {
+                failures.add("Response body is not valid JSON: " + e.getMessage());
+            }
+        }
+        throwIfFailed(failures);
+        return new ValidatedBody(body, tree);
+    }
+    
+    /**
+     * Memvalidasi body JSON tanpa memeriksa status code
+     * @param json Body JSON
+     * @return Body yang sudah di-parse
+     * @throws AssertionError berisi semua expectation yang gagal
+     */
+    public ValidatedBody validate(byte[] json) {
+        List<String> failures = new ArrayList<>();
+        JsonNode tree;
+        try {
+            tree = parse(json);
+        } catch (IOException e) {
+            throw new AssertionError("Response body is not valid JSON: " + e.getMessage(), e);
+        }
+        evaluate(tree, failures);
+        throwIfFailed(failures);
+        return new ValidatedBody(json, tree);
+    }
+    
+    static JsonNode parse(byte[] json) throws IOException {
+        JsonNode tree = ModelMapper.get().readTree(json);
+        if (tree == null || tree.isMissingNode()) {
+            throw new IOException("Response body is empty");
+        }
+        return tree;
+    }
+    
+    private void evaluate(JsonNode tree, List<String> failures) {
+        for (String schema : schemas) {
+            for (String violation : SchemaRegistry.validate(schema, tree)) {
+                failures.add("JSON schema " + schema + " violated at " + violation);
+            }
+        }
+        for (int i = 0; i < paths.size(); i++) {
+            CompiledPath path = paths.get(i);
+            Matcher<?> matcher = matchers.get(i);
+            Object actual;
+            try {
+                actual = path.evaluate(tree);
+            } catch (RuntimeException e) {
+                failures.add("JSON path " + path + " could not be evaluated: " + e.getMessage());
+                continue;
+            }
+            if (!matcher.matches(actual)) {
+                StringDescription mismatch = new StringDescription();
+                matcher.describeMismatch(actual, mismatch);
+                failures.add("JSON path " + path + " doesn't match.\n"
+                        + "    Expected: " + StringDescription.toString(matcher) + "\n"
+                        + "      Actual: " + actual + (mismatch.toString().isEmpty() ? "" : " (" + mismatch + ")"));
+            }
+        }
+    }
+    
+    private static void throwIfFailed(List<String> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder()
+                .append(failures.size()).append(" expectation(s) failed.\n");
+        for (String failure : failures) {
+            message.append("  ").append(failure).append('\n');
+        }
+        throw new AssertionError(message.toString());
+    }
+    
+    /**
+     * Builder ResponseValidator; path di-compile saat ditambahkan
+     */
+    public static final class Builder {
+        private Integer expectedStatusCode;
+        private final List<CompiledPath> paths = new ArrayList<>();
+        private final List<Matcher<?>> matchers = new ArrayList<>();
+        private final List<String> schemas = new ArrayList<>();
+        
+        private Builder() {}
+        
+        public Builder statusCode(int statusCode) {
+            this.expectedStatusCode = statusCode;
+            return this;
+        }
+        
+        /**
+         * Menambahkan expectation pada path JSON
+         * @param path Path (contoh: "size()", "[0].id", "data.email")
+         * @param matcher Matcher Hamcrest
+         */
+        public Builder body(String path, Matcher<?> matcher) {
+            paths.add(CompiledPath.compile(path));
+            matchers.add(matcher);
+            return this;
+        }
+        
+        /**
+         * Menambahkan validasi kontrak JSON Schema; schema di-compile sekali lewat SchemaRegistry
+         * @param classpathLocation Lokasi schema (contoh: "schemas/reqres/user-page.json")
+         */
+        public Builder schema(String classpathLocation) {
+            SchemaRegistry.get(classpathLocation);
+            schemas.add(classpathLocation);
+            return this;
+        }
+        
+        public ResponseValidator build() {
+            return new ResponseValidator(this);
+        }
+    }
+}
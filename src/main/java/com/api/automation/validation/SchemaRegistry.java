@@ -0,0 +1,78 @@
+package com.api.automation.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache JSON Schema yang sudah di-compile, satu instance per schema per JVM.
+ *
+ * matchesJsonSchemaInClasspath dari REST Assured memuat dan meng-compile schema ulang di setiap
+ * pemanggilan. Di sini schema dimuat dari classpath sekali ($ref relatif ikut di-resolve),
+ * lalu JsonSchema yang thread-safe dipakai ulang untuk memvalidasi body yang sudah di-parse.
+ */
+public class SchemaRegistry {
+    
+    private static final JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+    private static final ConcurrentHashMap<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    
+    /**
+     * Mendapatkan schema yang sudah di-compile
+     * @param classpathLocation Lokasi schema di classpath (contoh: "schemas/jsonplaceholder/post-list.json")
+     * @return JsonSchema dari cache
+     */
+    public static JsonSchema get(String classpathLocation) {
+        return schemas.computeIfAbsent(normalize(classpathLocation), SchemaRegistry::load);
+    }
+    
+    /**
+     * Memvalidasi JSON terhadap schema (deep check: semua pelanggaran dilaporkan, bukan hanya yang pertama)
+     * @param classpathLocation Lokasi schema di classpath
+     * @param instance Body JSON yang sudah di-parse
+     * @return Daftar pelanggaran (kosong jika valid)
+     */
+    public static List<String> validate(String classpathLocation, JsonNode instance) {
+        ProcessingReport report;
+        try {
+            report = get(classpathLocation).validate(instance, true);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Schema " + classpathLocation + " tidak dapat diproses", e);
+        }
+        List<String> violations = new ArrayList<>();
+        if (report.isSuccess()) {
+            return violations;
+        }
+        for (ProcessingMessage message : report) {
+            JsonNode json = message.asJson();
+            String pointer = json.path("instance").path("pointer").asText("");
+            violations.add((pointer.isEmpty() ? "/" : pointer) + ": " + message.getMessage());
+        }
+        return violations;
+    }
+    
+    /**
+     * @return Jumlah schema yang sudah di-compile
+     */
+    public static int size() {
+        return schemas.size();
+    }
+    
+    private static JsonSchema load(String location) {
+        try {
+            return factory.getJsonSchema("resource:/" + location);
+        } catch (ProcessingException e) {
+            throw new IllegalArgumentException("Schema tidak dapat dimuat dari classpath: " + location, e);
+        }
+    }
+    
+    private static String normalize(String location) {
+        return location.startsWith("/") ? location.substring(1) : location;
+    }
+}
@@ -0,0 +1,60 @@
+package com.api.automation.validation;
+
+import com.api.automation.json.ModelMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Body response yang sudah di-parse oleh ResponseValidator.
+ * Dipakai untuk mapping ke model atau membaca nilai tambahan tanpa parse ulang body.
+ */
+public final class ValidatedBody {
+    
+    private final byte[] body;
+    private JsonNode tree;
+    
+    ValidatedBody(byte[] body, JsonNode tree) {
+        this.body = body;
+        this.tree = tree;
+    }
+    
+    /**
+     * Mendapatkan tree JSON (di-parse saat pertama dibutuhkan jika validator tidak punya path)
+     * @return Root JSON
+     */
+    public JsonNode getTree() {
+        if (tree == null) {
+            try {
+                tree = ResponseValidator.parse(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Response body is not valid JSON", e);
+            }
+        }
+        return tree;
+    }
+    
+    /**
+     * Mengubah body menjadi model
+     * @param type Class model (contoh: Post[].class)
+     * @return Model hasil mapping dari tree yang sudah ada
+     */
+    public <T> T as(Class<T> type) {
+        try {
+            return ModelMapper.reader(type).readValue(ModelMapper.get().treeAsTokens(getTree()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Body tidak dapat di-mapping ke " + type.getSimpleName(), e);
+        }
+    }
+    
+    /**
+     * Membaca nilai pada path
+     * @param path Path JSON (contoh: "[0].title")
+     * @return Nilai dalam tipe Java
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String path) {
+        return (T) CompiledPath.compile(path).evaluate(getTree());
+    }
+}
@@ -0,0 +1,330 @@
+package com.api.automation.vcr;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cassette append-only untuk pasangan request/response VCR.
+ *
+ * Terdiri dari dua file:
+ * - {@code <nama>.data}: record interaksi yang hanya ditambahkan di akhir (re-record key yang sama menimpa yang lama)
+ * - {@code <nama>.idx}: hash table open-addressing (hash key 64-bit -> offset record) yang di-memory-map saat replay
+ *
+ * Saat replay hanya index yang di-map ke memory; body response dibaca dari file data per lookup,
+ * sehingga cassette berisi ratusan ribu interaksi tidak perlu dimuat ke heap.
+ * Index dibangun ulang otomatis jika ukuran file data berubah sejak index terakhir ditulis.
+ */
+public class Cassette implements Closeable {
+
+    private static final int RECORD_MAGIC = 0x56435231; // "VCR1"
+    private static final int INDEX_MAGIC = 0x56434958;  // "VCIX"
+    private static final int INDEX_HEADER_SIZE = 24;
+    private static final int SLOT_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 8;
+
+    private final Path dataFile;
+    private final Path indexFile;
+
+    private FileChannel appendChannel;
+    private FileChannel readChannel;
+    private volatile MappedByteBuffer index;
+    private volatile int indexCapacity;
+    private volatile int indexCount;
+
+    /**
+     * @param basePath Path cassette tanpa ekstensi (contoh: src/test/resources/cassettes/api)
+     */
+    public Cassette(Path basePath) {
+        this.dataFile = basePath.resolveSibling(basePath.getFileName() + ".data");
+        this.indexFile = basePath.resolveSibling(basePath.getFileName() + ".idx");
+    }
+
+    /**
+     * Menambahkan interaksi ke akhir cassette
+     * @param key Key interaksi yang sudah dinormalisasi
+     * @param response Response yang direkam
+     */
+    public synchronized void record(String key, RecordedResponse response) throws IOException {
+        if (appendChannel == null) {
+            Files.createDirectories(dataFile.toAbsolutePath().getParent());
+            appendChannel = FileChannel.open(dataFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = encode(key, response);
+        while (buffer.hasRemaining()) {
+            appendChannel.write(buffer);
+        }
+        index = null;
+    }
+
+    /**
+     * Mencari response untuk key tertentu
+     * @param key Key interaksi yang sudah dinormalisasi
+     * @return RecordedResponse, atau null jika tidak terekam
+     */
+    public RecordedResponse find(String key) {
+        try {
+            MappedByteBuffer currentIndex = index;
+            if (currentIndex == null) {
+                currentIndex = openIndex();
+            }
+            long hash = hash(key);
+            int mask = indexCapacity - 1;
+            for (int slot = (int) hash & mask, probes = 0; probes < indexCapacity; slot = (slot + 1) & mask, probes++) {
+                int position = INDEX_HEADER_SIZE + slot * SLOT_SIZE;
+                long offset = currentIndex.getLong(position + 8);
+                if (offset == 0) {
+                    return null;
+                }
+                if (currentIndex.getLong(position) == hash) {
+                    return readRecord(offset - 1, key);
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cassette tidak dapat dibaca: " + dataFile, e);
+        }
+    }
+
+    /**
+     * @return Jumlah interaksi unik di cassette
+     */
+    public int size() {
+        if (index == null) {
+            try {
+                openIndex();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return indexCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (appendChannel != null) {
+            appendChannel.force(true);
+            appendChannel.close();
+            appendChannel = null;
+        }
+        if (readChannel != null) {
+            readChannel.close();
+            readChannel = null;
+        }
+        index = null;
+    }
+
+    // ===== Index =====
+
+    private synchronized MappedByteBuffer openIndex() throws IOException {
+        if (index != null) {
+            return index;
+        }
+        if (appendChannel != null) {
+            appendChannel.force(false);
+        }
+        long dataLength = Files.exists(dataFile) ? Files.size(dataFile) : 0;
+        if (!isIndexCurrent(dataLength)) {
+            writeIndex(dataLength);
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            indexCapacity = mapped.getInt(4);
+            indexCount = mapped.getInt(16);
+            index = mapped;
+        }
+        return index;
+    }
+
+    private boolean isIndexCurrent(long dataLength) throws IOException {
+        if (!Files.exists(indexFile) || Files.size(indexFile) < INDEX_HEADER_SIZE) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+            channel.read(header, 0);
+            return header.getInt(0) == INDEX_MAGIC && header.getLong(8) == dataLength;
+        }
+    }
+
+    /**
+     * Membangun index dengan membaca file data secara sequential; hanya hash dan offset yang disimpan di memory
+     */
+    private void writeIndex(long dataLength) throws IOException {
+        List<long[]> entries = new ArrayList<>();
+        if (dataLength > 0) {
+            try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ);
+                 DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16))) {
+                long offset = 0;
+                while (offset < dataLength) {
+                    int magic;
+                    try {
+                        magic = in.readInt();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    if (magic != RECORD_MAGIC) {
+                        throw new IOException("Cassette rusak pada offset " + offset + ": " + dataFile);
+                    }
+                    int recordLength = in.readInt();
+                    long hash = in.readLong();
+                    skipFully(in, recordLength - 8);
+                    entries.add(new long[] {hash, offset});
+                    offset += RECORD_HEADER_SIZE + recordLength;
+                }
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(16, entries.size() * 2 - 1)) << 1;
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_HEADER_SIZE + capacity * SLOT_SIZE);
+        int count = 0;
+        for (long[] entry : entries) {
+            int mask = capacity - 1;
+            int slot = (int) entry[0] & mask;
+            while (true) {
+                int position = INDEX_HEADER_SIZE + slot * SLOT_SIZE;
+                long existingOffset = buffer.getLong(position + 8);
+                if (existingOffset == 0 || buffer.getLong(position) == entry[0]) {
+                    if (existingOffset == 0) {
+                        count++;
+                    }
+                    // Record yang lebih baru untuk key yang sama menimpa record lama
+                    buffer.putLong(position, entry[0]);
+                    buffer.putLong(position + 8, entry[1] + 1);
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        buffer.putInt(0, INDEX_MAGIC);
+        buffer.putInt(4, capacity);
+        buffer.putLong(8, dataLength);
+        buffer.putInt(16, count);
+
+        Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // ===== Record encoding =====
+
+    private static ByteBuffer encode(String key, RecordedResponse response) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] statusLine = String.valueOf(response.getStatusLine()).getBytes(StandardCharsets.UTF_8);
+        List<byte[]> headerBytes = new ArrayList<>();
+        int headersLength = 0;
+        for (String[] header : response.getHeaders()) {
+            byte[] name = header[0].getBytes(StandardCharsets.UTF_8);
+            byte[] value = header[1].getBytes(StandardCharsets.UTF_8);
+            headerBytes.add(name);
+            headerBytes.add(value);
+            headersLength += 8 + name.length + value.length;
+        }
+        byte[] body = response.getBody();
+
+        int recordLength = 8 + 4 + keyBytes.length + 4 + 4 + statusLine.length + 4 + headersLength + 4 + body.length;
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + recordLength);
+        buffer.putInt(RECORD_MAGIC).putInt(recordLength).putLong(hash(key));
+        buffer.putInt(keyBytes.length).put(keyBytes);
+        buffer.putInt(response.getStatusCode());
+        buffer.putInt(statusLine.length).put(statusLine);
+        buffer.putInt(headerBytes.size() / 2);
+        for (byte[] bytes : headerBytes) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        buffer.putInt(body.length).put(body);
+        buffer.flip();
+        return buffer;
+    }
+
+    private RecordedResponse readRecord(long offset, String expectedKey) throws IOException {
+        FileChannel channel = readChannel();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(channel, header, offset);
+        int recordLength = header.getInt(4);
+
+        ByteBuffer record = ByteBuffer.allocate(recordLength);
+        readFully(channel, record, offset + RECORD_HEADER_SIZE);
+        record.flip();
+        record.getLong();
+        String key = readString(record);
+        if (!key.equals(expectedKey)) {
+            // Hash collision: key berbeda dengan hash yang sama dianggap tidak terekam
+            return null;
+        }
+        int statusCode = record.getInt();
+        String statusLine = readString(record);
+        int headerCount = record.getInt();
+        List<String[]> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(new String[] {readString(record), readString(record)});
+        }
+        byte[] body = new byte[record.getInt()];
+        record.get(body);
+        return new RecordedResponse(statusCode, statusLine, headers, body);
+    }
+
+    private synchronized FileChannel readChannel() throws IOException {
+        if (readChannel == null) {
+            readChannel = FileChannel.open(dataFile, StandardOpenOption.READ);
+        }
+        return readChannel;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Record cassette terpotong pada offset " + position);
+            }
+        }
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("Record cassette terpotong");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * FNV-1a 64-bit dari key
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
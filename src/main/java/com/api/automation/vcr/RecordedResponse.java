@@ -0,0 +1,80 @@
+package com.api.automation.vcr;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response yang tersimpan di cassette (juga dipakai oleh ResponseCache)
+ */
+public class RecordedResponse {
+
+    private final int statusCode;
+    private final String statusLine;
+    private final List<String[]> headers;
+    private final byte[] body;
+
+    public RecordedResponse(int statusCode, String statusLine, List<String[]> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.statusLine = statusLine;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public int getStatusCode() { return statusCode; }
+    public String getStatusLine() { return statusLine; }
+    /** @return Daftar header dalam bentuk {nama, nilai} */
+    public List<String[]> getHeaders() { return headers; }
+    public byte[] getBody() { return body; }
+
+    /**
+     * @return Nilai header Content-Type, atau null jika tidak ada
+     */
+    public String getContentType() {
+        for (String[] header : headers) {
+            if ("Content-Type".equalsIgnoreCase(header[0])) {
+                return header[1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Menyalin response REST Assured (body ikut di-buffer)
+     * @param response Response asli
+     * @return RecordedResponse dengan status, header dan body yang sama
+     */
+    public static RecordedResponse from(Response response) {
+        List<String[]> headers = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            headers.add(new String[] {header.getName(), header.getValue()});
+        }
+        return new RecordedResponse(response.getStatusCode(), response.getStatusLine(), headers,
+                response.asByteArray());
+    }
+
+    /**
+     * Membuat response REST Assured baru dari rekaman ini (tanpa request ke network)
+     * @return Response yang bisa di-assert seperti response asli
+     */
+    public Response toResponse() {
+        List<Header> headerList = new ArrayList<>();
+        for (String[] header : headers) {
+            headerList.add(new Header(header[0], header[1]));
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setStatusLine(statusLine)
+                .setHeaders(new Headers(headerList))
+                .setBody(body);
+        String contentType = getContentType();
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.api.automation.vcr;
+
+import com.api.automation.utils.AdaptiveTimeouts;
+import com.api.automation.utils.HedgingFilter;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * REST Assured filter untuk record/replay HTTP interaction (VCR mode).
+ * Key interaksi dinormalisasi dari method, URL (scheme/host lowercase), query yang diurutkan,
+ * dan hash SHA-256 body request. Filter berjalan paling akhir sebelum request dikirim,
+ * sehingga logging filter tetap mencatat response hasil replay.
+ * Duplikat dari HedgingFilter tidak direkam: cassette hanya berisi request asli test.
+ */
+public class VcrFilter implements OrderedFilter {
+
+    private final Cassette cassette;
+    private final VcrMode mode;
+
+    public VcrFilter(Cassette cassette, VcrMode mode) {
+        this.cassette = cassette;
+        this.mode = mode;
+    }
+
+    public VcrMode getMode() { return mode; }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (mode == VcrMode.PASSTHROUGH) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        String key = interactionKey(requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getBody());
+
+        if (mode == VcrMode.REPLAY) {
+            RecordedResponse recorded = cassette.find(key);
+            if (recorded == null) {
+                throw new IllegalStateException("Interaksi tidak ditemukan di cassette (VCR replay): " + key);
+            }
+            return recorded.toResponse();
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (HedgingFilter.isDuplicate(requestSpec)) {
+            return response;
+        }
+        try {
+            cassette.record(key, RecordedResponse.from(response));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Interaksi tidak dapat ditulis ke cassette: " + key, e);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Membuat key interaksi yang dinormalisasi
+     * @param method HTTP method
+     * @param uri URI lengkap termasuk query
+     * @param body Body request (String, byte[], atau null)
+     * @return Key interaksi
+     */
+    public static String interactionKey(String method, String uri, Object body) {
+        URI parsed = URI.create(uri);
+        StringBuilder key = new StringBuilder();
+        key.append(method.toUpperCase()).append(' ')
+                .append(parsed.getScheme().toLowerCase()).append("://")
+                .append(parsed.getHost().toLowerCase());
+        // Port loopback diabaikan: StubApiServer memakai port acak di setiap run
+        if (parsed.getPort() != -1 && !AdaptiveTimeouts.isLoopback(parsed.getHost())) {
+            key.append(':').append(parsed.getPort());
+        }
+        key.append(parsed.getRawPath() == null || parsed.getRawPath().isEmpty() ? "/" : parsed.getRawPath());
+
+        String rawQuery = parsed.getRawQuery();
+        if (rawQuery != null && !rawQuery.isEmpty()) {
+            String[] params = rawQuery.split("&");
+            Arrays.sort(params);
+            key.append('?').append(String.join("&", params));
+        }
+        key.append(' ').append(bodyHash(body));
+        return key.toString();
+    }
+
+    private static String bodyHash(Object body) {
+        if (body == null) {
+            return "-";
+        }
+        byte[] bytes = body instanceof byte[] ? (byte[]) body : body.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 tidak tersedia", e);
+        }
+    }
+}
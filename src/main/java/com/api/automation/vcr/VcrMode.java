@@ -0,0 +1,24 @@
+package com.api.automation.vcr;
+
+/**
+ * Mode VcrFilter
+ */
+public enum VcrMode {
+    /** Request dikirim ke network dan interaksinya ditulis ke cassette */
+    RECORD,
+    /** Response diambil dari cassette tanpa network; request yang tidak terekam akan gagal */
+    REPLAY,
+    /** Filter tidak melakukan apa-apa */
+    PASSTHROUGH;
+
+    /**
+     * @param value Nama mode (case-insensitive), contoh dari -Dapi.vcr.mode=replay
+     * @return VcrMode yang sesuai, PASSTHROUGH jika value kosong
+     */
+    public static VcrMode fromString(String value) {
+        if (value == null || value.isEmpty()) {
+            return PASSTHROUGH;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+}
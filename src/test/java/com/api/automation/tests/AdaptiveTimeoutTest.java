@@ -0,0 +1,141 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.utils.AdaptiveTimeoutFilter;
+import com.api.automation.utils.AdaptiveTimeouts;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.HedgingFilter;
+import com.api.automation.stub.StubApiServer;
+
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk adaptive timeout per endpoint
+ * Menggunakan StubApiServer lokal (mendukung ?delay=N seperti ReqRes) sebagai pengganti host publik
+ */
+@Epic("API Infrastructure")
+@Feature("Adaptive Timeouts")
+public class AdaptiveTimeoutTest {
+
+    private static final String ENDPOINT = "GET localhost/posts/{id}";
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @TempDir
+    Path stateDir;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        api = BaseApiUtils.forBaseUri(server.getReqResBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Endpoint Key")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Endpoint Key Normalizes IDs And Ignores Query")
+    @Description("Memverifikasi bahwa /posts/1 dan /posts/2?x=y memakai history endpoint yang sama, dan port stub lokal diabaikan")
+    void testEndpointKeyNormalization() {
+        assertEquals(ENDPOINT, AdaptiveTimeouts.endpointKey("get", "http://localhost:8080/posts/1"));
+        assertEquals(ENDPOINT, AdaptiveTimeouts.endpointKey("GET", "http://localhost:8080/posts/42?delay=3"));
+        assertEquals("POST reqres.in/api/users", AdaptiveTimeouts.endpointKey("POST", ApiConfig.REQRES_BASE_URL + "/users"));
+        assertEquals("GET example.com:8443/v1/items/{id}", AdaptiveTimeouts.endpointKey("GET", "https://example.com:8443/v1/items/7"));
+    }
+
+    @Test
+    @Story("Timeout Derivation")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Timeout Derived From Percentile With Floor And Ceiling")
+    @Description("Memverifikasi bahwa timeout = p99.9 x factor, dibatasi floor dan ceiling, dan ceiling dipakai sebelum sampel cukup")
+    void testTimeoutDerivedFromPercentile() {
+        AdaptiveTimeouts timeouts = new AdaptiveTimeouts(null, 99.9, 3, 100, 30_000, 20, 1000);
+        assertEquals(30_000, timeouts.timeoutMillis(ENDPOINT), "Unknown endpoint uses the ceiling");
+
+        for (int i = 0; i < 10; i++) {
+            timeouts.record(ENDPOINT, TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        assertEquals(30_000, timeouts.timeoutMillis(ENDPOINT), "Too few samples uses the ceiling");
+
+        for (int i = 0; i < 990; i++) {
+            timeouts.record(ENDPOINT, TimeUnit.MILLISECONDS.toNanos(i == 500 ? 120 : 50));
+        }
+        assertEquals(360, timeouts.timeoutMillis(ENDPOINT), "p99.9 (120 ms) x 3");
+
+        // Window bergulir: sampel lama digantikan latency baru yang lebih cepat
+        for (int i = 0; i < 1000; i++) {
+            timeouts.record(ENDPOINT, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertEquals(100, timeouts.timeoutMillis(ENDPOINT), "30 ms is raised to the floor");
+    }
+
+    @Test
+    @Story("Persistence")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Latency History Persists Between Runs")
+    @Description("Memverifikasi bahwa window latency disimpan ke file dan dimuat kembali oleh run berikutnya")
+    void testHistoryPersistsBetweenRuns() {
+        Path stateFile = stateDir.resolve("timeouts.properties");
+        AdaptiveTimeouts firstRun = new AdaptiveTimeouts(stateFile, 99.9, 3, 100, 30_000, 20, 500);
+        for (int i = 0; i < 800; i++) {
+            firstRun.record(ENDPOINT, TimeUnit.MILLISECONDS.toNanos(i < 400 ? 500 : 40));
+        }
+        firstRun.save();
+
+        AdaptiveTimeouts secondRun = new AdaptiveTimeouts(stateFile, 99.9, 3, 100, 30_000, 20, 500);
+        secondRun.load();
+
+        assertEquals(500, secondRun.getSampleCount(ENDPOINT));
+        assertEquals(firstRun.timeoutMillis(ENDPOINT), secondRun.timeoutMillis(ENDPOINT));
+        assertEquals(1500, secondRun.timeoutMillis(ENDPOINT), "Most recent window keeps 100 samples of 500 ms");
+    }
+
+    @Test
+    @Story("Stuck Requests")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Stuck Request Fails Within About A Second")
+    @Description("Memverifikasi bahwa request yang macet ke endpoint cepat gagal pada floor timeout, bukan DEFAULT_TIMEOUT")
+    void testStuckRequestFailsFast() {
+        AdaptiveTimeouts timeouts = new AdaptiveTimeouts(null, 99.9, 3, 1000, 30_000, 20, 1000);
+        AdaptiveTimeoutFilter filter = new AdaptiveTimeoutFilter(timeouts);
+        // Request pertama di JVM ikut menanggung inisialisasi REST Assured, jadi tidak dicatat
+        api.getRequestSpecWithoutLogging().get(ApiConfig.REQRES_USERS_ENDPOINT + "/2");
+        for (int i = 0; i < 30; i++) {
+            api.getRequestSpecWithoutLogging().filter(filter)
+                    .get(ApiConfig.REQRES_USERS_ENDPOINT + "/2")
+                    .then()
+                    .statusCode(ApiConfig.OK);
+        }
+        String endpoint = AdaptiveTimeouts.endpointKey("GET", server.getReqResBaseUrl() + ApiConfig.REQRES_USERS_ENDPOINT + "/2");
+        assertEquals(1000, timeouts.timeoutMillis(endpoint));
+
+        long start = System.nanoTime();
+        // Tanpa hedging: duplikat tidak membawa filter eksplisit ini dan akan menyelamatkan request setelah 5 s
+        Exception error = assertThrows(Exception.class, () -> api.getRequestSpecWithoutLogging().filter(filter)
+                .filter(HedgingFilter.unhedged())
+                .queryParam("delay", 5)
+                .get(ApiConfig.REQRES_USERS_ENDPOINT + "/2"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.println("Stuck request failed after " + elapsedMillis + " ms: " + error);
+
+        assertTrue(error instanceof SocketTimeoutException, "Expected a socket timeout but got " + error);
+        assertTrue(elapsedMillis < 3000, "Stuck request should fail near the 1 s floor, took " + elapsedMillis + " ms");
+    }
+}
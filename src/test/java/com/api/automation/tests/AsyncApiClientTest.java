@@ -0,0 +1,74 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.Post;
+import com.api.automation.utils.AsyncApiClient;
+import com.api.automation.stub.StubApiServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk AsyncApiClient (mode non-blocking)
+ * Menggunakan StubApiServer lokal sebagai pengganti host publik
+ */
+@Epic("API Infrastructure")
+@Feature("Non-Blocking Client")
+public class AsyncApiClientTest {
+
+    private static StubApiServer server;
+    private static AsyncApiClient client;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        client = new AsyncApiClient(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Concurrent Requests")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Many Concurrent GET Requests - Non-Blocking")
+    @Description("Memverifikasi bahwa banyak request dapat berjalan bersamaan tanpa satu thread per request")
+    void testManyConcurrentGetRequests() {
+        int requestCount = 1000;
+        List<CompletableFuture<Post>> futures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(client.getAs(ApiConfig.POSTS_ENDPOINT + "/1", Post.class));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+        for (CompletableFuture<Post> future : futures) {
+            assertEquals(1, future.join().getId().intValue(), "Every response should map to Post 1");
+        }
+    }
+
+    @Test
+    @Story("Create Post")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Create Post - Non-Blocking")
+    @Description("Memverifikasi bahwa model Post dapat dikirim dan diterima melalui client non-blocking")
+    void testCreatePostAsync() {
+        Post newPost = new Post(1, "Async Title", "Async Body");
+
+        AsyncApiClient.ApiResponse response = client.post(ApiConfig.POSTS_ENDPOINT, newPost).join();
+
+        assertEquals(ApiConfig.CREATED, response.getStatusCode(), "Status code should be 201");
+        assertNotNull(response.as(Post.class).getId(), "Created post should have an ID");
+    }
+}
@@ -0,0 +1,120 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.load.BatchExecutor;
+import com.api.automation.load.BatchResult;
+import com.api.automation.load.LoadRequest;
+import com.api.automation.models.Post;
+import com.api.automation.utils.AsyncApiClient;
+import com.api.automation.stub.StubApiServer;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk eksekusi batch CRUD melalui BatchExecutor
+ * Menggunakan StubApiServer lokal (HTTP/1.1) sebagai pengganti host publik
+ * Dijalankan @Isolated saat mode paralel karena meng-assert throughput batch
+ */
+@Epic("API Infrastructure")
+@Feature("Batch Execution")
+@Isolated
+public class BatchExecutorTest {
+
+    private static StubApiServer server;
+    private static AsyncApiClient client;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        client = new AsyncApiClient(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Bulk Mutations")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Batch Of 10k Mutations Returns Ordered Results")
+    @Description("Memverifikasi bahwa 10.000 request create/update/delete selesai dengan hasil sesuai urutan dan timing per request")
+    void testBatchOfMutationsReturnsOrderedResults() {
+        List<LoadRequest> requests = mutations(10_000);
+
+        // Satu lane = satu request pada satu waktu, seperti test CRUD biasa
+        BatchResult sequential = new BatchExecutor(client, 1, 1).execute(requests.subList(0, 500));
+        double sequentialMillisPerRequest = sequential.getElapsedNanos() / 1e6 / sequential.size();
+
+        BatchResult result = new BatchExecutor(client).execute(requests);
+        String report = String.format("%s%nsequential estimate for %d requests: %.1fs",
+                result, requests.size(), sequentialMillisPerRequest * requests.size() / 1000);
+        System.out.println(report);
+        Allure.addAttachment("Batch execution", "text/plain", report);
+
+        assertEquals(requests.size(), result.size());
+        assertTrue(result.getFailures().isEmpty(), "Unexpected failures: " + result.getFailures());
+        assertEquals(HttpClient.Version.HTTP_1_1, result.getProtocol(), "Stub server only speaks HTTP/1.1");
+        for (int i = 0; i < result.size(); i++) {
+            BatchResult.Entry entry = result.get(i);
+            assertEquals(i, entry.getIndex());
+            assertEquals(requests.get(i).getName(), entry.getName());
+            assertTrue(entry.getDurationNanos() > 0);
+            if (i % 3 == 0) {
+                assertEquals("Batch Post " + i, entry.as(Post.class).getTitle(), "Response should belong to request " + i);
+            }
+        }
+    }
+
+    @Test
+    @Story("Bulk Mutations")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Batch Reports Failures In Request Order")
+    @Description("Memverifikasi bahwa request yang gagal dilaporkan pada posisi aslinya tanpa menghentikan batch")
+    void testBatchReportsFailuresInOrder() {
+        List<LoadRequest> requests = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            int id = i % 5 == 0 ? 9999 : i;
+            requests.add(LoadRequest.get(ApiConfig.POSTS_ENDPOINT + "/" + id, ApiConfig.OK));
+        }
+
+        BatchResult result = new BatchExecutor(client, 8, 4).execute(requests);
+
+        assertEquals(16, result.getSuccessCount());
+        List<BatchResult.Entry> failures = result.getFailures();
+        assertEquals(List.of(4, 9, 14, 19), failures.stream().map(BatchResult.Entry::getIndex)
+                .collect(java.util.stream.Collectors.toList()));
+        assertEquals(ApiConfig.NOT_FOUND, failures.get(0).getStatusCode());
+    }
+
+    private static List<LoadRequest> mutations(int count) {
+        List<LoadRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int postId = i % 100 + 1;
+            switch (i % 3) {
+                case 0:
+                    Post newPost = new Post(1, "Batch Post " + i, "Batch body " + i);
+                    requests.add(LoadRequest.post(ApiConfig.POSTS_ENDPOINT, () -> newPost, ApiConfig.CREATED));
+                    break;
+                case 1:
+                    Post updatedPost = new Post(1, "Updated Post " + i, "Updated body " + i);
+                    requests.add(LoadRequest.put(ApiConfig.POSTS_ENDPOINT + "/" + postId, () -> updatedPost, ApiConfig.OK));
+                    break;
+                default:
+                    requests.add(LoadRequest.delete(ApiConfig.POSTS_ENDPOINT + "/" + postId, ApiConfig.OK));
+            }
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,171 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.AsyncApiClient;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.LogOnFailureExtension;
+import com.api.automation.utils.RequestLogBuffer;
+import com.api.automation.stub.StubApiServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk BufferedLoggingFilter dan LogOnFailureExtension
+ * Menggunakan StubApiServer lokal sebagai pengganti host publik
+ * Dijalankan @Isolated saat mode paralel karena meng-assert System.out yang dipakai semua test
+ */
+@Epic("API Infrastructure")
+@Feature("Buffered Logging")
+@Isolated
+public class BufferedLoggingTest {
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Capture")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Requests Captured Without Console Output")
+    @Description("Memverifikasi bahwa request dengan logging disimpan ke buffer per test tanpa menulis ke console")
+    void testRequestsCapturedWithoutConsoleOutput() {
+        String console = captureConsole(() -> api.getRequestSpec()
+                .when()
+                .get(ApiConfig.POSTS_ENDPOINT + "/1")
+                .then()
+                .statusCode(ApiConfig.OK));
+
+        assertEquals("", console, "Passing requests should not be printed");
+        assertEquals(1, RequestLogBuffer.current().size());
+        String log = RequestLogBuffer.current().drain();
+        assertTrue(log.contains("GET " + server.getJsonPlaceholderBaseUrl() + "/posts/1"), log);
+        assertTrue(log.contains("\"title\" : \"Post title 1\""), "Body should be pretty-printed: " + log);
+        assertEquals(0, RequestLogBuffer.current().size(), "drain() should empty the buffer");
+    }
+
+    @Test
+    @Story("Capture")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Requests From Other Threads Are Captured")
+    @Description("Memverifikasi bahwa request dari executor, AsyncApiClient dan thread buatan test masuk ke buffer test yang sama")
+    void testRequestsFromOtherThreadsAreCaptured() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(RequestLogBuffer.propagate(() -> api.getRequestSpec()
+                    .get(ApiConfig.POSTS_ENDPOINT + "/1")
+                    .then()
+                    .statusCode(ApiConfig.OK))).get();
+        } finally {
+            executor.shutdown();
+        }
+        new AsyncApiClient(server.getJsonPlaceholderBaseUrl()).get(ApiConfig.POSTS_ENDPOINT + "/2").join();
+        // Thread tanpa propagate: test @Isolated adalah satu-satunya test yang berjalan
+        Thread thread = new Thread(() -> api.getRequestSpec().get(ApiConfig.POSTS_ENDPOINT + "/3"));
+        thread.start();
+        thread.join();
+
+        String log = RequestLogBuffer.current().drain();
+        assertTrue(log.contains("/posts/1\n") && log.contains("/posts/2\n") && log.contains("/posts/3\n"), log);
+    }
+
+    @Test
+    @Story("Ring Buffer")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Ring Buffer Keeps Latest Entries")
+    @Description("Memverifikasi bahwa buffer berukuran tetap dan entry tertua ditimpa")
+    void testRingBufferKeepsLatestEntries() {
+        RequestLogBuffer buffer = new RequestLogBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(entry("/posts/" + i, "{\"id\":" + i + "}"));
+        }
+
+        assertEquals(3, buffer.size());
+        String log = buffer.drain();
+        assertTrue(log.startsWith("... 2 earlier request(s) dropped"), log);
+        assertFalse(log.contains("/posts/2\n"), log);
+        assertTrue(log.indexOf("/posts/3") < log.indexOf("/posts/4") && log.indexOf("/posts/4") < log.indexOf("/posts/5"),
+                "Entries should be emitted oldest first: " + log);
+    }
+
+    @Test
+    @Story("Emit On Failure")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Log Emitted Only When Test Fails")
+    @Description("Memverifikasi bahwa LogOnFailureExtension mencetak buffer hanya untuk test yang gagal")
+    void testLogEmittedOnlyWhenTestFails() {
+        LogOnFailureExtension extension = new LogOnFailureExtension();
+
+        RequestLogBuffer.current().add(entry("/posts/1", "{}"));
+        String passed = captureConsole(() -> extension.afterTestExecution(context(null)));
+        assertEquals("", passed, "Passing tests should not emit logs when sampling is off");
+        assertEquals(0, RequestLogBuffer.current().size(), "Buffer should be cleared after each test");
+
+        RequestLogBuffer.current().add(entry("/posts/2", "{}"));
+        String failed = captureConsole(() -> extension.afterTestExecution(context(new AssertionError("boom"))));
+        assertTrue(failed.contains("API log (failed) - failing test"), failed);
+        assertTrue(failed.contains("/posts/2"), failed);
+    }
+
+    private static RequestLogBuffer.Entry entry(String path, String body) {
+        return new RequestLogBuffer.Entry(Instant.now(), "GET", "http://localhost" + path, null, null,
+                "HTTP/1.1 200 OK", null, body.getBytes(StandardCharsets.UTF_8), 1);
+    }
+
+    private static ExtensionContext context(Throwable failure) {
+        return (ExtensionContext) Proxy.newProxyInstance(ExtensionContext.class.getClassLoader(),
+                new Class<?>[] {ExtensionContext.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getExecutionException":
+                            return Optional.ofNullable(failure);
+                        case "getDisplayName":
+                            return "failing test";
+                        case "getStore":
+                            // Tanpa buffer di Store: extension memakai buffer test yang sedang berjalan
+                            return Proxy.newProxyInstance(ExtensionContext.class.getClassLoader(),
+                                    new Class<?>[] {ExtensionContext.Store.class}, (store, storeMethod, storeArgs) -> null);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static String captureConsole(Runnable action) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true));
+        try {
+            action.run();
+        } finally {
+            System.setOut(original);
+        }
+        return captured.toString();
+    }
+}
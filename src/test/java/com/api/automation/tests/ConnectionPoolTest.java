@@ -0,0 +1,86 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.ConnectionPoolManager;
+import com.api.automation.utils.HedgingFilter;
+import com.api.automation.stub.StubApiServer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk connection pool bersama
+ * Menggunakan StubApiServer lokal sebagai pengganti host publik
+ * Dijalankan @Isolated saat mode paralel karena meng-assert statistik connection pool bersama
+ */
+@Epic("API Infrastructure")
+@Feature("Connection Pooling")
+@Isolated
+public class ConnectionPoolTest {
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Keep-Alive Reuse")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Sequential Requests Reuse Pooled Connection")
+    @Description("Memverifikasi bahwa request berurutan ke host yang sama memakai ulang koneksi dari pool")
+    void testSequentialRequestsReuseConnection() {
+        int requestCount = 50;
+        ConnectionPoolManager.Stats before = ConnectionPoolManager.getStats();
+
+        for (int i = 0; i < requestCount; i++) {
+            api.getRequestSpecWithoutLogging()
+                    .filter(HedgingFilter.unhedged())
+                    .when()
+                    .get(ApiConfig.POSTS_ENDPOINT)
+                    .then()
+                    .statusCode(ApiConfig.OK);
+        }
+
+        ConnectionPoolManager.Stats after = ConnectionPoolManager.getStats();
+        long requests = after.getTotalRequests() - before.getTotalRequests();
+        long newConnections = after.getNewConnections() - before.getNewConnections();
+        System.out.println("Connection pool: " + after);
+
+        assertEquals(requestCount, requests, "Every request should lease a connection from the pool");
+        assertTrue(newConnections < requestCount / 10,
+                "Most requests should reuse a kept-alive connection, new connections: " + newConnections);
+        assertEquals(0, after.getLeased(), "All connections should be released back to the pool");
+    }
+
+    @Test
+    @Story("Per-Host Limits")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Per-Host Limit Applies To URIs Without Explicit Port")
+    @Description("Memverifikasi bahwa batas koneksi untuk base URI tanpa port berlaku untuk route dengan port default scheme")
+    void testPerHostLimitUsesDefaultPort() {
+        ConnectionPoolManager.setMaxConnectionsPerHost("https://limits.example.com/api", 7);
+        ConnectionPoolManager.setMaxConnectionsPerHost("http://limits.example.com", 3);
+
+        assertEquals(7, ConnectionPoolManager.getMaxConnectionsPerHost("https://limits.example.com:443/api"));
+        assertEquals(3, ConnectionPoolManager.getMaxConnectionsPerHost("http://limits.example.com:80/"));
+        assertEquals(ApiConfig.POOL_MAX_PER_ROUTE, ConnectionPoolManager.getMaxConnectionsPerHost("https://limits.example.com:8443"),
+                "Other ports keep the default limit");
+    }
+}
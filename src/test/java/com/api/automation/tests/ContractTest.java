@@ -0,0 +1,168 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.ApiResources;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.validation.ResponseValidator;
+
+/**
+ * Test class untuk kontrak JSON Schema endpoint JSONPlaceholder dan ReqRes
+ * Schema ada di src/test/resources/schemas dan di-compile sekali lewat SchemaRegistry
+ */
+@Epic("API Contract")
+@Feature("JSON Schema Contract")
+public class ContractTest {
+    
+    private static final ApiContext jsonPlaceholder = BaseApiUtils.forBaseUri(ApiConfig.JSONPLACEHOLDER_BASE_URL);
+    private static final ApiContext reqres = BaseApiUtils.forBaseUri(ApiConfig.REQRES_BASE_URL);
+    
+    private static final ResponseValidator POST_LIST_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .schema("schemas/jsonplaceholder/post-list.json")
+            .build();
+    
+    private static final ResponseValidator POST_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .schema("schemas/jsonplaceholder/post.json")
+            .build();
+    
+    private static final ResponseValidator USER_LIST_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .schema("schemas/jsonplaceholder/user-list.json")
+            .build();
+    
+    private static final ResponseValidator USER_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .schema("schemas/jsonplaceholder/user.json")
+            .build();
+    
+    private static final ResponseValidator REQRES_USER_PAGE_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .schema("schemas/reqres/user-page.json")
+            .build();
+    
+    private static final ResponseValidator REQRES_SINGLE_USER_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .schema("schemas/reqres/user-single.json")
+            .build();
+    
+    private static final ResponseValidator REQRES_CREATED_USER_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.CREATED)
+            .schema("schemas/reqres/user-created.json")
+            .build();
+    
+    private static final ResponseValidator REQRES_TOKEN_CONTRACT = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .schema("schemas/reqres/token.json")
+            .build();
+    
+    @Test
+    @Story("JSONPlaceholder Posts")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Posts List Matches Contract")
+    @Description("Memverifikasi bahwa GET /posts sesuai schema post-list.json")
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
+    void testPostsListMatchesContract() {
+        POST_LIST_CONTRACT.validate(jsonPlaceholder.getRequestSpec().get(ApiConfig.POSTS_ENDPOINT));
+    }
+    
+    @Test
+    @Story("JSONPlaceholder Posts")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Single Post Matches Contract")
+    @Description("Memverifikasi bahwa GET /posts/{id} sesuai schema post.json")
+    @ResourceLock(value = ApiResources.POST_1, mode = ResourceAccessMode.READ)
+    void testSinglePostMatchesContract() {
+        POST_CONTRACT.validate(jsonPlaceholder.getRequestSpec().get(ApiConfig.POSTS_ENDPOINT + "/1"));
+    }
+    
+    @Test
+    @Story("JSONPlaceholder Users")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Users List Matches Contract")
+    @Description("Memverifikasi bahwa GET /users sesuai schema user-list.json termasuk address, geo dan company")
+    @ResourceLock(value = ApiResources.USERS, mode = ResourceAccessMode.READ)
+    void testUsersListMatchesContract() {
+        USER_LIST_CONTRACT.validate(jsonPlaceholder.getRequestSpec().get(ApiConfig.USERS_ENDPOINT));
+    }
+    
+    @Test
+    @Story("JSONPlaceholder Users")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Single User Matches Contract")
+    @Description("Memverifikasi bahwa GET /users/{id} sesuai schema user.json")
+    @ResourceLock(value = ApiResources.USER_1, mode = ResourceAccessMode.READ)
+    void testSingleUserMatchesContract() {
+        USER_CONTRACT.validate(jsonPlaceholder.getRequestSpec().get(ApiConfig.USERS_ENDPOINT + "/1"));
+    }
+    
+    @Test
+    @Story("ReqRes Users")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test ReqRes User Page Matches Contract")
+    @Description("Memverifikasi bahwa GET /api/users?page=2 sesuai schema user-page.json")
+    @ResourceLock(value = ApiResources.REQRES, mode = ResourceAccessMode.READ)
+    @ResourceLock(value = ApiResources.REQRES_USERS, mode = ResourceAccessMode.READ)
+    void testReqResUserPageMatchesContract() {
+        REQRES_USER_PAGE_CONTRACT.validate(reqres.getRequestSpec()
+                .queryParam("page", 2)
+                .get(ApiConfig.REQRES_USERS_ENDPOINT));
+    }
+    
+    @Test
+    @Story("ReqRes Users")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test ReqRes Single User Matches Contract")
+    @Description("Memverifikasi bahwa GET /api/users/{id} sesuai schema user-single.json")
+    @ResourceLock(value = ApiResources.REQRES, mode = ResourceAccessMode.READ)
+    @ResourceLock(value = ApiResources.REQRES_USERS, mode = ResourceAccessMode.READ)
+    void testReqResSingleUserMatchesContract() {
+        REQRES_SINGLE_USER_CONTRACT.validate(reqres.getRequestSpec().get(ApiConfig.REQRES_USERS_ENDPOINT + "/2"));
+    }
+    
+    @Test
+    @Story("ReqRes Users")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test ReqRes Created User Matches Contract")
+    @Description("Memverifikasi bahwa POST /api/users sesuai schema user-created.json")
+    @ResourceLock(value = ApiResources.REQRES, mode = ResourceAccessMode.READ)
+    @ResourceLock(value = ApiResources.REQRES_USERS)
+    void testReqResCreatedUserMatchesContract() {
+        Response response = reqres.getRequestSpec()
+                .body("{\"name\": \"John Doe\", \"job\": \"QA Engineer\"}")
+                .post(ApiConfig.REQRES_USERS_ENDPOINT);
+        REQRES_CREATED_USER_CONTRACT.validate(response);
+    }
+    
+    @Test
+    @Story("ReqRes Auth")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test ReqRes Login And Register Match Contract")
+    @Description("Memverifikasi bahwa POST /api/login dan /api/register untuk user terdaftar sesuai schema token.json")
+    @ResourceLock(value = ApiResources.REQRES, mode = ResourceAccessMode.READ)
+    @ResourceLock(value = ApiResources.REQRES_USERS, mode = ResourceAccessMode.READ)
+    void testReqResLoginAndRegisterMatchContract() {
+        // Hanya user yang terdaftar yang bisa login/register, jadi email diambil dari server yang sedang dites
+        String email = reqres.getRequestSpec()
+                .get(ApiConfig.REQRES_USERS_ENDPOINT + "/4")
+                .then()
+                .statusCode(ApiConfig.OK)
+                .extract().path("data.email");
+        String credentials = "{\"email\": \"" + email + "\", \"password\": \"pistol\"}";
+        
+        REQRES_TOKEN_CONTRACT.validate(reqres.getRequestSpec()
+                .body(credentials)
+                .post(ApiConfig.REQRES_LOGIN_ENDPOINT));
+        REQRES_TOKEN_CONTRACT.validate(reqres.getRequestSpec()
+                .body(credentials)
+                .post(ApiConfig.REQRES_REGISTER_ENDPOINT));
+    }
+}
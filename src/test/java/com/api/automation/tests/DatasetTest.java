@@ -0,0 +1,129 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.dataset.PostDataset;
+import com.api.automation.dataset.UserDataset;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.models.User;
+import com.api.automation.utils.AsyncApiClient;
+import com.api.automation.stub.StubApiServer;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk dataset kolom UserDataset dan PostDataset
+ */
+@Epic("API Infrastructure")
+@Feature("Columnar Dataset")
+public class DatasetTest {
+
+    private static StubApiServer server;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Materialization")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test JSON Bytes Match Materialized Models")
+    @Description("Memverifikasi bahwa bytes JSON dari kolom identik dengan serialisasi model hasil materialisasi")
+    void testJsonBytesMatchMaterializedModels() {
+        UserDataset users = UserDataset.generate(1_000, 42L, false);
+        PostDataset posts = PostDataset.generate(1_000, 42L, true);
+
+        for (int row : new int[] {0, 1, 499, 999}) {
+            assertArrayEquals(ModelMapper.write(users.toUser(row)), users.toJsonBytes(row), "User row " + row);
+            assertArrayEquals(ModelMapper.write(posts.toPost(row)), posts.toJsonBytes(row), "Post row " + row);
+        }
+
+        User user = users.toUser(10);
+        assertEquals(11, user.getId());
+        assertTrue(user.getEmail().startsWith(user.getUsername() + "@"));
+        assertTrue(user.getUsername().endsWith("11"), "Username should carry the row id suffix");
+        assertNotNull(user.getAddress().getGeo().getLat());
+        assertNotNull(user.getCompany().getCatchPhrase());
+
+        UserDataset.View view = users.view();
+        assertEquals(user.getName(), view.at(10).getName());
+        assertEquals(users.toUser(20).getName(), view.at(20).getName(), "View should be reusable across rows");
+
+        Set<String> usernames = new HashSet<>();
+        for (int row = 0; row < users.size(); row++) {
+            usernames.add(view.at(row).getUsername());
+        }
+        assertEquals(users.size(), usernames.size(), "Username should be unique per row");
+    }
+
+    @Test
+    @Story("Determinism")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Same Seed Produces Same Dataset")
+    @Description("Memverifikasi bahwa dataset dengan seed yang sama identik, termasuk antara heap dan off-heap")
+    void testSameSeedProducesSameDataset() {
+        UserDataset heap = UserDataset.generate(500, 7L, false);
+        UserDataset offHeap = UserDataset.generate(500, 7L, true);
+        UserDataset other = UserDataset.generate(500, 8L, false);
+
+        assertArrayEquals(heap.toJsonBytes(123), offHeap.toJsonBytes(123));
+        assertFalse(java.util.Arrays.equals(heap.toJsonBytes(123), other.toJsonBytes(123)));
+    }
+
+    @Test
+    @Story("Footprint")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Million Users Fit In Compact Footprint")
+    @Description("Memverifikasi bahwa 1 juta User off-heap memakai kurang dari 50 byte per record")
+    void testMillionUsersFitInCompactFootprint() {
+        int size = 1_000_000;
+        long start = System.nanoTime();
+        UserDataset users = UserDataset.generate(size, 1L, true);
+        long generateMillis = (System.nanoTime() - start) / 1_000_000;
+
+        long bytesPerRecord = users.memoryBytes() / size;
+        int objectJsonLength = ModelMapper.write(users.toUser(size - 1)).length;
+        String report = String.format("1M users: %d MB total, %d bytes/record (JSON %d bytes/record), generated in %d ms;"
+                        + " 10M users ~%d MB",
+                users.memoryBytes() >> 20, bytesPerRecord, objectJsonLength, generateMillis,
+                users.memoryBytes() * 10 >> 20);
+        System.out.println(report);
+        Allure.addAttachment("Dataset footprint", "text/plain", report);
+
+        assertTrue(users.isOffHeap());
+        assertTrue(bytesPerRecord < 50, report);
+        assertEquals(size, users.toUser(size - 1).getId());
+    }
+
+    @Test
+    @Story("Load Feed")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test JSON Bodies Feed AsyncApiClient")
+    @Description("Memverifikasi bahwa supplier jsonBodies() bisa langsung dipakai sebagai body POST")
+    void testJsonBodiesFeedAsyncApiClient() {
+        PostDataset posts = PostDataset.generate(100, 3L, true);
+        Supplier<byte[]> bodies = posts.jsonBodies();
+        AsyncApiClient client = new AsyncApiClient(server.getJsonPlaceholderBaseUrl());
+
+        AsyncApiClient.ApiResponse response = client.post(ApiConfig.POSTS_ENDPOINT, bodies.get()).join();
+
+        assertEquals(ApiConfig.CREATED, response.getStatusCode());
+        assertEquals(posts.toPost(0).getTitle(), response.as(com.api.automation.models.Post.class).getTitle());
+        assertArrayEquals(posts.toJsonBytes(1), bodies.get(), "Supplier should advance through the dataset");
+    }
+}
@@ -0,0 +1,127 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.Post;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.ConnectionPoolManager;
+import com.api.automation.utils.HedgingFilter;
+import com.api.automation.utils.LatencyHistogram;
+import com.api.automation.stub.StubApiServer;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk hedged request pada GET
+ * Menggunakan StubApiServer lokal dengan tail latency deterministik (setiap request ke-N lambat)
+ * Dijalankan @Isolated saat mode paralel karena mengukur durasi request dan jumlah koneksi leased
+ */
+@Epic("API Infrastructure")
+@Feature("Hedged Requests")
+@Isolated
+public class HedgingTest {
+
+    private static final int SLOW_MILLIS = 600;
+
+    private StubApiServer server;
+
+    @AfterEach
+    void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Tail Latency")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Hedged GET Cuts Tail Latency")
+    @Description("Memverifikasi bahwa GET yang melewati percentile latency endpoint dijawab oleh duplikat, dan request yang kalah di-abort")
+    void testHedgedGetCutsTailLatency() {
+        server = new StubApiServer(0).withTailLatency(20, SLOW_MILLIS).start();
+        ApiContext api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+        HedgingFilter hedging = new HedgingFilter(90, 0.5, 20, 20);
+
+        // 20 request pertama hanya dipakai untuk mempelajari latency endpoint
+        LatencyHistogram learning = run(api, hedging, 20);
+        LatencyHistogram hedged = run(api, hedging, 40);
+
+        HedgingFilter.Stats stats = hedging.getStats();
+        String report = String.format("learning (no hedge): p50=%.1fms, max=%.1fms%nhedged             : p50=%.1fms, max=%.1fms%n%s",
+                learning.getValueAtPercentile(50, TimeUnit.MILLISECONDS), learning.getMaxNanos() / 1e6,
+                hedged.getValueAtPercentile(50, TimeUnit.MILLISECONDS), hedged.getMaxNanos() / 1e6, hedging.report());
+        System.out.println(report);
+        Allure.addAttachment("Hedged requests", "text/plain", report);
+
+        assertTrue(learning.getMaxNanos() >= TimeUnit.MILLISECONDS.toNanos(SLOW_MILLIS), "Learning phase should hit a slow response");
+        assertTrue(stats.getHedgeWins() >= 1, "Slow primaries should lose to the hedge: " + stats);
+        assertTrue(stats.getCancelled() >= 1, "Losing primaries should be aborted: " + stats);
+        assertTrue(hedged.getMaxNanos() < TimeUnit.MILLISECONDS.toNanos(SLOW_MILLIS / 2),
+                "Hedging should cut the slowest request, max=" + hedged.getMaxNanos() / 1e6 + "ms");
+        assertEquals(0, ConnectionPoolManager.getStats().getLeased(), "Aborted and hedged connections should be released");
+    }
+
+    @Test
+    @Story("Budget")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Hedge Budget Caps Extra Load")
+    @Description("Memverifikasi bahwa jumlah duplikat tidak melebihi budget walaupun banyak request melewati percentile")
+    void testBudgetCapsExtraLoad() {
+        server = new StubApiServer(0).withTailLatency(2, 30).start();
+        ApiContext api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+        HedgingFilter hedging = new HedgingFilter(50, 0.1, 5, 1);
+
+        run(api, hedging, 80);
+
+        HedgingFilter.Stats stats = hedging.getStats();
+        System.out.println(hedging.report());
+        assertEquals(80, stats.getRequests());
+        assertTrue(stats.getHedged() <= 0.1 * stats.getRequests(), "Hedges should stay within the 10% budget: " + stats);
+        assertTrue(stats.getBudgetDenied() > 0, "Half of the requests exceed p50, so the budget should run out: " + stats);
+    }
+
+    @Test
+    @Story("Idempotent Only")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Writes Are Never Hedged")
+    @Description("Memverifikasi bahwa POST tidak di-hedge walaupun lambat")
+    void testWritesAreNeverHedged() {
+        server = new StubApiServer(0).withTailLatency(1, 50).start();
+        ApiContext api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+        HedgingFilter hedging = new HedgingFilter(50, 1, 1, 1);
+
+        for (int i = 0; i < 5; i++) {
+            api.getRequestSpecWithoutLogging()
+                    .filter(hedging)
+                    .body(new Post(1, "hedging " + i, "body"))
+                    .when()
+                    .post(ApiConfig.POSTS_ENDPOINT)
+                    .then()
+                    .statusCode(ApiConfig.CREATED);
+        }
+        assertEquals(0, hedging.getStats().getRequests(), "POST should bypass the hedging policy");
+    }
+
+    private static LatencyHistogram run(ApiContext api, HedgingFilter hedging, int requests) {
+        LatencyHistogram latency = new LatencyHistogram();
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            api.getRequestSpecWithoutLogging()
+                    .filter(hedging)
+                    .when()
+                    .get(ApiConfig.POSTS_ENDPOINT + "/1")
+                    .then()
+                    .statusCode(ApiConfig.OK)
+                    .body("id", equalTo(1));
+            latency.record(System.nanoTime() - start);
+        }
+        return latency;
+    }
+}
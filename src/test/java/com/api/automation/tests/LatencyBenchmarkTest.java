@@ -0,0 +1,56 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.utils.LatencyBenchmark;
+import com.api.automation.utils.LatencyReporter;
+import com.api.automation.utils.LatencyResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk LatencyBenchmark harness
+ * Dijalankan @Isolated saat mode paralel karena meng-assert hasil benchmark latency
+ */
+@Epic("API Infrastructure")
+@Feature("Latency Measurement")
+@Isolated
+public class LatencyBenchmarkTest {
+
+    @Test
+    @Story("Coordinated Omission")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Fixed Rate Benchmark Corrects Coordinated Omission")
+    @Description("Memverifikasi bahwa satu stall panjang ikut terhitung pada request-request yang tertunda di belakangnya")
+    void testFixedRateCorrectsCoordinatedOmission() {
+        AtomicInteger calls = new AtomicInteger();
+        LatencyResult result = new LatencyBenchmark("stalled operation")
+                .warmup(0)
+                .iterations(100)
+                .fixedRate(100)
+                .run(() -> sleep(calls.getAndIncrement() == 10 ? 500 : 1));
+        LatencyReporter.publish(result);
+
+        // Service time hanya melihat satu sampel lambat, response time melihat ~50 request yang tertunda
+        assertTrue(result.getServiceTime().getValueAtPercentile(90, TimeUnit.MILLISECONDS) < 100,
+                "Service time p90 should ignore the queueing delay");
+        assertTrue(result.getPercentileMillis(90) > 200,
+                "Response time p90 should include the queueing delay caused by the stall");
+        assertThrows(AssertionError.class,
+                () -> result.assertPercentileBelow(90, 100, TimeUnit.MILLISECONDS));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
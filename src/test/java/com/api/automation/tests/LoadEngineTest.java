@@ -0,0 +1,81 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.load.LoadEngine;
+import com.api.automation.load.LoadProfile;
+import com.api.automation.load.LoadReport;
+import com.api.automation.load.LoadRequest;
+import com.api.automation.models.Post;
+import com.api.automation.utils.AsyncApiClient;
+import com.api.automation.stub.StubApiServer;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk LoadEngine (closed dan open model)
+ * Menggunakan StubApiServer lokal sebagai pengganti host publik
+ */
+@Epic("API Infrastructure")
+@Feature("Load Generation")
+public class LoadEngineTest {
+
+    private static StubApiServer server;
+    private static LoadEngine engine;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+
+        AsyncApiClient client = new AsyncApiClient(server.getJsonPlaceholderBaseUrl());
+        engine = new LoadEngine(client, List.of(
+                LoadRequest.get(ApiConfig.POSTS_ENDPOINT + "/1", ApiConfig.OK),
+                LoadRequest.post(ApiConfig.POSTS_ENDPOINT, () -> new Post(1, "Load Title", "Load Body"), ApiConfig.CREATED),
+                LoadRequest.delete(ApiConfig.POSTS_ENDPOINT + "/1", ApiConfig.OK)));
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Closed Model")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Closed Model Load - Virtual Users")
+    @Description("Memverifikasi bahwa closed model menjalankan semua endpoint skenario dan mencatat statistik per endpoint")
+    void testClosedModelLoad() {
+        LoadReport report = engine.run(LoadProfile.closed(10, Duration.ofSeconds(1)));
+        System.out.println(report);
+
+        assertEquals(3, report.getEndpoints().size(), "Every scenario endpoint should be reported");
+        assertTrue(report.getTotalRequests() > 0, "Load run should send requests");
+        assertEquals(0, report.getTotalErrors(), "Local server should not return errors");
+        assertTrue(report.getThroughput() > 0, "Throughput should be calculated");
+    }
+
+    @Test
+    @Story("Open Model")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Open Model Load - Target RPS with Ramp")
+    @Description("Memverifikasi bahwa open model mengirim jumlah request sesuai kurva ramp-up/steady/ramp-down")
+    void testOpenModelLoad() {
+        double targetRps = 200;
+        LoadReport report = engine.run(LoadProfile.open(targetRps,
+                Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofMillis(500)));
+        System.out.println(report);
+
+        // 0.5s ramp-up + 1s steady + 0.5s ramp-down = 1.5s setara target RPS
+        long expected = (long) (targetRps * 1.5);
+        assertEquals(expected, report.getTotalRequests(), expected * 0.02, "Arrivals should follow the RPS curve");
+        assertEquals(0, report.getTotalErrors(), "Local server should not return errors");
+    }
+}
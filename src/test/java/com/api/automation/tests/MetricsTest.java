@@ -0,0 +1,152 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.models.Post;
+import com.api.automation.utils.AdaptiveTimeouts;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.ApiMetrics;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.HedgingFilter;
+import com.api.automation.stub.StubApiServer;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk metrics per endpoint (ApiMetrics dan MetricsFilter)
+ * Menggunakan StubApiServer lokal sebagai pengganti host publik
+ * Dijalankan @Isolated saat mode paralel karena meng-assert ApiMetrics yang dipakai semua request ke stub
+ */
+@Epic("API Infrastructure")
+@Feature("Metrics")
+@Isolated
+public class MetricsTest {
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @TempDir
+    Path reportDir;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Per-Endpoint Recording")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Requests Are Recorded Per Endpoint Template")
+    @Description("Memverifikasi bahwa count, status code, bytes dan latency dicatat per method dan template endpoint")
+    void testRequestsAreRecordedPerEndpointTemplate() {
+        String byIdEndpoint = AdaptiveTimeouts.endpointKey("GET", server.getJsonPlaceholderBaseUrl() + ApiConfig.POSTS_ENDPOINT + "/1");
+        String createEndpoint = AdaptiveTimeouts.endpointKey("POST", server.getJsonPlaceholderBaseUrl() + ApiConfig.POSTS_ENDPOINT);
+        long countBefore = count(byIdEndpoint);
+        Map<Integer, Long> statusBefore = statusCodes(byIdEndpoint);
+        long bytesOutBefore = ApiMetrics.get(createEndpoint) == null ? 0 : ApiMetrics.get(createEndpoint).getBytesOut();
+
+        for (int id = 1; id <= 20; id++) {
+            api.getRequestSpecWithoutLogging().filter(HedgingFilter.unhedged())
+                    .get(ApiConfig.POSTS_ENDPOINT + "/" + id).then().statusCode(ApiConfig.OK);
+        }
+        api.getRequestSpecWithoutLogging().filter(HedgingFilter.unhedged()).get(ApiConfig.POSTS_ENDPOINT + "/9999").then().statusCode(ApiConfig.NOT_FOUND);
+        api.getRequestSpecWithoutLogging().body(new Post(1, "Metrics", "Body")).post(ApiConfig.POSTS_ENDPOINT)
+                .then().statusCode(ApiConfig.CREATED);
+
+        ApiMetrics.EndpointStats byId = ApiMetrics.get(byIdEndpoint);
+        System.out.println(byId);
+        assertEquals(21, byId.getCount() - countBefore, "/posts/1..20 and /posts/9999 share one template");
+        assertEquals(20, byId.getStatusCodes().get(200) - statusBefore.getOrDefault(200, 0L));
+        assertEquals(1, byId.getStatusCodes().get(404) - statusBefore.getOrDefault(404, 0L));
+        assertTrue(byId.getBytesIn() > 0 && byId.getLatency().getCount() >= 21);
+        assertTrue(ApiMetrics.get(createEndpoint).getBytesOut() > bytesOutBefore, "Request body size should be recorded");
+    }
+
+    @Test
+    @Story("Summary")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test JSON Summary Contains Percentiles")
+    @Description("Memverifikasi bahwa ringkasan JSON berisi status code, bytes dan percentile latency per endpoint")
+    void testJsonSummaryContainsPercentiles() throws Exception {
+        api.getRequestSpecWithoutLogging().get(ApiConfig.USERS_ENDPOINT).then().statusCode(ApiConfig.OK);
+        Path file = reportDir.resolve("api-metrics.json");
+
+        ApiMetrics.writeSummary(file);
+
+        JsonNode summary = ModelMapper.get().readTree(Files.readAllBytes(file));
+        String usersEndpoint = AdaptiveTimeouts.endpointKey("GET", server.getJsonPlaceholderBaseUrl() + ApiConfig.USERS_ENDPOINT);
+        JsonNode users = null;
+        for (JsonNode endpoint : summary.get("endpoints")) {
+            if (usersEndpoint.equals(endpoint.get("endpoint").asText())) {
+                users = endpoint;
+            }
+        }
+        assertNotNull(users, "Summary should contain " + usersEndpoint);
+        assertTrue(users.get("statusCodes").get("200").asLong() >= 1);
+        assertTrue(users.get("bytesIn").asLong() > 0);
+        for (String field : new String[] {"mean", "p50", "p90", "p99", "p999", "max"}) {
+            assertTrue(users.get("latencyMs").has(field), "Missing latency field " + field);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @Story("Overhead")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Recording Overhead Is Under A Microsecond")
+    @Description("Memverifikasi bahwa mencatat satu request (lookup endpoint + counter + histogram) memakan < 1 µs")
+    void testRecordingOverheadIsUnderAMicrosecond() {
+        // Batas waktu absolut bergantung pada mesin, jadi hanya dijalankan dengan -Dapi.benchmark=true
+        String uri = "http://metrics.benchmark/posts/1";
+        int iterations = 1_000_000;
+        long best = Long.MAX_VALUE;
+        try {
+            for (int round = 0; round < 5; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    ApiMetrics.record("GET", uri, 200, 0, 512, 1_000_000 + i);
+                }
+                best = Math.min(best, System.nanoTime() - start);
+            }
+        } finally {
+            ApiMetrics.remove(AdaptiveTimeouts.endpointKey("GET", uri));
+        }
+        double nanosPerRecord = (double) best / iterations;
+        String report = String.format("Metrics recording overhead: %.0f ns/request", nanosPerRecord);
+        System.out.println(report);
+        Allure.addAttachment("Metrics overhead", "text/plain", report);
+
+        assertTrue(nanosPerRecord < 1000, report);
+        assertNull(ApiMetrics.get(AdaptiveTimeouts.endpointKey("GET", uri)), "Benchmark endpoint should be removed from the report");
+    }
+
+    private static long count(String endpoint) {
+        ApiMetrics.EndpointStats stats = ApiMetrics.get(endpoint);
+        return stats == null ? 0 : stats.getCount();
+    }
+
+    private static Map<Integer, Long> statusCodes(String endpoint) {
+        ApiMetrics.EndpointStats stats = ApiMetrics.get(endpoint);
+        return stats == null ? Map.of() : stats.getStatusCodes();
+    }
+}
@@ -0,0 +1,180 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelCodecs;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.models.Post;
+import com.api.automation.models.User;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.stub.StubApiServer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk ObjectMapper bersama dan codec manual
+ * Membandingkan biaya (de)serialisasi default REST Assured, reader/writer bersama, dan ModelCodecs
+ * Dijalankan @Isolated saat mode paralel karena meng-assert hasil benchmark serialisasi
+ */
+@Epic("API Infrastructure")
+@Feature("JSON Mapping")
+@Isolated
+public class ModelMapperBenchmarkTest {
+
+    private static final int ITERATIONS = 1_000;
+    private static final int ROUNDS = 5;
+
+    private static StubApiServer server;
+    private static ApiContext api;
+    private static byte[] usersJson;
+    private static byte[] postsJson;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+        usersJson = api.getRequestSpecWithoutLogging().get(ApiConfig.USERS_ENDPOINT).asByteArray();
+        postsJson = api.getRequestSpecWithoutLogging().get(ApiConfig.POSTS_ENDPOINT).asByteArray();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("REST Assured Integration")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test REST Assured Uses Shared Mapper")
+    @Description("Memverifikasi bahwa REST Assured memakai ModelMapper untuk mapping response ke model")
+    void testRestAssuredUsesSharedMapper() {
+        assertTrue(RestAssured.config().getObjectMapperConfig().hasDefaultObjectMapper(),
+                "REST Assured should be configured with the shared mapper");
+
+        User[] users = api.getRequestSpec()
+                .when()
+                .get(ApiConfig.USERS_ENDPOINT)
+                .then()
+                .statusCode(ApiConfig.OK)
+                .extract().as(User[].class);
+
+        assertEquals(10, users.length);
+        assertNotNull(users[0].getAddress().getGeo().getLat(), "Nested Geo should be mapped");
+        assertNotNull(users[0].getCompany().getName(), "Nested Company should be mapped");
+    }
+
+    @Test
+    @Story("Unknown Properties")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Shared Mapper Is Strict And Lenient Reader Is Opt-In")
+    @Description("Memverifikasi bahwa field tidak dikenal membuat mapper bersama dan codec manual gagal, kecuali lewat reader lenient")
+    void testUnknownPropertiesRequireLenientReader() throws Exception {
+        byte[] json = "{\"id\":1,\"userId\":2,\"title\":\"t\",\"body\":\"b\",\"tags\":[\"new\"]}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(UncheckedIOException.class, () -> ModelMapper.read(json, Post.class));
+        assertThrows(UncheckedIOException.class, () -> ModelCodecs.POST.read(json), "Hand-rolled codecs follow the shared mapper");
+        assertEquals("t", ModelMapper.create(true, null).readerFor(Post.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).<Post>readValue(json).getTitle());
+
+        Post post = ModelMapper.lenientReader(Post.class).readValue(json);
+        assertEquals("t", post.getTitle());
+        assertSame(ModelMapper.lenientReader(Post.class), ModelMapper.lenientReader(Post.class));
+    }
+
+    @Test
+    @Story("Hand-Rolled Codecs")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Hand-Rolled Codecs Match Jackson Binding")
+    @Description("Memverifikasi bahwa ModelCodecs menghasilkan JSON dan model yang sama dengan binding Jackson")
+    void testHandRolledCodecsMatchJackson() throws Exception {
+        ObjectMapper reflective = ModelMapper.create(false);
+        ObjectMapper handRolled = ModelMapper.create(true);
+
+        User[] reflectiveUsers = reflective.readValue(usersJson, User[].class);
+        List<User> codecUsers = ModelCodecs.USER.readList(usersJson);
+        assertEquals(reflective.writeValueAsString(reflectiveUsers), reflective.writeValueAsString(codecUsers));
+        assertArrayEquals(reflective.writeValueAsBytes(reflectiveUsers), handRolled.writeValueAsBytes(reflectiveUsers),
+                "Hand-rolled serializers should produce byte-identical JSON");
+
+        Post[] reflectivePosts = reflective.readValue(postsJson, Post[].class);
+        Post[] codecPosts = handRolled.readValue(postsJson, Post[].class);
+        assertEquals(reflective.writeValueAsString(reflectivePosts), reflective.writeValueAsString(codecPosts));
+        assertArrayEquals(reflective.writeValueAsBytes(reflectivePosts),
+                ModelCodecs.POST.writeList(Arrays.asList(reflectivePosts)));
+
+        Post created = handRolled.readerFor(Post.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue("{\"id\":\"101\",\"title\":\"t\",\"extra\":{\"a\":[1]},\"body\":null}".getBytes());
+        assertEquals(101, created.getId(), "String ids should be coerced like Jackson does");
+        assertNull(created.getUserId());
+        assertNull(created.getBody());
+        assertEquals("{\"id\":101,\"userId\":null,\"title\":\"t\",\"body\":null}",
+                new String(ModelCodecs.POST.write(created)));
+    }
+
+    @Test
+    @Story("Serialization Benchmark")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Serialization Benchmark")
+    @Description("Membandingkan waktu (de)serialisasi: ObjectMapper per panggilan (default REST Assured), reader/writer bersama, dan codec manual")
+    void testSerializationBenchmark() throws Exception {
+        User[] users = ModelMapper.read(usersJson, User[].class);
+        Post[] posts = ModelMapper.read(postsJson, Post[].class);
+        List<Post> postList = Arrays.asList(posts);
+
+        double perCallRead = measure(() -> new ObjectMapper().findAndRegisterModules().readValue(usersJson, User[].class));
+        double sharedRead = measure(() -> ModelMapper.reader(User[].class).readValue(usersJson));
+        double codecRead = measure(() -> ModelCodecs.USER.readList(usersJson));
+
+        double perCallWrite = measure(() -> new ObjectMapper().findAndRegisterModules().writeValueAsBytes(posts));
+        double sharedWrite = measure(() -> ModelMapper.writer(Post[].class).writeValueAsBytes(posts));
+        double codecWrite = measure(() -> ModelCodecs.POST.writeList(postList));
+
+        String report = String.format(
+                "Serialization benchmark (best of %d x %d iterations, microseconds per operation)%n"
+                        + "  read 10 users   : per-call mapper=%.1f, shared reader=%.1f, hand-rolled=%.1f%n"
+                        + "  write 100 posts : per-call mapper=%.1f, shared writer=%.1f, hand-rolled=%.1f%n",
+                ROUNDS, ITERATIONS, perCallRead, sharedRead, codecRead, perCallWrite, sharedWrite, codecWrite);
+        System.out.print(report);
+        Allure.addAttachment("Serialization benchmark", "text/plain", report);
+
+        assertEquals(10, users.length);
+        assertTrue(sharedRead < perCallRead, "Shared reader should be faster than a new mapper per call");
+        assertTrue(sharedWrite < perCallWrite, "Shared writer should be faster than a new mapper per call");
+    }
+
+    /**
+     * Mengukur waktu per operasi: beberapa ronde setelah warmup, diambil ronde tercepat
+     * agar gangguan JIT/GC pada mesin CI tidak mendominasi hasil
+     * @return Mikrodetik per operasi
+     */
+    private static double measure(Callable<?> operation) throws Exception {
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.call();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                operation.call();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1000.0 / ITERATIONS;
+    }
+}
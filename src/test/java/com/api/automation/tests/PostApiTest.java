@@ -2,15 +2,20 @@ package com.api.automation.tests;
 
 import io.qameta.allure.*;
 import io.restassured.response.Response;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.api.automation.config.ApiConfig;
 import com.api.automation.models.Post;
+import com.api.automation.snapshot.SnapshotStore;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.ApiResources;
 import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.validation.ResponseValidator;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
@@ -24,33 +29,38 @@ import static org.junit.jupiter.api.Assertions.*;
 @Feature("Post Operations")
 public class PostApiTest {
     
-    @BeforeAll
-    static void setup() {
-        BaseApiUtils.setBaseUri(ApiConfig.JSONPLACEHOLDER_BASE_URL);
-    }
+    private static final ApiContext api = BaseApiUtils.forBaseUri(ApiConfig.JSONPLACEHOLDER_BASE_URL);
+    
+    private static final ResponseValidator ALL_POSTS_VALIDATOR = ResponseValidator.builder()
+            .statusCode(ApiConfig.OK)
+            .body("size()", equalTo(100))
+            .body("[0].id", notNullValue())
+            .body("[0].title", notNullValue())
+            .body("[0].body", notNullValue())
+            .body("[0].userId", notNullValue())
+            .schema("schemas/jsonplaceholder/post-list.json")
+            .build();
     
     @Test
     @Story("Get All Posts")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("Test Get All Posts - Positive Test")
     @Description("Memverifikasi bahwa API dapat mengambil semua posts dengan response yang benar")
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     void testGetAllPosts_PositiveTest() {
-        Response response = BaseApiUtils.getRequestSpec()
+        Response response = api.getRequestSpec()
                 .when()
-                .get(ApiConfig.POSTS_ENDPOINT)
-                .then()
-                .statusCode(ApiConfig.OK)
-                .body("size()", equalTo(100))
-                .body("[0].id", notNullValue())
-                .body("[0].title", notNullValue())
-                .body("[0].body", notNullValue())
-                .body("[0].userId", notNullValue())
-                .extract().response();
+                .get(ApiConfig.POSTS_ENDPOINT);
         
-        Post[] posts = response.as(Post[].class);
+        Post[] posts = ALL_POSTS_VALIDATOR.validate(response).as(Post[].class);
         assertEquals(100, posts.length, "Should return exactly 100 posts");
         assertNotNull(posts[0].getId(), "First post should have an ID");
         assertNotNull(posts[0].getTitle(), "First post should have a title");
+        // Snapshot yang di-commit hanya untuk stub server; host publik dibandingkan setelah snapshot-nya disetujui
+        SnapshotStore snapshots = SnapshotStore.shared();
+        if (snapshots.isRecorded("jsonplaceholder/posts")) {
+            snapshots.assertMatches("jsonplaceholder/posts", response);
+        }
     }
     
     @Test
@@ -58,10 +68,11 @@ public class PostApiTest {
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("Test Get Single Post - Positive Test")
     @Description("Memverifikasi bahwa API dapat mengambil post berdasarkan ID yang valid")
+    @ResourceLock(value = ApiResources.POST_1, mode = ResourceAccessMode.READ)
     void testGetSinglePost_PositiveTest() {
         int postId = 1;
         
-        Response response = BaseApiUtils.getRequestSpec()
+        Response response = api.getRequestSpec()
                 .pathParam("id", postId)
                 .when()
                 .get(ApiConfig.POSTS_ENDPOINT + "/{id}")
@@ -88,7 +99,7 @@ public class PostApiTest {
     void testGetNonExistentPost_NegativeTest() {
         int nonExistentPostId = 999;
         
-        BaseApiUtils.getRequestSpec()
+        api.getRequestSpec()
                 .pathParam("id", nonExistentPostId)
                 .when()
                 .get(ApiConfig.POSTS_ENDPOINT + "/{id}")
@@ -103,7 +114,7 @@ public class PostApiTest {
     @DisplayName("Test Get Post with Boundary Values - Boundary Test")
     @Description("Memverifikasi bahwa API menangani boundary values dengan benar")
     void testGetPostWithBoundaryValues_BoundaryTest(int boundaryPostId) {
-        Response response = BaseApiUtils.getRequestSpec()
+        Response response = api.getRequestSpec()
                 .pathParam("id", boundaryPostId)
                 .when()
                 .get(ApiConfig.POSTS_ENDPOINT + "/{id}");
@@ -122,10 +133,11 @@ public class PostApiTest {
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("Test Create New Post - Positive Test")
     @Description("Memverifikasi bahwa API dapat membuat post baru dengan data yang valid")
+    @ResourceLock(value = ApiResources.POSTS)
     void testCreatePost_PositiveTest() {
         Post newPost = new Post(1, "Test Post Title", "This is a test post body content");
         
-        Response response = BaseApiUtils.getRequestSpec()
+        Response response = api.getRequestSpec()
                 .body(newPost)
                 .when()
                 .post(ApiConfig.POSTS_ENDPOINT)
@@ -149,10 +161,11 @@ public class PostApiTest {
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("Test Create Post with Empty Data - Negative Test")
     @Description("Memverifikasi bahwa API menangani data post yang kosong")
+    @ResourceLock(value = ApiResources.POSTS)
     void testCreatePostWithEmptyData_NegativeTest() {
         Post emptyPost = new Post();
         
-        Response response = BaseApiUtils.getRequestSpec()
+        Response response = api.getRequestSpec()
                 .body(emptyPost)
                 .when()
                 .post(ApiConfig.POSTS_ENDPOINT);
@@ -169,10 +182,11 @@ public class PostApiTest {
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("Test Create Post with Invalid UserId - Negative Test")
     @Description("Memverifikasi bahwa API menangani userId yang tidak valid")
+    @ResourceLock(value = ApiResources.POSTS)
     void testCreatePostWithInvalidUserId_NegativeTest() {
         Post postWithInvalidUserId = new Post(-1, "Test Title", "Test Body");
         
-        Response response = BaseApiUtils.getRequestSpec()
+        Response response = api.getRequestSpec()
                 .body(postWithInvalidUserId)
                 .when()
                 .post(ApiConfig.POSTS_ENDPOINT);
@@ -188,12 +202,14 @@ public class PostApiTest {
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("Test Update Post - Positive Test")
     @Description("Memverifikasi bahwa API dapat mengupdate post yang sudah ada")
+    @ResourceLock(value = ApiResources.POSTS)
+    @ResourceLock(value = ApiResources.POST_1)
     void testUpdatePost_PositiveTest() {
         int postId = 1;
         Post updatedPost = new Post(1, "Updated Post Title", "This is an updated post body");
         updatedPost.setId(postId);
         
-        BaseApiUtils.getRequestSpec()
+        api.getRequestSpec()
                 .pathParam("id", postId)
                 .body(updatedPost)
                 .when()
@@ -211,10 +227,12 @@ public class PostApiTest {
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("Test Delete Post - Positive Test")
     @Description("Memverifikasi bahwa API dapat menghapus post yang ada")
+    @ResourceLock(value = ApiResources.POSTS)
+    @ResourceLock(value = ApiResources.POST_1)
     void testDeletePost_PositiveTest() {
         int postId = 1;
         
-        BaseApiUtils.getRequestSpec()
+        api.getRequestSpec()
                 .pathParam("id", postId)
                 .when()
                 .delete(ApiConfig.POSTS_ENDPOINT + "/{id}")
@@ -227,10 +245,11 @@ public class PostApiTest {
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("Test Get Posts by UserId - Positive Test")
     @Description("Memverifikasi bahwa API dapat mengambil posts berdasarkan userId")
+    @ResourceLock(value = ApiResources.POSTS, mode = ResourceAccessMode.READ)
     void testGetPostsByUserId_PositiveTest() {
         int userId = 1;
         
-        Response response = BaseApiUtils.getRequestSpec()
+        Response response = api.getRequestSpec()
                 .queryParam("userId", userId)
                 .when()
                 .get(ApiConfig.POSTS_ENDPOINT)
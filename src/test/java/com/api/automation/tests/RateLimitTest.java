@@ -0,0 +1,171 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.HostThrottle;
+import com.api.automation.stub.StubApiServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk rate limiter dan pembatas request bersamaan per host
+ * Menggunakan StubApiServer lokal dengan throttling (429 + Retry-After) sebagai pengganti host publik
+ * Dijalankan @Isolated saat mode paralel karena meng-assert waktu tunggu rate limiter
+ */
+@Epic("API Infrastructure")
+@Feature("Rate Limiting")
+@Isolated
+public class RateLimitTest {
+
+    @Test
+    @Story("Token Bucket")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Token Bucket Paces Requests")
+    @Description("Memverifikasi bahwa setelah burst satu detik, request dikirim sesuai rate yang dikonfigurasi")
+    void testTokenBucketPacesRequests() {
+        HostThrottle throttle = new HostThrottle("paced.test", 50, 0);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            throttle.acquire();
+            throttle.release();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 50 token burst langsung, 50 sisanya pada 50 req/s. Hanya batas bawah yang di-assert:
+        // batas atas wall-clock bergantung pada beban mesin CI, bukan pada rate limiter
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(throttle.getWaitNanos());
+        assertTrue(elapsedMillis >= 900, "100 requests at 50 req/s took " + elapsedMillis + " ms");
+        assertTrue(waitedMillis >= 900, "Limiter should account for the paced wait, waited " + waitedMillis + " ms");
+        assertEquals(100, throttle.getRequestCount());
+        assertEquals(0, throttle.getThrottledCount());
+        assertEquals(50, throttle.getCurrentRate(), 0.001, "Rate should stay at the configured maximum");
+    }
+
+    @Test
+    @Story("Concurrency Governor")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Max In-Flight Requests Is Enforced")
+    @Description("Memverifikasi bahwa jumlah request bersamaan ke satu host tidak melebihi batas")
+    void testMaxInFlightIsEnforced() throws Exception {
+        HostThrottle throttle = new HostThrottle("governed.test", 0, 3);
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(12);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                tasks.add(executor.submit(() -> {
+                    throttle.acquire();
+                    try {
+                        peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+                        Thread.sleep(50);
+                        current.decrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        throttle.release();
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(3, peak.get(), "At most 3 requests should be in flight");
+    }
+
+    @Test
+    @Story("Retry-After")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test 429 Halves Rate And Honours Retry-After")
+    @Description("Memverifikasi bahwa sinyal 429 menurunkan rate dan menahan request selama Retry-After")
+    void testThrottledSignalHalvesRateAndPauses() {
+        HostThrottle throttle = new HostThrottle("signal.test", 100, 0);
+        // Diukur sejak sebelum sinyal 429: jeda thread di antara dua panggilan tidak memperpendek waktu tunggu
+        long start = System.nanoTime();
+        throttle.onThrottled(TimeUnit.MILLISECONDS.toNanos(300));
+        assertEquals(50, throttle.getCurrentRate(), 0.001);
+
+        throttle.acquire();
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(290), "Request should wait for Retry-After");
+
+        for (int i = 0; i < 100; i++) {
+            throttle.onSuccess();
+        }
+        assertEquals(100, throttle.getCurrentRate(), 0.001, "Successful responses restore the configured rate");
+    }
+
+    @Test
+    @Story("Adaptive Throughput")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Filter Adapts To Host Throttling")
+    @Description("Memverifikasi bahwa filter global menurunkan jumlah 429 dari host yang membatasi 20 req/s")
+    void testFilterAdaptsToHostThrottling() throws Exception {
+        StubApiServer server = new StubApiServer(0).withRateLimit(20).start();
+        String baseUrl = server.getJsonPlaceholderBaseUrl();
+        ApiContext api = BaseApiUtils.forBaseUri(baseUrl);
+        try {
+            int unthrottled429 = countTooManyRequests(api, 100);
+            Thread.sleep(1100);
+
+            // Batas yang terlalu tinggi; filter harus menyesuaikan diri dari sinyal 429
+            HostThrottle throttle = HostThrottle.configure(baseUrl, 100, 4);
+            long start = System.nanoTime();
+            int throttled429 = countTooManyRequests(api, 100);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            String report = String.format("Without limiter: %d/100 got 429; with limiter: %d/100 got 429 in %.1fs (%s)",
+                    unthrottled429, throttled429, seconds, throttle);
+            System.out.println(report);
+            Allure.addAttachment("Rate limiting", "text/plain", report);
+
+            assertTrue(unthrottled429 > 20, report);
+            assertTrue(throttled429 < unthrottled429 / 2, report);
+            assertTrue(throttle.getThrottledCount() > 0 && throttle.getCurrentRate() < 100, report);
+        } finally {
+            HostThrottle.remove(baseUrl);
+            server.stop();
+        }
+    }
+
+    private static int countTooManyRequests(ApiContext api, int requests) throws Exception {
+        AtomicInteger tooMany = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                tasks.add(executor.submit(() -> {
+                    int status = api.getRequestSpecWithoutLogging().get(ApiConfig.POSTS_ENDPOINT + "/1").getStatusCode();
+                    if (status == 429) {
+                        tooMany.incrementAndGet();
+                    } else {
+                        assertEquals(ApiConfig.OK, status);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return tooMany.get();
+    }
+}
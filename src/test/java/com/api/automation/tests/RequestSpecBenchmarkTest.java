@@ -0,0 +1,105 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.specification.FilterableRequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.RequestSpecRegistry;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Microbenchmark untuk biaya setup RequestSpecification per request
+ * Membandingkan cara lama (filter dan header dibuat ulang) dengan template dari RequestSpecRegistry
+ * Dijalankan @Isolated saat mode paralel karena meng-assert hasil benchmark dan alokasi heap
+ */
+@Epic("API Infrastructure")
+@Feature("Request Spec Templates")
+@Isolated
+public class RequestSpecBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 20_000;
+
+    private static final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @Story("Spec Setup Cost")
+    @Severity(SeverityLevel.MINOR)
+    @DisplayName("Benchmark RequestSpecification Setup - Registry vs Fresh Build")
+    @Description("Membandingkan biaya setup spec dari registry dengan membangun filter dan header setiap request, dan memverifikasi bahwa filter template dipakai ulang")
+    void benchmarkSpecSetupCost() {
+        Runnable freshBuild = () -> RestAssured.given()
+                .filter(new RequestLoggingFilter())
+                .filter(new ResponseLoggingFilter())
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .pathParam("id", 1);
+        Runnable fromRegistry = () -> BaseApiUtils.getRequestSpec()
+                .pathParam("id", 1);
+
+        measure(freshBuild, WARMUP_ITERATIONS);
+        measure(fromRegistry, WARMUP_ITERATIONS);
+        long[] fresh = measure(freshBuild, MEASURED_ITERATIONS);
+        long[] registry = measure(fromRegistry, MEASURED_ITERATIONS);
+
+        String report = String.format("Fresh build : %d ns/op, %d bytes/op%nRegistry    : %d ns/op, %d bytes/op",
+                fresh[0], fresh[1], registry[0], registry[1]);
+        System.out.println(report);
+        Allure.addAttachment("Spec setup cost", "text/plain", report);
+
+        // given().spec(template) menggabungkan template ke spec baru (SpecificationMerger), sehingga alokasi per request
+        // tidak lebih kecil dari build manual; yang dihemat adalah konstruksi filter dan header di setiap request
+        FilterableRequestSpecification first = (FilterableRequestSpecification) BaseApiUtils.getRequestSpec();
+        FilterableRequestSpecification second = (FilterableRequestSpecification) BaseApiUtils.getRequestSpec();
+        assertNotSame(first, second, "Every test should get its own derived spec");
+        assertEquals(first.getDefinedFilters().size(), second.getDefinedFilters().size());
+        for (int i = 0; i < first.getDefinedFilters().size(); i++) {
+            assertSame(first.getDefinedFilters().get(i), second.getDefinedFilters().get(i),
+                    "Derived specs should share the template's filter instances");
+        }
+    }
+
+    @Test
+    @Story("Template Reuse")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Auth Tokens Do Not Grow The Registry")
+    @Description("Memverifikasi bahwa token berbeda memakai template yang sama dan header Authorization tetap dipasang")
+    void testAuthTokensShareTemplate() {
+        BaseApiUtils.getAuthenticatedRequestSpec("warmup-token");
+        int templates = RequestSpecRegistry.size();
+
+        for (int i = 0; i < 100; i++) {
+            FilterableRequestSpecification spec =
+                    (FilterableRequestSpecification) BaseApiUtils.getAuthenticatedRequestSpec("token-" + i);
+            assertEquals("Bearer token-" + i, spec.getHeaders().getValue("Authorization"));
+        }
+        assertEquals(templates, RequestSpecRegistry.size(), "Per-test tokens should not add templates");
+        assertFalse(((FilterableRequestSpecification) BaseApiUtils.getRequestSpec()).getHeaders().hasHeaderWithName("Authorization"),
+                "Unauthenticated spec from the same template should not carry a token");
+    }
+
+    /**
+     * @return {rata-rata ns per operasi, rata-rata byte yang dialokasikan per operasi}
+     */
+    private static long[] measure(Runnable operation, int iterations) {
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new long[] {elapsed / iterations, allocated / iterations};
+    }
+}
@@ -0,0 +1,167 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.Post;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.ConnectionPoolManager;
+import com.api.automation.utils.HedgingFilter;
+import com.api.automation.utils.ResponseCache;
+import com.api.automation.stub.StubApiServer;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk cache response GET in-run
+ * Menggunakan StubApiServer lokal yang menyimpan write agar invalidasi bisa diverifikasi
+ * Dijalankan @Isolated saat mode paralel karena meng-assert jumlah request di connection pool bersama
+ */
+@Epic("API Infrastructure")
+@Feature("Response Cache")
+@Isolated
+public class ResponseCacheTest {
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0, true).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @BeforeEach
+    void clearStubEntries() {
+        // Entry dari test lain (host berbeda) tidak mempengaruhi test ini, tetapi hitungan dicek sebagai delta
+        ResponseCache.shared().invalidate(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @Test
+    @Story("Cache Hit")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Repeated GET Is Served From Cache")
+    @Description("Memverifikasi bahwa GET yang sama lewat cached spec hanya dikirim sekali ke network")
+    void testRepeatedGetServedFromCache() {
+        ResponseCache.Stats before = ResponseCache.shared().getStats();
+        long networkBefore = ConnectionPoolManager.getStats().getTotalRequests();
+
+        for (int i = 0; i < 10; i++) {
+            api.getCachedRequestSpec()
+                    .filter(HedgingFilter.unhedged())
+                    .when()
+                    .get(ApiConfig.USERS_ENDPOINT + "/1")
+                    .then()
+                    .statusCode(ApiConfig.OK)
+                    .body("id", equalTo(1))
+                    .body("email", notNullValue());
+        }
+
+        ResponseCache.Stats after = ResponseCache.shared().getStats();
+        long networkRequests = ConnectionPoolManager.getStats().getTotalRequests() - networkBefore;
+        System.out.println("Response cache: " + after);
+
+        assertEquals(1, networkRequests, "Only the first GET should reach the network");
+        assertEquals(1, after.getMisses() - before.getMisses());
+        assertEquals(9, after.getHits() - before.getHits());
+        assertTrue(after.getBytesSaved() > before.getBytesSaved());
+    }
+
+    @Test
+    @Story("Invalidation")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Write Invalidates Cached Resource And Collection")
+    @Description("Memverifikasi bahwa PUT ke resource menghapus cache resource itu dan collection induknya")
+    void testWriteInvalidatesCachedResource() {
+        int postsBefore = api.getCachedRequestSpec().get(ApiConfig.POSTS_ENDPOINT).jsonPath().getList("$").size();
+        api.getCachedRequestSpec()
+                .get(ApiConfig.POSTS_ENDPOINT + "/1")
+                .then()
+                .body("title", not(equalTo("cached title updated")));
+
+        Post updated = new Post(1, "cached title updated", "body");
+        api.getRequestSpec()
+                .body(updated)
+                .when()
+                .put(ApiConfig.POSTS_ENDPOINT + "/1")
+                .then()
+                .statusCode(ApiConfig.OK);
+
+        api.getCachedRequestSpec()
+                .get(ApiConfig.POSTS_ENDPOINT + "/1")
+                .then()
+                .statusCode(ApiConfig.OK)
+                .body("title", equalTo("cached title updated"));
+
+        api.getRequestSpec()
+                .body(new Post(1, "new cached post", "body"))
+                .when()
+                .post(ApiConfig.POSTS_ENDPOINT)
+                .then()
+                .statusCode(ApiConfig.CREATED);
+
+        int postsAfter = api.getCachedRequestSpec().get(ApiConfig.POSTS_ENDPOINT).jsonPath().getList("$").size();
+        assertEquals(postsBefore + 1, postsAfter, "POST should invalidate the cached collection");
+    }
+
+    @Test
+    @Story("Opt-In")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Plain Spec Is Not Cached")
+    @Description("Memverifikasi bahwa cache hanya berlaku untuk request yang memilih cache")
+    void testPlainSpecIsNotCached() {
+        long networkBefore = ConnectionPoolManager.getStats().getTotalRequests();
+        for (int i = 0; i < 3; i++) {
+            api.getRequestSpec().filter(HedgingFilter.unhedged()).get(ApiConfig.POSTS_ENDPOINT + "/2").then().statusCode(ApiConfig.OK);
+        }
+        assertEquals(3, ConnectionPoolManager.getStats().getTotalRequests() - networkBefore);
+    }
+
+    @Test
+    @Story("Eviction")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test LRU And TTL Eviction")
+    @Description("Memverifikasi bahwa cache membuang entry yang paling lama tidak dipakai dan entry yang kedaluwarsa")
+    void testLruAndTtlEviction() throws InterruptedException {
+        ResponseCache cache = new ResponseCache(2, 1024 * 1024, 300);
+
+        get(cache, "/posts/1");
+        get(cache, "/posts/2");
+        get(cache, "/posts/1");      // hit, /posts/2 menjadi entry paling lama
+        get(cache, "/posts/3");      // membuang /posts/2
+        get(cache, "/posts/1");      // hit
+        get(cache, "/posts/2");      // miss karena sudah dibuang
+        ResponseCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(4, stats.getMisses());
+        assertEquals(2, stats.getEntries());
+
+        Thread.sleep(400);
+        get(cache, "/posts/2");      // miss karena TTL habis
+        assertEquals(5, cache.getStats().getMisses());
+        assertTrue(cache.getStats().getEvictions() >= 2, "Expired and LRU entries should be counted: " + cache.getStats());
+        System.out.println(cache.report());
+    }
+
+    private static void get(ResponseCache cache, String path) {
+        api.getRequestSpecWithoutLogging()
+                .filter(cache)
+                .when()
+                .get(path)
+                .then()
+                .statusCode(ApiConfig.OK);
+    }
+}
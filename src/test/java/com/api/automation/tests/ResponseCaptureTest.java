@@ -0,0 +1,129 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.Post;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.CapturedBody;
+import com.api.automation.utils.ConnectionPoolManager;
+import com.api.automation.utils.ResponseCapture;
+import com.api.automation.stub.StubApiServer;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk capture body response ke disk
+ * Menggunakan StubApiServer lokal yang menyimpan write sehingga /posts bisa dibuat berukuran beberapa MB
+ * Dijalankan @Isolated saat mode paralel karena meng-assert jumlah koneksi leased di pool bersama dan alokasi heap
+ */
+@Epic("API Infrastructure")
+@Feature("Response Capture")
+@Isolated
+public class ResponseCaptureTest {
+
+    private static final int LARGE_POSTS = 40;
+    private static final int LARGE_BODY_CHARS = 100_000;
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0, true).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+
+        char[] body = new char[LARGE_BODY_CHARS];
+        Arrays.fill(body, 'x');
+        for (int i = 0; i < LARGE_POSTS; i++) {
+            api.getRequestSpecWithoutLogging()
+                    .body(new Post(1, "large post " + i, new String(body)))
+                    .when()
+                    .post(ApiConfig.POSTS_ENDPOINT)
+                    .then()
+                    .statusCode(ApiConfig.CREATED);
+        }
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Capture To File")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Large Response Is Captured To Per-Test File")
+    @Description("Memverifikasi bahwa body multi-MB disalin ke file per test dan dapat divalidasi lewat memory-mapped view")
+    void testLargeResponseCapturedToFile() throws Exception {
+        ResponseCapture capture = ResponseCapture.toFile("posts");
+        Response response = api.getRequestSpecWithoutLogging()
+                .filter(capture)
+                .when()
+                .get(ApiConfig.POSTS_ENDPOINT);
+        assertEquals(ApiConfig.OK, response.getStatusCode());
+
+        CapturedBody body = capture.getBody();
+        System.out.println("Captured " + body);
+        assertTrue(body.getSize() > LARGE_POSTS * (long) LARGE_BODY_CHARS, "Body should be several MB");
+        assertEquals(body.getSize(), Files.size(body.getPath()), "Whole body should be written to disk");
+        assertTrue(body.getPath().getParent().getFileName().toString().contains("testLargeResponseCapturedToFile"),
+                "Capture should be stored in the folder of the running test: " + body.getPath());
+        assertTrue(body.getPath().getFileName().toString().endsWith("-posts.json"));
+        assertEquals(body.getSize(), body.map().remaining(), "Mapped view should cover the whole file");
+
+        long count = body.forEach(Post.class, post -> assertNotNull(post.getId(), "Post ID should not be null"));
+        assertEquals(100 + LARGE_POSTS, count, "Should read seeded and created posts from the mapped file");
+        assertTrue(body.contains("\"large post 39\""), "Body should contain the last created post");
+        assertFalse(body.contains("\"large post 40\""));
+        assertEquals(0, ConnectionPoolManager.getStats().getLeased(),
+                "Connection should be released once the body is copied to disk");
+    }
+
+    @Test
+    @Story("Heap Usage")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Capture Does Not Buffer Body On Heap")
+    @Description("Memverifikasi bahwa alokasi heap saat capture jauh lebih kecil daripada ukuran body, dibanding request yang di-buffer")
+    void testCaptureDoesNotBufferBody() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // Warm-up agar class loading dan inisialisasi REST Assured tidak ikut terukur
+        for (int i = 0; i < 3; i++) {
+            api.getRequestSpecWithoutLogging().filter(ResponseCapture.toFile("warmup")).get(ApiConfig.POSTS_ENDPOINT);
+            api.getRequestSpecWithoutLogging().get(ApiConfig.POSTS_ENDPOINT).asString();
+        }
+
+        long start = threads.getThreadAllocatedBytes(threadId);
+        String buffered = api.getRequestSpecWithoutLogging().get(ApiConfig.POSTS_ENDPOINT).asString();
+        long bufferedAllocated = threads.getThreadAllocatedBytes(threadId) - start;
+
+        ResponseCapture capture = ResponseCapture.toFile("posts");
+        start = threads.getThreadAllocatedBytes(threadId);
+        api.getRequestSpecWithoutLogging().filter(capture).get(ApiConfig.POSTS_ENDPOINT);
+        long capturedAllocated = threads.getThreadAllocatedBytes(threadId) - start;
+
+        long size = capture.getBody().getSize();
+        String report = String.format("body: %,d bytes%nbuffered request allocated: %,d bytes%ncaptured request allocated: %,d bytes",
+                size, bufferedAllocated, capturedAllocated);
+        System.out.println(report);
+        Allure.addAttachment("Response capture heap usage", "text/plain", report);
+
+        assertEquals(buffered.length(), size, "Captured body should match the buffered body length");
+        assertTrue(bufferedAllocated > size, "Buffered request should allocate at least the body size");
+        assertTrue(capturedAllocated < size / 4,
+                "Captured request should not copy the body to the heap, allocated: " + capturedAllocated);
+    }
+}
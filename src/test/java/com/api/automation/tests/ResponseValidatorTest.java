@@ -0,0 +1,173 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.Post;
+import com.api.automation.validation.CompiledPath;
+import com.api.automation.validation.ResponseValidator;
+import com.api.automation.validation.ValidatedBody;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk ResponseValidator (single-parse multi-assertion)
+ * Response dibangun lokal dengan ResponseBuilder sehingga tidak butuh network
+ * Dijalankan @Isolated saat mode paralel karena meng-assert hasil benchmark validator
+ */
+@Epic("API Infrastructure")
+@Feature("Response Validation")
+@Isolated
+public class ResponseValidatorTest {
+
+    private static final String REQRES_USERS = "{\"page\":2,\"per_page\":6,\"total\":12,"
+            + "\"data\":[{\"id\":7,\"email\":\"michael.lawson@reqres.in\",\"first_name\":\"Michael\"},"
+            + "{\"id\":8,\"email\":\"lindsay.ferguson@reqres.in\",\"first_name\":\"Lindsay\"}],"
+            + "\"support\":{\"url\":\"https://reqres.in/#support-heading\",\"rating\":4.5}}";
+
+    @Test
+    @Story("Path Evaluation")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Paths Match REST Assured Semantics")
+    @Description("Memverifikasi field bertitik, index, proyeksi array, size() dan tipe nilai seperti JsonPath REST Assured")
+    void testPathsMatchRestAssuredSemantics() {
+        ResponseValidator validator = ResponseValidator.builder()
+                .statusCode(ApiConfig.OK)
+                .body("page", equalTo(2))
+                .body("data.size()", equalTo(2))
+                .body("data[0].email", endsWith("@reqres.in"))
+                .body("data[-1].id", equalTo(8))
+                .body("data.id", contains(7, 8))
+                .body("data.first_name", hasItem("Lindsay"))
+                .body("support.rating", equalTo(4.5f))
+                .body("support.missing", nullValue())
+                .build();
+
+        ValidatedBody body = validator.validate(response(ApiConfig.OK, REQRES_USERS));
+
+        assertEquals("Michael", body.<String>get("data[0].first_name"));
+        io.restassured.path.json.JsonPath restAssuredPath = new io.restassured.path.json.JsonPath(REQRES_USERS);
+        for (String path : Arrays.asList("page", "data.size()", "data[0].email", "data.id", "support.rating", "support")) {
+            assertEquals(restAssuredPath.<Object>get(path), body.get(path), "Path " + path + " should match REST Assured");
+        }
+    }
+
+    @Test
+    @Story("Path Evaluation")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Unsupported GPath Is Rejected At Compile Time")
+    @Description("Memverifikasi bahwa ekspresi GPath di luar subset (closure, spasi, quoting) ditolak agar pemanggil memakai jsonPath()")
+    void testUnsupportedGPathIsRejected() {
+        for (String path : Arrays.asList("data.find { it.id == 7 }.email", "data.findAll{it.id>7}", "data[0].'first name'",
+                "data*.id", "data.id.sum()")) {
+            assertThrows(IllegalArgumentException.class, () -> CompiledPath.compile(path), path);
+        }
+        ValidatedBody body = ResponseValidator.builder().build().validate(response(ApiConfig.OK, REQRES_USERS));
+        assertEquals("michael.lawson@reqres.in", body.<String>get("data[0].email"));
+    }
+
+    @Test
+    @Story("Failure Reporting")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test All Failures Reported Together")
+    @Description("Memverifikasi bahwa semua expectation yang gagal dilaporkan dalam satu AssertionError")
+    void testAllFailuresReportedTogether() {
+        ResponseValidator validator = ResponseValidator.builder()
+                .statusCode(ApiConfig.CREATED)
+                .body("page", equalTo(3))
+                .body("data.size()", equalTo(2))
+                .body("data[5].id", notNullValue())
+                .build();
+
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> validator.validate(response(ApiConfig.OK, REQRES_USERS)));
+
+        String message = error.getMessage();
+        assertTrue(message.startsWith("3 expectation(s) failed."), message);
+        assertTrue(message.contains("Expected status code <201> but was <200>"), message);
+        assertTrue(message.contains("JSON path page doesn't match"), message);
+        assertTrue(message.contains("JSON path data[5].id doesn't match"), message);
+        assertFalse(message.contains("data.size()"), message);
+    }
+
+    @Test
+    @Story("Performance")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Validator Faster Than Chained Body Matchers")
+    @Description("Membandingkan CPU validasi 5.000 post: rantai .body() REST Assured + response.as() vs ResponseValidator")
+    void testValidatorFasterThanChainedBodyMatchers() {
+        String json = largePostArray(5_000);
+        Response response = response(ApiConfig.OK, json);
+        ResponseValidator validator = ResponseValidator.builder()
+                .statusCode(ApiConfig.OK)
+                .body("size()", equalTo(5_000))
+                .body("[0].id", notNullValue())
+                .body("[0].title", notNullValue())
+                .body("[0].body", notNullValue())
+                .body("[0].userId", notNullValue())
+                .body("userId", everyItem(greaterThan(0)))
+                .build();
+        int iterations = 10;
+
+        long restAssuredNanos = Long.MAX_VALUE;
+        long validatorNanos = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                Post[] posts = response.then()
+                        .statusCode(ApiConfig.OK)
+                        .body("size()", equalTo(5_000))
+                        .body("[0].id", notNullValue())
+                        .body("[0].title", notNullValue())
+                        .body("[0].body", notNullValue())
+                        .body("[0].userId", notNullValue())
+                        .body("userId", everyItem(greaterThan(0)))
+                        .extract().as(Post[].class);
+                assertEquals(5_000, posts.length);
+            }
+            restAssuredNanos = Math.min(restAssuredNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                Post[] posts = validator.validate(response).as(Post[].class);
+                assertEquals(5_000, posts.length);
+            }
+            validatorNanos = Math.min(validatorNanos, System.nanoTime() - start);
+        }
+
+        double speedup = (double) restAssuredNanos / validatorNanos;
+        String report = String.format("5000 posts, 6 assertions + mapping: REST Assured=%.2fms, validator=%.2fms (%.1fx)",
+                restAssuredNanos / 1e6 / iterations, validatorNanos / 1e6 / iterations, speedup);
+        System.out.println(report);
+        Allure.addAttachment("Response validator benchmark", "text/plain", report);
+        assertTrue(speedup > 2, report);
+    }
+
+    private static Response response(int statusCode, String body) {
+        return new ResponseBuilder()
+                .setStatusCode(statusCode)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+
+    private static String largePostArray(int count) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= count; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"userId\":").append(i % 10 + 1).append(",\"id\":").append(i)
+                    .append(",\"title\":\"Post ").append(i).append("\",\"body\":\"Body of post ").append(i).append("\"}");
+        }
+        return json.append(']').toString();
+    }
+}
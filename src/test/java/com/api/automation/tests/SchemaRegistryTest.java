@@ -0,0 +1,129 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.validation.ResponseValidator;
+import com.api.automation.validation.SchemaRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk SchemaRegistry (cache JSON Schema yang sudah di-compile)
+ * Dijalankan @Isolated saat mode paralel karena meng-assert hasil benchmark validasi schema
+ */
+@Epic("API Contract")
+@Feature("Schema Cache")
+@Isolated
+public class SchemaRegistryTest {
+
+    private static final String POST_LIST_SCHEMA = "schemas/jsonplaceholder/post-list.json";
+
+    @Test
+    @Story("Compile Once")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Schema Compiled Once Across Threads")
+    @Description("Memverifikasi bahwa schema dimuat sekali dan instance yang sama dipakai oleh semua thread")
+    void testSchemaCompiledOnceAcrossThreads() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return SchemaRegistry.get("schemas/reqres/user-page.json");
+                }));
+            }
+            start.countDown();
+            Object first = results.get(0).get();
+            for (Future<Object> result : results) {
+                assertSame(first, result.get(), "All threads should share one compiled schema");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertSame(SchemaRegistry.get("schemas/reqres/user-page.json"), SchemaRegistry.get("/schemas/reqres/user-page.json"));
+    }
+
+    @Test
+    @Story("Violations")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Schema Violations Reported With Pointer")
+    @Description("Memverifikasi bahwa pelanggaran kontrak pada elemen ($ref) dilaporkan dengan JSON pointer")
+    void testSchemaViolationsReportedWithPointer() throws Exception {
+        JsonNode invalid = ModelMapper.get().readTree(
+                "[{\"id\":1,\"userId\":1,\"title\":\"ok\",\"body\":\"ok\"},{\"id\":\"two\",\"userId\":1,\"title\":\"t\"}]");
+
+        List<String> violations = SchemaRegistry.validate(POST_LIST_SCHEMA, invalid);
+
+        assertEquals(2, violations.size(), violations.toString());
+        assertTrue(violations.stream().anyMatch(v -> v.startsWith("/1/id:")), violations.toString());
+        assertTrue(violations.stream().anyMatch(v -> v.startsWith("/1:") && v.contains("body")), violations.toString());
+
+        ResponseValidator validator = ResponseValidator.builder().schema(POST_LIST_SCHEMA).build();
+        AssertionError error = assertThrows(AssertionError.class,
+                () -> validator.validate(invalid.toString().getBytes()));
+        assertTrue(error.getMessage().startsWith("2 expectation(s) failed."), error.getMessage());
+    }
+
+    @Test
+    @Story("Overhead")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Cached Schema Cheaper Than matchesJsonSchemaInClasspath")
+    @Description("Membandingkan biaya validasi per response: matchesJsonSchemaInClasspath vs schema dari cache")
+    void testCachedSchemaCheaperThanClasspathMatcher() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 100; i++) {
+            json.append(i > 1 ? "," : "").append("{\"userId\":1,\"id\":").append(i)
+                    .append(",\"title\":\"title\",\"body\":\"body\"}");
+        }
+        Response response = new ResponseBuilder()
+                .setStatusCode(ApiConfig.OK)
+                .setContentType("application/json")
+                .setBody(json.append(']').toString())
+                .build();
+        ResponseValidator validator = ResponseValidator.builder()
+                .statusCode(ApiConfig.OK)
+                .schema(POST_LIST_SCHEMA)
+                .build();
+        int iterations = 200;
+
+        for (int i = 0; i < iterations; i++) {
+            response.then().body(matchesJsonSchemaInClasspath(POST_LIST_SCHEMA));
+            validator.validate(response);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            response.then().body(matchesJsonSchemaInClasspath(POST_LIST_SCHEMA));
+        }
+        long matcherNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            validator.validate(response);
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        String report = String.format("100-post schema validation: matchesJsonSchemaInClasspath=%.3fms, cached=%.3fms per response",
+                matcherNanos / 1e6 / iterations, cachedNanos / 1e6 / iterations);
+        System.out.println(report);
+        Allure.addAttachment("Schema validation overhead", "text/plain", report);
+        assertTrue(cachedNanos < matcherNanos, report);
+    }
+}
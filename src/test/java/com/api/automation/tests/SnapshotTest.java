@@ -0,0 +1,194 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.models.Post;
+import com.api.automation.snapshot.SnapshotDiff;
+import com.api.automation.snapshot.SnapshotStore;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.stub.StubApiServer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk golden snapshot response (SnapshotStore)
+ * Menggunakan StubApiServer lokal sebagai pengganti host publik
+ * Dijalankan @Isolated saat mode paralel karena meng-assert waktu diff snapshot
+ */
+@Epic("API Infrastructure")
+@Feature("Golden Snapshots")
+@Isolated
+public class SnapshotTest {
+
+    private static final Set<String> MASKED_FIELDS = Set.of("id", "createdAt", "updatedAt", "token");
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @TempDir
+    Path snapshotDir;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Record And Compare")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Posts And Users Match Recorded Snapshots")
+    @Description("Memverifikasi bahwa response /posts dan /users direkam dalam mode update lalu cocok pada run berikutnya")
+    void testPostsAndUsersMatchRecordedSnapshots() throws Exception {
+        SnapshotStore store = new SnapshotStore(snapshotDir, MASKED_FIELDS, false);
+        Response posts = api.getRequestSpecWithoutLogging().get(ApiConfig.POSTS_ENDPOINT);
+        Response users = api.getRequestSpecWithoutLogging().get(ApiConfig.USERS_ENDPOINT);
+
+        AssertionError error = assertThrows(AssertionError.class, () -> store.assertMatches("jsonplaceholder/posts", posts));
+        assertTrue(error.getMessage().contains("$: expected <missing>"), error.getMessage());
+        assertFalse(Files.exists(store.file("jsonplaceholder/posts")), "Missing snapshots are only written in update mode");
+        assertFalse(store.isRecorded("jsonplaceholder/posts"));
+
+        SnapshotStore recorder = new SnapshotStore(snapshotDir, MASKED_FIELDS, true);
+        assertTrue(recorder.isRecorded("jsonplaceholder/posts"), "Update mode records missing snapshots");
+        recorder.assertMatches("jsonplaceholder/posts", posts);
+        recorder.assertMatches("jsonplaceholder/users", users);
+        assertTrue(Files.exists(store.file("jsonplaceholder/posts")));
+
+        SnapshotStore reloaded = new SnapshotStore(snapshotDir, MASKED_FIELDS, false);
+        assertTrue(reloaded.isRecorded("jsonplaceholder/posts"));
+        reloaded.assertMatches("jsonplaceholder/posts", api.getRequestSpecWithoutLogging().get(ApiConfig.POSTS_ENDPOINT));
+        reloaded.assertMatches("jsonplaceholder/users", api.getRequestSpecWithoutLogging().get(ApiConfig.USERS_ENDPOINT));
+        System.out.printf("Snapshot /posts: %d bytes JSON -> %d bytes snapshot%n",
+                posts.asByteArray().length, Files.size(store.file("jsonplaceholder/posts")));
+    }
+
+    @Test
+    @Story("Normalization")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Key Order And Volatile Fields Are Ignored")
+    @Description("Memverifikasi bahwa urutan field dan field volatile (id, createdAt) tidak memicu perbedaan")
+    void testKeyOrderAndVolatileFieldsAreIgnored() {
+        SnapshotStore store = new SnapshotStore(snapshotDir, MASKED_FIELDS, false);
+        record("reqres/created", json("{\"name\":\"morpheus\",\"job\":\"leader\",\"id\":\"12\",\"createdAt\":\"2024-01-01T00:00:00Z\"}"));
+
+        assertNull(store.compare("reqres/created",
+                json("{\"createdAt\":\"2026-10-18T10:00:00Z\",\"id\":\"987\",\"job\":\"leader\",\"name\":\"morpheus\"}")));
+
+        SnapshotDiff diff = store.compare("reqres/created", json("{\"name\":\"morpheus\",\"job\":\"zion resident\",\"id\":\"1\"}"));
+        assertNotNull(diff);
+        assertEquals("$.createdAt", diff.getPath(), "Fields are compared in canonical (sorted) order");
+    }
+
+    @Test
+    @Story("Structural Diff")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Diff Reports First Differing Subtree")
+    @Description("Memverifikasi bahwa diff menunjuk ke subtree pertama yang berbeda beserta nilai expected dan actual")
+    void testDiffReportsFirstDifferingSubtree() {
+        SnapshotStore store = new SnapshotStore(snapshotDir, MASKED_FIELDS, false);
+        List<Post> posts = posts(100);
+        record("posts", ModelMapper.write(posts));
+
+        posts.get(56).setTitle("Regressed title");
+        posts.get(80).setBody("Also changed");
+        AssertionError error = assertThrows(AssertionError.class, () -> store.assertMatches("posts", ModelMapper.write(posts)));
+
+        assertTrue(error.getMessage().contains("$[56].title: expected \"Post title 56\" but was \"Regressed title\""),
+                error.getMessage());
+
+        SnapshotDiff missing = store.compare("posts", ModelMapper.write(posts(99)));
+        assertEquals("$[99]", missing.getPath());
+        assertEquals("<missing>", missing.getActual());
+    }
+
+    @Test
+    @Story("Performance")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Diff Of Multi-MB Body Stays Fast")
+    @Description("Memverifikasi bahwa membandingkan body berukuran beberapa MB cukup cepat dan berhenti di perbedaan pertama")
+    void testDiffOfMultiMegabyteBodyStaysFast() {
+        SnapshotStore store = new SnapshotStore(snapshotDir, MASKED_FIELDS, false);
+        List<Post> posts = posts(40_000);
+        byte[] json = ModelMapper.write(posts);
+        record("large", json);
+
+        posts.get(posts.size() - 1).setBody("changed");
+        byte[] changed = ModelMapper.write(posts);
+
+        long best = Long.MAX_VALUE;
+        SnapshotDiff diff = null;
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            assertNull(store.compare("large", json));
+            diff = store.compare("large", changed);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        String report = String.format("%.1f MB body: match + diff in %.1f ms (%s)", json.length / 1e6, best / 1e6, diff);
+        System.out.println(report);
+        Allure.addAttachment("Snapshot diff timing", "text/plain", report);
+
+        assertEquals("$[39999].body", diff.getPath());
+        assertTrue(best < 2_000_000_000L, report);
+    }
+
+    @Test
+    @Story("Lazy Loading")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Snapshots Are Loaded Lazily")
+    @Description("Memverifikasi bahwa ribuan snapshot tidak dibaca dari disk sampai dibandingkan")
+    void testSnapshotsAreLoadedLazily() {
+        SnapshotStore writer = new SnapshotStore(snapshotDir, MASKED_FIELDS, true);
+        for (int i = 0; i < 2000; i++) {
+            writer.compare("bulk/post-" + i, ModelMapper.write(posts(1).get(0)));
+        }
+
+        SnapshotStore store = new SnapshotStore(snapshotDir, MASKED_FIELDS, false);
+        assertEquals(0, store.loadedCount());
+        store.assertMatches("bulk/post-1234", ModelMapper.write(posts(1).get(0)));
+        assertEquals(1, store.loadedCount());
+    }
+
+    /**
+     * Merekam snapshot baru seperti run dengan -Dapi.snapshot.update=true
+     */
+    private void record(String name, byte[] json) {
+        new SnapshotStore(snapshotDir, MASKED_FIELDS, true).assertMatches(name, json);
+    }
+
+    private static List<Post> posts(int count) {
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Post post = new Post(i % 10 + 1, "Post title " + i, "Post body " + i + " with some longer text to make it realistic");
+            post.setId(i + 1);
+            posts.add(post);
+        }
+        return posts;
+    }
+
+    private static byte[] json(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,200 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.Post;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.utils.ConnectionPoolManager;
+import com.api.automation.utils.JsonStreamReader;
+import com.api.automation.stub.StubApiServer;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.IntSummaryStatistics;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk pembacaan JSON array secara streaming
+ * Menggunakan StubApiServer lokal dan payload sintetis yang dibangkitkan on-the-fly
+ * Dijalankan @Isolated saat mode paralel karena meng-assert jumlah koneksi leased di pool bersama
+ */
+@Epic("API Infrastructure")
+@Feature("Streaming JSON")
+@Isolated
+public class StreamingJsonTest {
+
+    private static StubApiServer server;
+    private static ApiContext api;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("Per-Element Assertions")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Stream All Posts From Response")
+    @Description("Memverifikasi bahwa semua post dapat divalidasi per elemen langsung dari InputStream response")
+    void testStreamAllPostsFromResponse() {
+        Response response = api.getRequestSpecWithoutLogging()
+                .filter(JsonStreamReader.streamingBody())
+                .when()
+                .get(ApiConfig.POSTS_ENDPOINT);
+        assertEquals(ApiConfig.OK, response.getStatusCode());
+
+        long count = JsonStreamReader.forEach(response, Post.class, post -> {
+            assertNotNull(post.getId(), "Post ID should not be null");
+            assertNotNull(post.getUserId(), "User ID should not be null");
+            assertFalse(post.getTitle().isEmpty(), "Title should not be empty");
+        });
+
+        assertEquals(100, count, "Should stream 100 posts");
+        assertEquals(0, ConnectionPoolManager.getStats().getLeased(),
+                "Connection should be released once the stream is consumed");
+    }
+
+    @Test
+    @Story("Aggregation")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Aggregate Posts Per User With Stream")
+    @Description("Memverifikasi agregasi elemen lewat java.util.stream tanpa membangun array Post")
+    void testAggregatePostsWithStream() {
+        Response response = api.getRequestSpecWithoutLogging()
+                .filter(JsonStreamReader.streamingBody())
+                .when()
+                .get(ApiConfig.POSTS_ENDPOINT);
+
+        long postsByUserOne;
+        try (Stream<Post> posts = JsonStreamReader.stream(response, Post.class)) {
+            postsByUserOne = posts.filter(post -> post.getUserId() == 1).count();
+        }
+
+        assertEquals(10, postsByUserOne, "User 1 should have 10 posts");
+        assertEquals(0, ConnectionPoolManager.getStats().getLeased(),
+                "Connection should be released when the stream is closed");
+    }
+
+    @Test
+    @Story("Connection Release")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Unconsumed Streaming Body Is Released")
+    @Description("Memverifikasi bahwa Stream yang dibaca habis tanpa close() dan body yang tidak pernah dibaca tidak menahan koneksi di pool")
+    void testUnconsumedStreamingBodyIsReleased() {
+        Response consumed = api.getRequestSpecWithoutLogging()
+                .filter(JsonStreamReader.streamingBody())
+                .get(ApiConfig.POSTS_ENDPOINT);
+        assertEquals(100, JsonStreamReader.stream(consumed, Post.class).count());
+        assertEquals(0, ConnectionPoolManager.getStats().getLeased(),
+                "Connection should be released after the last element even without close()");
+
+        Response ignored = api.getRequestSpecWithoutLogging()
+                .filter(JsonStreamReader.streamingBody())
+                .get(ApiConfig.POSTS_ENDPOINT);
+        assertEquals(ApiConfig.OK, ignored.getStatusCode());
+        assertEquals(1, ConnectionPoolManager.getStats().getLeased(), "Unread body keeps its connection leased");
+
+        assertEquals(1, JsonStreamReader.releaseUnconsumed());
+        assertEquals(0, ConnectionPoolManager.getStats().getLeased(),
+                "Connection should be released once the unread body is closed");
+    }
+
+    @Test
+    @Story("Large Payload")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Stream Large Payload Reads Incrementally")
+    @Description("Memverifikasi bahwa payload 200.000 post dibaca per elemen: parser hanya membaca sedikit di depan elemen yang sedang diproses")
+    void testStreamLargePayload() {
+        int recordCount = 200_000;
+        GeneratedPostArray source = new GeneratedPostArray(recordCount);
+        IntSummaryStatistics ids = new IntSummaryStatistics();
+        AtomicInteger maxReadAhead = new AtomicInteger();
+
+        long count = JsonStreamReader.forEach(source, Post.class, post -> {
+            ids.accept(post.getId());
+            maxReadAhead.accumulateAndGet(source.generatedRecords() - post.getId(), Math::max);
+        });
+
+        assertEquals(recordCount, count);
+        assertEquals(1, ids.getMin());
+        assertEquals(recordCount, ids.getMax());
+        // Buffer parser Jackson (8 KB) memuat ~100 record sintetis; body utuh adalah ~17 MB
+        assertTrue(maxReadAhead.get() < 500,
+                "Parser should read only a small window ahead of the current element, read ahead: " + maxReadAhead.get());
+    }
+
+    /**
+     * InputStream berisi JSON array Post yang dibangkitkan per record,
+     * sehingga payload besar tidak pernah ada utuh di memory
+     */
+    private static class GeneratedPostArray extends InputStream {
+        private final int recordCount;
+        private int nextRecord = 1;
+        private byte[] chunk = "[".getBytes(StandardCharsets.UTF_8);
+        private int position;
+
+        GeneratedPostArray(int recordCount) {
+            this.recordCount = recordCount;
+        }
+
+        /**
+         * @return Jumlah record yang sudah dibangkitkan (dibaca oleh parser)
+         */
+        int generatedRecords() {
+            return nextRecord - 1;
+        }
+
+        @Override
+        public int read() {
+            if (position == chunk.length && !nextChunk()) {
+                return -1;
+            }
+            return chunk[position++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == chunk.length && !nextChunk()) {
+                return -1;
+            }
+            int copied = Math.min(length, chunk.length - position);
+            System.arraycopy(chunk, position, buffer, offset, copied);
+            position += copied;
+            return copied;
+        }
+
+        private boolean nextChunk() {
+            if (nextRecord > recordCount + 1) {
+                return false;
+            }
+            String json;
+            if (nextRecord == recordCount + 1) {
+                json = "]";
+            } else {
+                json = (nextRecord > 1 ? "," : "") + "{\"id\":" + nextRecord + ",\"userId\":" + (nextRecord % 10 + 1)
+                        + ",\"title\":\"Post " + nextRecord + "\",\"body\":\"Generated body for post " + nextRecord + "\"}";
+            }
+            nextRecord++;
+            chunk = json.getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.dataset.UserDataset;
+import com.api.automation.json.ModelCodecs;
+import com.api.automation.json.ModelMapper;
+import com.api.automation.json.StringCanonicalizer;
+import com.api.automation.json.StringPool;
+import com.api.automation.models.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test class untuk deduplikasi String berulang saat deserialisasi model User
+ * Memakai UserDataset sebagai dataset benchmark (vocabulary city/company/domain terbatas)
+ * Dijalankan @Isolated saat mode paralel karena mengukur pemakaian heap JVM
+ */
+@Epic("API Infrastructure")
+@Feature("JSON Mapping")
+@Isolated
+public class StringCanonicalizationTest {
+
+    private static final int USERS = 20_000;
+
+    private static byte[] usersJson;
+
+    @BeforeAll
+    static void generateDataset() {
+        UserDataset dataset = UserDataset.generate(USERS, 42L, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('[');
+        for (int row = 0; row < USERS; row++) {
+            if (row > 0) {
+                out.write(',');
+            }
+            out.writeBytes(dataset.toJsonBytes(row));
+        }
+        out.write(']');
+        usersJson = out.toByteArray();
+    }
+
+    @Test
+    @Story("String Deduplication")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("Test Repeated Field Values Share One Instance")
+    @Description("Memverifikasi bahwa field @Canonical dan field dari konfigurasi memakai instance String yang sama tanpa mengubah hasil mapping")
+    void testRepeatedValuesShareInstance() throws Exception {
+        StringCanonicalizer canonicalizer = new StringCanonicalizer(4096, Collections.singleton("Company.catchPhrase"));
+        User[] plain = ModelMapper.create(false, null).readValue(usersJson, User[].class);
+        User[] canonical = ModelMapper.create(false, canonicalizer).readValue(usersJson, User[].class);
+
+        ObjectMapper writer = ModelMapper.create(false, null);
+        assertArrayEquals(writer.writeValueAsBytes(plain), writer.writeValueAsBytes(canonical),
+                "Canonicalization must not change mapped values");
+
+        User first = canonical[0];
+        User sameCity = Arrays.stream(canonical).skip(1)
+                .filter(user -> user.getAddress().getCity().equals(first.getAddress().getCity()))
+                .findFirst().orElseThrow();
+        assertSame(first.getAddress().getCity(), sameCity.getAddress().getCity(), "Equal cities should share one instance");
+        assertNotSame(plain[0].getAddress().getCity(), plain[Arrays.asList(canonical).indexOf(sameCity)].getAddress().getCity(),
+                "Plain mapper should keep separate instances");
+
+        Map<String, StringPool> pools = canonicalizer.getPools();
+        assertTrue(pools.keySet().containsAll(Arrays.asList("User.website", "Address.city", "Company.name",
+                        "Geo.lat", "Geo.lng", "Company.catchPhrase")),
+                "Annotated and configured fields should get a pool: " + pools.keySet());
+        assertFalse(pools.containsKey("User.email"), "Unique fields should not be pooled");
+        assertFalse(pools.containsKey("Company.bs"), "Fields that are neither annotated nor configured should not be pooled");
+        assertTrue(pools.get("Address.city").getHitRate() > 0.9, "City pool: " + pools.get("Address.city"));
+        assertTrue(pools.get("Address.city").size() <= 4096);
+        System.out.print(canonicalizer.report());
+    }
+
+    @Test
+    @Story("String Deduplication")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Hand-Rolled Codecs Use Shared Pools")
+    @Description("Memverifikasi bahwa ModelCodecs ikut memakai pool bersama untuk field @Canonical")
+    void testHandRolledCodecsUseSharedPools() {
+        assumeTrue(ApiConfig.JSON_CANONICAL_STRINGS, "Canonicalization is opt-in: -Dapi.json.canonicalStrings=true");
+
+        List<User> users = ModelCodecs.USER.readList(usersJson);
+        User first = users.get(0);
+        User sameCompany = users.stream().skip(1)
+                .filter(user -> user.getCompany().getName().equals(first.getCompany().getName()))
+                .findFirst().orElseThrow();
+        assertSame(first.getCompany().getName(), sameCompany.getCompany().getName());
+        assertTrue(StringCanonicalizer.shared().getPools().get("Company.name").getHits() > 0);
+    }
+
+    @Test
+    @Story("Retained Heap")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Retained Heap Saved On Benchmark Dataset")
+    @Description("Membandingkan heap yang ditahan 20.000 User hasil deserialisasi dengan dan tanpa deduplikasi String")
+    void testRetainedHeapSaved() throws Exception {
+        StringCanonicalizer canonicalizer = new StringCanonicalizer(ApiConfig.JSON_CANONICAL_POOL_SIZE, Collections.emptySet());
+        ObjectMapper plainMapper = ModelMapper.create(false, null);
+        ObjectMapper canonicalMapper = ModelMapper.create(false, canonicalizer);
+
+        long plainEstimate = retainedStringBytes(plainMapper.readValue(usersJson, User[].class));
+        canonicalizer.clear();
+        long canonicalEstimate = retainedStringBytes(canonicalMapper.readValue(usersJson, User[].class));
+
+        // Ronde pertama membebaskan sisa alokasi test sebelumnya sehingga tidak dipakai
+        measureRetained(plainMapper, () -> { });
+        measureRetained(canonicalMapper, canonicalizer::clear);
+        long plainMeasured = measureRetained(plainMapper, () -> { });
+        long canonicalMeasured = measureRetained(canonicalMapper, canonicalizer::clear);
+
+        String report = String.format("Retained heap for %,d users (%,d bytes JSON)%n"
+                        + "  String estimate : plain=%,d bytes, canonical=%,d bytes, saved=%.1f%%%n"
+                        + "  measured (GC)   : plain=%,d bytes, canonical=%,d bytes, saved=%.1f%%%n%s",
+                USERS, usersJson.length,
+                plainEstimate, canonicalEstimate, percentSaved(plainEstimate, canonicalEstimate),
+                plainMeasured, canonicalMeasured, percentSaved(plainMeasured, canonicalMeasured),
+                canonicalizer.report());
+        System.out.print(report);
+        Allure.addAttachment("String canonicalization", "text/plain", report);
+
+        // Hanya field @Canonical: city, company name dan website berulang, koordinat dataset ini hampir unik
+        assertTrue(canonicalEstimate < plainEstimate * 0.9,
+                "Canonical strings should retain noticeably less heap: " + canonicalEstimate + " vs " + plainEstimate);
+    }
+
+    /**
+     * Perkiraan heap semua String unik (per identity) yang ditahan model, dengan ukuran String yang sama
+     * seperti StringPool (40 byte overhead + 1 byte per karakter Latin-1)
+     */
+    private static long retainedStringBytes(User[] users) {
+        Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (User user : users) {
+            strings.addAll(Arrays.asList(user.getName(), user.getUsername(), user.getEmail(), user.getPhone(),
+                    user.getWebsite(), user.getAddress().getStreet(), user.getAddress().getSuite(),
+                    user.getAddress().getCity(), user.getAddress().getZipcode(), user.getAddress().getGeo().getLat(),
+                    user.getAddress().getGeo().getLng(), user.getCompany().getName(),
+                    user.getCompany().getCatchPhrase(), user.getCompany().getBs()));
+        }
+        long bytes = 0;
+        for (String value : strings) {
+            bytes += 40 + value.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Heap yang ditahan hasil deserialisasi menurut MemoryMXBean: selisih heap setelah GC penuh
+     * saat hasil masih dipegang dan setelah hasil (beserta isi pool) dilepas
+     */
+    private static long measureRetained(ObjectMapper mapper, Runnable release) throws Exception {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        User[][] holder = {mapper.readValue(usersJson, User[].class)};
+        System.gc();
+        long held = memory.getHeapMemoryUsage().getUsed();
+        assertEquals(USERS, holder[0].length);
+        holder[0] = null;
+        release.run();
+        System.gc();
+        return held - memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static double percentSaved(long plain, long canonical) {
+        return plain == 0 ? 0 : 100.0 * (plain - canonical) / plain;
+    }
+}
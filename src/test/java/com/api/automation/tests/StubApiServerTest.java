@@ -0,0 +1,112 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.models.User;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.stub.StubApiServer;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk endpoint StubApiServer yang tidak dicakup oleh suite utama
+ */
+@Epic("API Infrastructure")
+@Feature("Stub Server")
+public class StubApiServerTest {
+
+    private static StubApiServer server;
+    private static ApiContext jsonPlaceholder;
+    private static ApiContext reqres;
+
+    @BeforeAll
+    static void startStubServer() {
+        server = new StubApiServer(0).start();
+        jsonPlaceholder = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+        reqres = BaseApiUtils.forBaseUri(server.getReqResBaseUrl());
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop();
+    }
+
+    @Test
+    @Story("JSONPlaceholder Emulation")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Stub Comments by Post - Positive Test")
+    @Description("Memverifikasi bahwa stub melayani /comments dengan filter postId dan nested /posts/{id}/comments")
+    void testCommentsByPost() {
+        jsonPlaceholder.getRequestSpecWithoutLogging()
+                .queryParam("postId", 1)
+                .when()
+                .get(ApiConfig.COMMENTS_ENDPOINT)
+                .then()
+                .statusCode(ApiConfig.OK)
+                .body("size()", greaterThan(0))
+                .body("postId", everyItem(equalTo(1)));
+
+        jsonPlaceholder.getRequestSpecWithoutLogging()
+                .when()
+                .get(ApiConfig.POSTS_ENDPOINT + "/1" + ApiConfig.COMMENTS_ENDPOINT)
+                .then()
+                .statusCode(ApiConfig.OK)
+                .body("postId", everyItem(equalTo(1)));
+    }
+
+    @Test
+    @Story("JSONPlaceholder Emulation")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Stub User Shape Matches User Model - Positive Test")
+    @Description("Memverifikasi bahwa payload user dari stub dapat di-mapping lengkap ke model User")
+    void testUserShapeMatchesModel() {
+        User user = jsonPlaceholder.getRequestSpecWithoutLogging()
+                .when()
+                .get(ApiConfig.USERS_ENDPOINT + "/1")
+                .then()
+                .statusCode(ApiConfig.OK)
+                .extract().as(User.class);
+
+        assertNotNull(user.getAddress().getGeo().getLat(), "Nested geo should be populated");
+        assertNotNull(user.getCompany().getName(), "Nested company should be populated");
+    }
+
+    @Test
+    @Story("ReqRes Emulation")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Stub Login and Register - Positive and Negative Test")
+    @Description("Memverifikasi bahwa /login dan /register mengembalikan token untuk user terdaftar dan error jika password kosong")
+    void testLoginAndRegister() {
+        reqres.getRequestSpecWithoutLogging()
+                .body("{\"email\": \"user4@reqres.in\", \"password\": \"secret\"}")
+                .when()
+                .post(ApiConfig.REQRES_LOGIN_ENDPOINT)
+                .then()
+                .statusCode(ApiConfig.OK)
+                .body("token", notNullValue());
+
+        reqres.getRequestSpecWithoutLogging()
+                .body("{\"email\": \"user4@reqres.in\", \"password\": \"secret\"}")
+                .when()
+                .post(ApiConfig.REQRES_REGISTER_ENDPOINT)
+                .then()
+                .statusCode(ApiConfig.OK)
+                .body("id", equalTo(4))
+                .body("token", notNullValue());
+
+        reqres.getRequestSpecWithoutLogging()
+                .body("{\"email\": \"user4@reqres.in\"}")
+                .when()
+                .post(ApiConfig.REQRES_LOGIN_ENDPOINT)
+                .then()
+                .statusCode(ApiConfig.BAD_REQUEST)
+                .body("error", equalTo("Missing password"));
+    }
+}
@@ -0,0 +1,138 @@
+package com.api.automation.tests;
+
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.api.automation.config.ApiConfig;
+import com.api.automation.stub.StubApiServer;
+import com.api.automation.utils.ApiContext;
+import com.api.automation.utils.BaseApiUtils;
+import com.api.automation.vcr.Cassette;
+import com.api.automation.vcr.RecordedResponse;
+import com.api.automation.vcr.VcrFilter;
+import com.api.automation.vcr.VcrMode;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class untuk VCR record/replay filter dan cassette
+ */
+@Epic("API Infrastructure")
+@Feature("VCR Record/Replay")
+public class VcrFilterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @Story("Record and Replay")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Test Replay Serves Recorded Responses Without Network")
+    @Description("Memverifikasi bahwa response yang direkam dapat diputar ulang setelah server dimatikan")
+    void testRecordThenReplayWithoutNetwork() throws Exception {
+        StubApiServer server = new StubApiServer(0).start();
+        ApiContext api = BaseApiUtils.forBaseUri(server.getJsonPlaceholderBaseUrl());
+
+        String recordedBody;
+        try (Cassette cassette = new Cassette(tempDir.resolve("posts"))) {
+            VcrFilter recorder = new VcrFilter(cassette, VcrMode.RECORD);
+            recordedBody = api.getRequestSpecWithoutLogging()
+                    .filter(recorder)
+                    .queryParam("userId", 1)
+                    .when()
+                    .get(ApiConfig.POSTS_ENDPOINT)
+                    .then()
+                    .statusCode(ApiConfig.OK)
+                    .extract().asString();
+        } finally {
+            server.stop();
+        }
+
+        try (Cassette cassette = new Cassette(tempDir.resolve("posts"))) {
+            VcrFilter player = new VcrFilter(cassette, VcrMode.REPLAY);
+            Response replayed = api.getRequestSpecWithoutLogging()
+                    .filter(player)
+                    .queryParam("userId", 1)
+                    .when()
+                    .get(ApiConfig.POSTS_ENDPOINT)
+                    .then()
+                    .statusCode(ApiConfig.OK)
+                    .body("userId", everyItem(equalTo(1)))
+                    .extract().response();
+            assertEquals(recordedBody, replayed.asString(), "Replayed body should match the recorded body");
+
+            assertThrows(IllegalStateException.class, () -> api.getRequestSpecWithoutLogging()
+                    .filter(player)
+                    .when()
+                    .get(ApiConfig.POSTS_ENDPOINT + "/2"), "Unrecorded interaction should fail in replay mode");
+        }
+    }
+
+    @Test
+    @Story("Interaction Key")
+    @Severity(SeverityLevel.MINOR)
+    @DisplayName("Test Interaction Key Normalization")
+    @Description("Memverifikasi bahwa urutan query, huruf besar host dan port stub lokal tidak mengubah key interaksi")
+    void testInteractionKeyNormalization() {
+        String first = VcrFilter.interactionKey("get", "https://JSONPlaceholder.typicode.com/posts?b=2&a=1", null);
+        String second = VcrFilter.interactionKey("GET", "https://jsonplaceholder.typicode.com/posts?a=1&b=2", null);
+        assertEquals(first, second, "Normalized keys should be equal");
+
+        String withBody = VcrFilter.interactionKey("POST", "https://jsonplaceholder.typicode.com/posts", "{\"title\":\"a\"}");
+        String otherBody = VcrFilter.interactionKey("POST", "https://jsonplaceholder.typicode.com/posts", "{\"title\":\"b\"}");
+        assertNotEquals(withBody, otherBody, "Different bodies should produce different keys");
+
+        assertEquals(VcrFilter.interactionKey("GET", "http://localhost:41234/posts/1", null),
+                VcrFilter.interactionKey("GET", "http://localhost:52345/posts/1", null),
+                "Random StubApiServer ports should not change the key");
+        assertNotEquals(VcrFilter.interactionKey("GET", "https://example.com:8443/posts/1", null),
+                VcrFilter.interactionKey("GET", "https://example.com/posts/1", null),
+                "Non-loopback ports stay part of the key");
+    }
+
+    @Test
+    @Story("Large Cassette")
+    @Severity(SeverityLevel.MINOR)
+    @DisplayName("Test Lookup Speed on Large Cassette")
+    @Description("Memverifikasi bahwa lookup replay tetap cepat untuk cassette berisi 100 ribu interaksi")
+    void testLookupSpeedOnLargeCassette() throws Exception {
+        int interactions = 100_000;
+        Path basePath = tempDir.resolve("large");
+        List<String[]> headers = Collections.singletonList(new String[] {"Content-Type", "application/json"});
+
+        try (Cassette cassette = new Cassette(basePath)) {
+            for (int i = 0; i < interactions; i++) {
+                byte[] body = ("{\"id\":" + i + "}").getBytes(StandardCharsets.UTF_8);
+                cassette.record(key(i), new RecordedResponse(ApiConfig.OK, "HTTP/1.1 200 OK", headers, body));
+            }
+        }
+
+        try (Cassette cassette = new Cassette(basePath)) {
+            assertEquals(interactions, cassette.size(), "Every interaction should be indexed");
+
+            long start = System.nanoTime();
+            for (int i = 0; i < interactions; i++) {
+                RecordedResponse response = cassette.find(key(i));
+                assertNotNull(response, "Interaction " + i + " should be found");
+            }
+            long nanosPerLookup = (System.nanoTime() - start) / interactions;
+            System.out.println("Cassette lookup: " + nanosPerLookup / 1000.0 + " us/lookup");
+
+            assertEquals("{\"id\":4242}", new String(cassette.find(key(4242)).getBody(), StandardCharsets.UTF_8));
+            assertNull(cassette.find(key(interactions)), "Unknown key should not be found");
+        }
+    }
+
+    private static String key(int i) {
+        return VcrFilter.interactionKey("GET", "https://jsonplaceholder.typicode.com/posts/" + i, null);
+    }
+}
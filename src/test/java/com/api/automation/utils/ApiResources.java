@@ -0,0 +1,38 @@
+package com.api.automation.utils;
+
+/**
+ * Key resource bersama untuk @ResourceLock saat suite berjalan paralel (-Dapi.parallel=true).
+ * Scheduler JUnit hanya menserialkan test yang memegang key yang sama dengan mode yang bentrok
+ * (READ_WRITE dengan apapun); test tanpa key yang sama tetap berjalan bersamaan.
+ *
+ * Aturan pemakaian:
+ * - GET /posts/{id}: READ pada key id (contoh: POST_1)
+ * - GET /posts: READ pada key collection (POSTS)
+ * - POST /posts: READ_WRITE pada key collection
+ * - PUT/PATCH/DELETE /posts/{id}: READ_WRITE pada key id dan key collection
+ * - Test yang mempengaruhi seluruh host (contoh: mengukur response time): READ_WRITE pada key host,
+ *   test lain ke host itu memegang READ pada key host
+ * Pasang @ResourceLock di method, bukan di class: lock di class membuat JUnit menjalankan
+ * semua method class tersebut berurutan dalam satu thread.
+ *
+ * Test yang meng-assert state global satu JVM (statistik connection pool, ApiMetrics, waktu benchmark,
+ * System.out) memakai @Isolated karena state tersebut dipakai semua test, bukan satu resource.
+ */
+public final class ApiResources {
+
+    // ===== Host =====
+    public static final String JSONPLACEHOLDER = "api:jsonplaceholder";
+    public static final String REQRES = "api:reqres";
+
+    // ===== JSONPlaceholder =====
+    public static final String POSTS = JSONPLACEHOLDER + "/posts";
+    public static final String POST_1 = POSTS + "/1";
+    public static final String USERS = JSONPLACEHOLDER + "/users";
+    public static final String USER_1 = USERS + "/1";
+
+    // ===== ReqRes =====
+    public static final String REQRES_USERS = REQRES + "/users";
+
+    private ApiResources() {
+    }
+}
@@ -0,0 +1,21 @@
+package com.api.automation.utils;
+
+import io.qameta.allure.Allure;
+
+/**
+ * Utility untuk mempublikasikan hasil LatencyBenchmark ke console dan Allure report
+ */
+public class LatencyReporter {
+
+    /**
+     * Menampilkan ringkasan latency dan menambahkannya sebagai Allure attachment
+     * @param result Hasil LatencyBenchmark
+     * @return LatencyResult yang sama untuk assertion berikutnya
+     */
+    public static LatencyResult publish(LatencyResult result) {
+        String summary = result.summary();
+        System.out.println(summary);
+        Allure.addAttachment("Latency - " + result.getName(), "text/plain", summary, ".txt");
+        return result;
+    }
+}
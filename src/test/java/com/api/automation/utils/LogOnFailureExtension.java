@@ -0,0 +1,63 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Extension JUnit yang mencetak log request/response dari BufferedLoggingFilter hanya ketika test gagal.
+ * Test yang lulus ikut dicetak dengan peluang api.log.sampleRate (0 = tidak pernah, 1 = selalu).
+ * Buffer dibuka per test dan disimpan di ExtensionContext.Store test tersebut, sehingga request dari thread lain
+ * (AsyncApiClient, lane BatchExecutor, duplikat hedging) ikut tercatat; buffer ditutup saat context test ditutup.
+ * Didaftarkan otomatis untuk semua test lewat junit-platform.properties (extension autodetection).
+ */
+public class LogOnFailureExtension implements BeforeEachCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(LogOnFailureExtension.class);
+    private static final String BUFFER = "buffer";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(BUFFER, new ScopedBuffer(RequestLogBuffer.open()));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ScopedBuffer scoped = context.getStore(NAMESPACE).get(BUFFER, ScopedBuffer.class);
+        RequestLogBuffer buffer = scoped != null ? scoped.buffer : RequestLogBuffer.current();
+        boolean failed = context.getExecutionException().isPresent();
+        if (buffer.size() == 0 || !(failed || sampled())) {
+            buffer.clear();
+            return;
+        }
+        String title = (failed ? "API log (failed)" : "API log (sampled)") + " - " + context.getDisplayName();
+        String log = buffer.drain();
+        System.out.println("===== " + title + " =====\n" + log);
+        Allure.addAttachment(title, "text/plain", log, ".txt");
+    }
+
+    /**
+     * Buffer test di Store; JUnit memanggil close() saat context test ditutup
+     */
+    private static final class ScopedBuffer implements ExtensionContext.Store.CloseableResource {
+        private final RequestLogBuffer buffer;
+
+        ScopedBuffer(RequestLogBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void close() {
+            buffer.close();
+        }
+    }
+
+    private static boolean sampled() {
+        double rate = ApiConfig.LOG_SAMPLE_RATE;
+        return rate > 0 && (rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate);
+    }
+}
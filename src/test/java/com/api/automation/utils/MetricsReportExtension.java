@@ -0,0 +1,87 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Extension JUnit yang menulis ringkasan ApiMetrics di akhir run:
+ * - file JSON di api.metrics.file (default build/api-metrics.json)
+ * - attachment Allure pada entry "API Metrics Summary" (di luar test manapun sehingga dibuat tersendiri)
+ * - hit/miss ResponseCache (jumlah round trip network yang dihemat) pada entry yang sama
+ * - hedge rate dan win rate HedgingFilter (-Dapi.hedge=true) pada entry yang sama
+ * Didaftarkan otomatis lewat junit-platform.properties (extension autodetection).
+ */
+public class MetricsReportExtension implements BeforeAllCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(MetricsReportExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!ApiConfig.METRICS_ENABLED && !ApiConfig.CACHE_ENABLED && !ApiConfig.HEDGE_ENABLED) {
+            return;
+        }
+        // Resource di root store ditutup sekali setelah semua test selesai
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent("report",
+                key -> (ExtensionContext.Store.CloseableResource) MetricsReportExtension::report);
+    }
+
+    private static void report() {
+        boolean hasMetrics = !ApiMetrics.getEndpoints().isEmpty();
+        ResponseCache.Stats cacheStats = ResponseCache.shared().getStats();
+        boolean hasCache = ApiConfig.CACHE_ENABLED && cacheStats.getHits() + cacheStats.getMisses() > 0;
+        boolean hasHedging = ApiConfig.HEDGE_ENABLED && HedgingFilter.shared().getStats().getRequests() > 0;
+        if (!hasMetrics && !hasCache && !hasHedging) {
+            return;
+        }
+        byte[] json = null;
+        if (hasMetrics) {
+            json = ApiMetrics.writeSummary(Paths.get(ApiConfig.METRICS_FILE));
+            System.out.println("API metrics summary written to " + ApiConfig.METRICS_FILE);
+            ApiMetrics.getEndpoints().forEach(stats -> System.out.println("  " + stats));
+        }
+        String cacheReport = hasCache ? ResponseCache.shared().report() : null;
+        if (hasCache) {
+            System.out.println("Response cache: " + cacheReport);
+        }
+        String hedgingReport = hasHedging ? HedgingFilter.shared().report() : null;
+        if (hasHedging) {
+            System.out.println("Hedged requests: " + hedgingReport);
+        }
+
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setHistoryId("api-metrics-summary")
+                .setName("API Metrics Summary")
+                .setFullName("com.api.automation.utils.MetricsReportExtension.report")
+                .setStatus(Status.PASSED)
+                .setStart(now)
+                .setLabels(List.of(ResultsUtils.createEpicLabel("API Infrastructure"),
+                        ResultsUtils.createFeatureLabel("Metrics"))));
+        lifecycle.startTestCase(uuid);
+        if (json != null) {
+            lifecycle.addAttachment("API metrics", "application/json", "json", json);
+        }
+        if (cacheReport != null) {
+            lifecycle.addAttachment("Response cache", "text/plain", "txt", cacheReport.getBytes(StandardCharsets.UTF_8));
+        }
+        if (hedgingReport != null) {
+            lifecycle.addAttachment("Hedged requests", "text/plain", "txt", hedgingReport.getBytes(StandardCharsets.UTF_8));
+        }
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+}
@@ -0,0 +1,39 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+/**
+ * Strategy eksekusi paralel JUnit dengan jumlah worker dari api.parallel.workers,
+ * sehingga worker diatur dengan property api.* yang sama seperti konfigurasi lain.
+ * Nilai pool lainnya mengikuti strategy "fixed" bawaan JUnit.
+ * Dipakai lewat junit.jupiter.execution.parallel.config.custom.class di junit-platform.properties.
+ */
+public class ParallelWorkersStrategy implements ParallelExecutionConfigurationStrategy {
+
+    private static final int KEEP_ALIVE_SECONDS = 30;
+    private static final int EXTRA_POOL_THREADS = 256;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+        int workers = Math.max(1, ApiConfig.PARALLEL_WORKERS);
+        return new ParallelExecutionConfiguration() {
+            @Override
+            public int getParallelism() { return workers; }
+
+            @Override
+            public int getMinimumRunnable() { return workers; }
+
+            @Override
+            public int getMaxPoolSize() { return workers + EXTRA_POOL_THREADS; }
+
+            @Override
+            public int getCorePoolSize() { return workers; }
+
+            @Override
+            public int getKeepAliveSeconds() { return KEEP_ALIVE_SECONDS; }
+        };
+    }
+}
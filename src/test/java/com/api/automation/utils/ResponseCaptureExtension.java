@@ -0,0 +1,62 @@
+package com.api.automation.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Extension JUnit yang memberi setiap test folder ResponseCapture sendiri dan melampirkan
+ * body yang di-capture ke Allure report sebagai referensi file: file attachment di folder
+ * allure-results dibuat sebagai hard link ke file capture, sehingga body tidak pernah dimuat ke heap.
+ * Jika hard link tidak didukung (contoh: beda file system), file disalin dengan Files.copy.
+ * Didaftarkan otomatis lewat junit-platform.properties (extension autodetection).
+ */
+public class ResponseCaptureExtension implements BeforeEachCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        // Unique id tanpa segmen engine, contoh: class_...ResponseCaptureTest_method_testX
+        ResponseCapture.beginTest(context.getUniqueId().replaceFirst("^\\[engine:[^]]*]/", ""));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<CapturedBody> captures = ResponseCapture.endTest();
+        if (captures.isEmpty()) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (!lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            return;
+        }
+        Path resultsDirectory = Paths.get(System.getProperty("allure.results.directory", "allure-results"));
+        for (CapturedBody body : captures) {
+            String extension = body.getPath().getFileName().toString().replaceAll("^.*(\\.[^.]+)$", "$1");
+            String source = lifecycle.prepareAttachment("Response - " + body.getName(),
+                    body.getContentType(), extension);
+            try {
+                link(body.getPath(), resultsDirectory.resolve(source));
+            } catch (IOException e) {
+                System.err.println("Capture " + body.getPath() + " tidak dapat dilampirkan ke Allure: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void link(Path capture, Path attachment) throws IOException {
+        Files.createDirectories(attachment.getParent());
+        try {
+            Files.createLink(attachment, capture.toAbsolutePath());
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(capture, attachment, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
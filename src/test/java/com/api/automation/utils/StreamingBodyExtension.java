@@ -0,0 +1,21 @@
+package com.api.automation.utils;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Extension JUnit yang melepas body streaming (JsonStreamReader.streamingBody()) yang tidak dibaca
+ * atau ditutup oleh test, agar koneksinya tidak tertahan di pool untuk test berikutnya.
+ * Didaftarkan otomatis untuk semua test lewat junit-platform.properties (extension autodetection).
+ */
+public class StreamingBodyExtension implements AfterEachCallback {
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        int released = JsonStreamReader.releaseUnconsumed();
+        if (released > 0) {
+            System.err.println(released + " body streaming tidak dibaca lewat JsonStreamReader oleh " + context.getDisplayName()
+                    + "; koneksi dilepas ke pool");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.automation.utils;
+
+import com.api.automation.config.ApiConfig;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Extension JUnit untuk TestDataGenerator:
+ * - saat suite mulai, pool Post/User dibangkitkan di background (api.data.poolSize, 0 = nonaktif)
+ * - sebelum setiap test, generator dan cursor pool thread di-seed ulang dari seed suite + unique id test
+ * Didaftarkan otomatis lewat junit-platform.properties (extension autodetection).
+ */
+public class TestDataExtension implements BeforeAllCallback, BeforeEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TestDataExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent("pools", key -> {
+            System.out.println("Test data seed: " + TestDataGenerator.getSeed()
+                    + " (gunakan -Dapi.data.seed=" + TestDataGenerator.getSeed() + " untuk mengulang data yang sama)");
+            if (ApiConfig.TEST_DATA_POOL_SIZE > 0) {
+                TestDataGenerator.startPools(ApiConfig.TEST_DATA_POOL_SIZE);
+            }
+            return Boolean.TRUE;
+        });
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TestDataGenerator.reseed(context.getUniqueId());
+    }
+}
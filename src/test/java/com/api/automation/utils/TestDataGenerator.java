@@ -1,26 +1,103 @@
 package com.api.automation.utils;
 
 import com.github.javafaker.Faker;
+import com.api.automation.config.ApiConfig;
 import com.api.automation.models.Post;
 import com.api.automation.models.User;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 /**
  * Utility class untuk generate test data menggunakan Faker
+ *
+ * Setiap thread memakai Faker sendiri (Faker tidak thread-safe) dan TestDataExtension
+ * men-seed ulang generator di awal setiap test dari seed suite + unique id test, sehingga data
+ * tiap test sama di setiap run (-Dapi.data.seed) walaupun test berjalan paralel.
+ * Untuk hot path tersedia pool Post/User yang dibangkitkan di background saat suite mulai.
+ * Cursor nextPooledPost/nextPooledUser disimpan per thread dan ikut di-seed ulang per test,
+ * sehingga record yang didapat sebuah test tidak bergantung pada test lain yang berjalan paralel.
  */
 public class TestDataGenerator {
     
-    private static final Faker faker = new Faker();
+    private static final long SEED = ApiConfig.TEST_DATA_SEED != null ? ApiConfig.TEST_DATA_SEED : new Random().nextLong();
+    
+    private static final ThreadLocal<SeededFaker> generators =
+            ThreadLocal.withInitial(() -> new SeededFaker(mix(SEED, Thread.currentThread().getName())));
+    
+    private static final Pool<Post> postPool = new Pool<>("posts", TestDataGenerator::newPost);
+    private static final Pool<User> userPool = new Pool<>("users", TestDataGenerator::newUser);
+    
+    /**
+     * Mendapatkan seed suite (cetak/ set lewat -Dapi.data.seed untuk reproduksi)
+     * @return Seed test data
+     */
+    public static long getSeed() {
+        return SEED;
+    }
+    
+    /**
+     * Men-seed ulang generator dan cursor pool thread ini secara deterministik
+     * @param key Key unik (contoh: unique id test)
+     */
+    public static void reseed(String key) {
+        generators.get().reseed(mix(SEED, key));
+    }
+    
+    /**
+     * Mulai membangkitkan pool Post dan User di background (idempotent)
+     * @param size Jumlah record per pool (0 = pool nonaktif, record dibangkitkan saat diminta)
+     */
+    public static void startPools(int size) {
+        postPool.start(size);
+        userPool.start(size);
+    }
+    
+    /**
+     * Mengambil Post berikutnya dari pool tanpa biaya generate; cursor per test (lihat reseed)
+     * @return Salinan Post dari pool
+     */
+    public static Post nextPooledPost() {
+        return copy(postPool.get(generators.get().postCursor++));
+    }
+    
+    /**
+     * Mengambil Post pada index tertentu dari pool; deterministik untuk seed yang sama
+     * @param index Index record (dibungkus modulo ukuran pool)
+     * @return Salinan Post dari pool
+     */
+    public static Post pooledPost(int index) {
+        return copy(postPool.get(index));
+    }
+    
+    /**
+     * Mengambil User berikutnya dari pool tanpa biaya generate; cursor per test (lihat reseed)
+     * @return Salinan User dari pool
+     */
+    public static User nextPooledUser() {
+        return copy(userPool.get(generators.get().userCursor++));
+    }
+    
+    /**
+     * Mengambil User pada index tertentu dari pool; deterministik untuk seed yang sama
+     * @param index Index record (dibungkus modulo ukuran pool)
+     * @return Salinan User dari pool
+     */
+    public static User pooledUser(int index) {
+        return copy(userPool.get(index));
+    }
     
     /**
      * Generate random Post object
      * @return Post object dengan data random
      */
     public static Post generateRandomPost() {
-        return new Post(
-                faker.number().numberBetween(1, 10),
-                faker.lorem().sentence(),
-                faker.lorem().paragraph()
-        );
+        return newPost(faker());
     }
     
     /**
@@ -29,6 +106,7 @@ public class TestDataGenerator {
      * @return Post object dengan data random
      */
     public static Post generateRandomPost(int userId) {
+        Faker faker = faker();
         return new Post(
                 userId,
                 faker.lorem().sentence(),
@@ -41,16 +119,7 @@ public class TestDataGenerator {
      * @return User object dengan data random
      */
     public static User generateRandomUser() {
-        String firstName = faker.name().firstName();
-        String lastName = faker.name().lastName();
-        String username = firstName.toLowerCase() + "." + lastName.toLowerCase();
-        String email = username + "@" + faker.internet().domainName();
-        
-        return new User(
-                firstName + " " + lastName,
-                username,
-                email
-        );
+        return newUser(faker());
     }
     
     /**
@@ -58,7 +127,7 @@ public class TestDataGenerator {
      * @return String dengan format email yang tidak valid
      */
     public static String generateInvalidEmail() {
-        return faker.lorem().word() + "invalid.email";
+        return faker().lorem().word() + "invalid.email";
     }
     
     /**
@@ -67,6 +136,7 @@ public class TestDataGenerator {
      * @return String dengan panjang tertentu
      */
     public static String generateLongString(int length) {
+        Faker faker = faker();
         StringBuilder sb = new StringBuilder();
         while (sb.length() < length) {
             sb.append(faker.lorem().word()).append(" ");
@@ -79,7 +149,7 @@ public class TestDataGenerator {
      * @return Integer user ID yang valid (1-10)
      */
     public static int generateValidUserId() {
-        return faker.number().numberBetween(1, 11);
+        return faker().number().numberBetween(1, 11);
     }
     
     /**
@@ -88,6 +158,137 @@ public class TestDataGenerator {
      */
     public static int generateInvalidUserId() {
         int[] invalidIds = {-1, 0, 999, 1000};
-        return invalidIds[faker.number().numberBetween(0, invalidIds.length)];
+        return invalidIds[faker().number().numberBetween(0, invalidIds.length)];
+    }
+    
+    private static Faker faker() {
+        return generators.get().faker;
+    }
+    
+    private static Post newPost(Faker faker) {
+        return new Post(
+                faker.number().numberBetween(1, 10),
+                faker.lorem().sentence(),
+                faker.lorem().paragraph()
+        );
+    }
+    
+    private static User newUser(Faker faker) {
+        String firstName = faker.name().firstName();
+        String lastName = faker.name().lastName();
+        String username = firstName.toLowerCase() + "." + lastName.toLowerCase();
+        String email = username + "@" + faker.internet().domainName();
+        
+        return new User(
+                firstName + " " + lastName,
+                username,
+                email
+        );
+    }
+    
+    private static Post copy(Post source) {
+        Post post = new Post(source.getUserId(), source.getTitle(), source.getBody());
+        post.setId(source.getId());
+        return post;
+    }
+    
+    private static User copy(User source) {
+        User user = new User(source.getName(), source.getUsername(), source.getEmail());
+        user.setId(source.getId());
+        user.setPhone(source.getPhone());
+        user.setWebsite(source.getWebsite());
+        return user;
+    }
+    
+    /**
+     * Menurunkan seed dari seed suite dan key (fungsi mix SplitMix64)
+     */
+    private static long mix(long seed, String key) {
+        long z = seed;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            z = (z ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Faker dengan Random yang bisa di-seed ulang tanpa memuat ulang data locale Faker,
+     * beserta cursor pool yang diturunkan dari seed yang sama
+     */
+    private static final class SeededFaker {
+        private final Random random;
+        private final Faker faker;
+        private int postCursor;
+        private int userCursor;
+        
+        SeededFaker(long seed) {
+            this.random = new Random();
+            this.faker = new Faker(random);
+            reseed(seed);
+        }
+        
+        void reseed(long seed) {
+            random.setSeed(seed);
+            postCursor = (int) seed;
+            userCursor = (int) (seed >>> 32);
+        }
+    }
+    
+    /**
+     * Pool record immutable yang dibangkitkan sekali oleh satu thread background.
+     * Jika pool nonaktif (ukuran 0), record dibangkitkan saat diminta dari seed per index.
+     */
+    private static final class Pool<T> {
+        private final String name;
+        private final Function<Faker, T> factory;
+        private volatile CompletableFuture<List<T>> records;
+        // Generator untuk pool nonaktif; di-synchronize pada pool ini
+        private SeededFaker onDemand;
+        
+        Pool(String name, Function<Faker, T> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+        
+        synchronized void start(int size) {
+            if (records != null || size <= 0) {
+                return;
+            }
+            int poolSize = size;
+            records = CompletableFuture.supplyAsync(() -> {
+                Faker faker = new SeededFaker(mix(SEED, "pool-" + name)).faker;
+                List<T> generated = new ArrayList<>(poolSize);
+                for (int i = 0; i < poolSize; i++) {
+                    generated.add(factory.apply(faker));
+                }
+                return Collections.unmodifiableList(generated);
+            }, runnable -> {
+                Thread thread = new Thread(runnable, "test-data-pool-" + name);
+                thread.setDaemon(true);
+                thread.start();
+            });
+        }
+        
+        T get(int index) {
+            if (records == null) {
+                start(ApiConfig.TEST_DATA_POOL_SIZE);
+            }
+            CompletableFuture<List<T>> pooled = records;
+            if (pooled == null) {
+                return generate(index);
+            }
+            List<T> list = pooled.join();
+            return list.get(Math.floorMod(index, list.size()));
+        }
+        
+        private synchronized T generate(int index) {
+            if (onDemand == null) {
+                onDemand = new SeededFaker(0);
+            }
+            onDemand.reseed(mix(SEED, "pool-" + name + "-" + index));
+            return factory.apply(onDemand.faker);
+        }
     }
 }